@@ -27,6 +27,7 @@ import java.lang.reflect.*;
 import java.math.*;
 import java.text.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Helper class to process fields annotated with {@link Parsed}
@@ -35,10 +36,6 @@ import java.util.*;
  */
 public class AnnotationHelper {
 
-	private static AnnotatedElement lastProcessedElement;
-	private static Class<? extends Annotation> lastProcessedAnnotationType;
-	private static Annotation lastAnnotationFound;
-
 	private AnnotationHelper() {
 
 	}
@@ -824,7 +821,16 @@ public class AnnotationHelper {
 	 * @return a map of {@link Field} and the corresponding {@link PropertyWrapper}
 	 */
 	public static Map<Field, PropertyWrapper> getAllFields(Class<?> beanClass) {
+		ClassMetadata metadata = ClassMetadata.of(beanClass);
+		Map<Field, PropertyWrapper> fields = metadata.fields;
+		if (fields == null) {
+			fields = collectFields(beanClass);
+			metadata.fields = fields;
+		}
+		return new LinkedHashMap<Field, PropertyWrapper>(fields);
+	}
 
+	private static Map<Field, PropertyWrapper> collectFields(Class<?> beanClass) {
 		Map<String, PropertyWrapper> properties = new LinkedHashMap<String, PropertyWrapper>();
 		try {
 			for (PropertyWrapper property : BeanHelper.getPropertyDescriptors(beanClass)) {
@@ -870,6 +876,17 @@ public class AnnotationHelper {
 	 * @return a list of {@link Method} with at least one annotation
 	 */
 	public static <A extends Annotation> List<Method> getAnnotatedMethods(Class<?> beanClass, MethodFilter filter, Class<A> annotationType) {
+		ClassMetadata metadata = ClassMetadata.of(beanClass);
+		List<?> key = Arrays.asList(filter, annotationType);
+		List<Method> methods = metadata.methods.get(key);
+		if (methods == null) {
+			methods = collectMethods(beanClass, filter, annotationType);
+			metadata.methods.put(key, methods);
+		}
+		return new ArrayList<Method>(methods);
+	}
+
+	private static <A extends Annotation> List<Method> collectMethods(Class<?> beanClass, MethodFilter filter, Class<A> annotationType) {
 		List<Method> out = new ArrayList<Method>();
 
 		Class clazz = beanClass;
@@ -987,23 +1004,30 @@ public class AnnotationHelper {
 	 *
 	 * @return the annotation associated with the given element, or {@code null} if not found.
 	 */
-	public synchronized static <A extends Annotation> A findAnnotation(AnnotatedElement annotatedElement, Class<A> annotationType) {
+	public static <A extends Annotation> A findAnnotation(AnnotatedElement annotatedElement, Class<A> annotationType) {
 		if (annotatedElement == null || annotationType == null) {
 			return null;
 		}
 
-		if (annotatedElement.equals(lastProcessedElement) && annotationType == lastProcessedAnnotationType) {
-			return (A) lastAnnotationFound;
+		ClassMetadata metadata = ClassMetadata.of(annotatedElement);
+		if (metadata == null) {
+			return resolveAnnotation(annotatedElement, annotationType);
 		}
 
-		lastProcessedElement = annotatedElement;
-		lastProcessedAnnotationType = annotationType;
+		Map<Object, Object> found = metadata.annotationsOf(annotatedElement);
+		Object annotation = found.get(annotationType);
+		if (annotation == null) {
+			annotation = resolveAnnotation(annotatedElement, annotationType);
+			found.put(annotationType, annotation == null ? ClassMetadata.NOT_FOUND : annotation);
+		}
+		return annotation == ClassMetadata.NOT_FOUND ? null : (A) annotation;
+	}
 
+	private synchronized static <A extends Annotation> A resolveAnnotation(AnnotatedElement annotatedElement, Class<A> annotationType) {
 		Stack<Annotation> path = new Stack<Annotation>();
 
 		A annotation = findAnnotation(annotatedElement, annotationType, new HashSet<Annotation>(), path);
 		if (annotation == null || path.isEmpty()) {
-			lastAnnotationFound = annotation;
 			return annotation;
 		}
 
@@ -1053,7 +1077,6 @@ public class AnnotationHelper {
 				}
 			}
 		}
-		lastAnnotationFound = annotation;
 		return annotation;
 	}
 
@@ -1096,8 +1119,8 @@ public class AnnotationHelper {
 	}
 
 
-	private static final Set<Class> javaLangAnnotationTypes = new HashSet<Class>();
-	private static final Set<Class> customAnnotationTypes = new HashSet<Class>();
+	private static final Set<Class> javaLangAnnotationTypes = Collections.newSetFromMap(new ConcurrentHashMap<Class, Boolean>());
+	private static final Set<Class> customAnnotationTypes = Collections.newSetFromMap(new ConcurrentHashMap<Class, Boolean>());
 
 	private static boolean isCustomAnnotation(Annotation annotation) {
 		Class annotationType = annotation.annotationType();
@@ -1125,9 +1148,18 @@ public class AnnotationHelper {
 	 * @return the list of annotation elements applied to the given element, that are also members of the given package.
 	 */
 	public static List<Annotation> findAllAnnotationsInPackage(AnnotatedElement annotatedElement, Package aPackage) {
-		final ArrayList<Annotation> found = new ArrayList<Annotation>();
-		findAllAnnotationsInPackage(annotatedElement, aPackage, found, new HashSet<Annotation>());
-		return found;
+		ClassMetadata metadata = ClassMetadata.of(annotatedElement);
+		Map<Object, Object> cached = metadata == null ? null : metadata.annotationsOf(annotatedElement);
+		List<Annotation> found = cached == null ? null : (List<Annotation>) cached.get(aPackage);
+		if (found == null) {
+			ArrayList<Annotation> tmp = new ArrayList<Annotation>();
+			findAllAnnotationsInPackage(annotatedElement, aPackage, tmp, new HashSet<Annotation>());
+			found = tmp;
+			if (cached != null) {
+				cached.put(aPackage, found);
+			}
+		}
+		return new ArrayList<Annotation>(found);
 	}
 
 	private static void findAllAnnotationsInPackage(AnnotatedElement annotatedElement, Package aPackage, ArrayList<? super Annotation> found, Set<Annotation> visited) {
@@ -86,6 +86,7 @@ public class AnnotationRegistry {
 
 	public static final void reset() {
 		modifiedAnnotations.clear();
+		ClassMetadata.clear();
 	}
 
 	private static class FieldAnnotations {
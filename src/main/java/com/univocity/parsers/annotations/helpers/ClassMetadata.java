@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.annotations.helpers;
+
+import com.univocity.parsers.common.beans.*;
+
+import java.lang.annotation.*;
+import java.lang.ref.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Process-wide cache of the reflective information collected by {@link AnnotationHelper} from a class: its fields,
+ * methods and the annotations found on each of them. This information never changes once a class is loaded, so
+ * it is collected once and shared by every processor created for the same class.
+ *
+ * <p> Classes are held by weak references, and the metadata collected from them by soft references, so the cache
+ * doesn't hold on to memory the JVM needs. The metadata still references the fields, methods and annotations of its class,
+ * and through them the class itself: a cached class (and its class loader) can only be unloaded after the garbage collector
+ * clears the soft reference to its metadata, which only happens when memory is low, or after {@link #clear()} is invoked.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+final class ClassMetadata {
+
+	private static final Map<Class<?>, SoftReference<ClassMetadata>> cache = new WeakHashMap<Class<?>, SoftReference<ClassMetadata>>();
+
+	/**
+	 * Marks lookups that found nothing, as {@code null} can't be stored in the cache.
+	 */
+	static final Object NOT_FOUND = new Object();
+
+	volatile Map<Field, PropertyWrapper> fields;
+	final Map<List<?>, List<Method>> methods = new ConcurrentHashMap<List<?>, List<Method>>();
+	private final ConcurrentMap<AnnotatedElement, Map<Object, Object>> annotations = new ConcurrentHashMap<AnnotatedElement, Map<Object, Object>>();
+
+	private ClassMetadata() {
+	}
+
+	/**
+	 * Returns the metadata cached for a given class
+	 *
+	 * @param type the class whose metadata will be returned
+	 *
+	 * @return the metadata of the given class. Never {@code null}.
+	 */
+	static ClassMetadata of(Class<?> type) {
+		synchronized (cache) {
+			SoftReference<ClassMetadata> reference = cache.get(type);
+			ClassMetadata out = reference == null ? null : reference.get();
+			if (out == null) {
+				out = new ClassMetadata();
+				cache.put(type, new SoftReference<ClassMetadata>(out));
+			}
+			return out;
+		}
+	}
+
+	/**
+	 * Returns the metadata cached for the class that declares a given field or method
+	 *
+	 * @param element a field, method or class
+	 *
+	 * @return the metadata of the class where the element is declared, or {@code null} if the element is of any other type.
+	 */
+	static ClassMetadata of(AnnotatedElement element) {
+		if (element instanceof Field) {
+			return of(((Field) element).getDeclaringClass());
+		} else if (element instanceof Method) {
+			return of(((Method) element).getDeclaringClass());
+		} else if (element instanceof Class) {
+			return of((Class<?>) element);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the cached results of annotation lookups performed on a given element.
+	 *
+	 * @param element a field, method or class declared in the class this metadata belongs to
+	 *
+	 * @return a map of lookup keys (such as the annotation type searched for) to their results.
+	 */
+	Map<Object, Object> annotationsOf(AnnotatedElement element) {
+		Map<Object, Object> out = annotations.get(element);
+		if (out == null) {
+			out = new ConcurrentHashMap<Object, Object>();
+			Map<Object, Object> previous = annotations.putIfAbsent(element, out);
+			if (previous != null) {
+				out = previous;
+			}
+		}
+		return out;
+	}
+
+	/**
+	 * Discards all cached metadata.
+	 */
+	static void clear() {
+		synchronized (cache) {
+			cache.clear();
+		}
+	}
+}
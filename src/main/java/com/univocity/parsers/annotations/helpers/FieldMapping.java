@@ -253,20 +253,26 @@ public class FieldMapping {
 	private void setAccessible() {
 		if (!accessible) {
 			if (target instanceof Field) {
-				final Field field = ((Field) target);
-				if (!field.isAccessible()) {
-					field.setAccessible(true);
-				}
+				setAccessible((Field) target);
 			} else if (target instanceof Method) {
-				final Method method = (Method) target;
-				if (!method.isAccessible()) {
-					method.setAccessible(true);
-				}
+				setAccessible((Method) target);
 			}
+			setAccessible(readMethod);
+			setAccessible(writeMethod);
 			accessible = true;
 		}
 	}
 
+	private static void setAccessible(AccessibleObject member) {
+		if (member != null && !member.isAccessible()) {
+			try {
+				member.setAccessible(true);
+			} catch (RuntimeException e) {
+				//not allowed: access checks will be performed on every invocation.
+			}
+		}
+	}
+
 	/**
 	 * Returns the parent class that contains the mapped field.
 	 *
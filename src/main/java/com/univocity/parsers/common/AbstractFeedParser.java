@@ -0,0 +1,399 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import com.univocity.parsers.common.processor.core.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.charset.*;
+
+/**
+ * The base class for parsers that receive their input in chunks pushed by the caller, instead of pulling characters from a {@link Reader}.
+ * This allows a single thread to parse multiple inputs whose contents become available at different times (e.g. data received from
+ * non-blocking network connections) without blocking while waiting for more data.
+ *
+ * <p> Characters received through the {@code feed} methods are accumulated until one or more complete records are available. Complete records
+ * are then parsed and delivered to the {@link Processor} configured in the parser settings, in the thread that invoked {@code feed}. The content of
+ * an incomplete record is kept until the rest of it is received, or until {@link #endOfInput()} is invoked.
+ *
+ * <p> Before any records are parsed, the beginning of the input is used to run any automatic detection of line separators and format enabled in the
+ * settings, and to extract headers if required. If line separator detection is enabled, records are only considered complete at {@code '\n'} characters
+ * until the line separator is known.
+ *
+ * <p> The {@link ParsingContext} given to the {@link Processor} reports the number of records delivered in {@link ParsingContext#currentRecord()},
+ * and {@code -1} for {@link ParsingContext#currentLine()} and {@link ParsingContext#currentChar()}.
+ *
+ * @param <T> the type of settings used by the parser.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see AbstractParser
+ */
+public abstract class AbstractFeedParser<T extends CommonParserSettings<?>> {
+
+	private static final Charset DEFAULT_ENCODING = Charset.forName("UTF-8");
+
+	protected final T settings;
+	private final Charset encoding;
+	private CharsetDecoder decoder;
+	private ByteBuffer pendingBytes;
+
+	private char[] buffer = new char[1024];
+	private int length;
+	private int scanned;
+	private char[] lineSeparator;
+
+	private T segmentSettings;
+	private AbstractParser<T> parser;
+	private FeedParsingContext context;
+	private Processor<ParsingContext> processor;
+	private ProcessorErrorHandler<ParsingContext> errorHandler;
+	private long recordsToRead;
+	private boolean inputEnded;
+	private boolean ended;
+
+	/**
+	 * Creates a feed parser with the given configuration. Bytes received through {@link #feed(ByteBuffer)} are decoded using UTF-8.
+	 *
+	 * @param settings the parser configuration. The {@link Processor} of this configuration receives the records parsed from the input.
+	 */
+	public AbstractFeedParser(T settings) {
+		this(settings, null);
+	}
+
+	/**
+	 * Creates a feed parser with the given configuration.
+	 *
+	 * @param settings the parser configuration. The {@link Processor} of this configuration receives the records parsed from the input.
+	 * @param encoding the encoding used to decode bytes received through {@link #feed(ByteBuffer)}. If {@code null}, UTF-8 will be used.
+	 */
+	public AbstractFeedParser(T settings, Charset encoding) {
+		if (settings == null) {
+			throw new IllegalArgumentException("Parser settings cannot be null");
+		}
+		this.settings = settings;
+		this.encoding = encoding == null ? DEFAULT_ENCODING : encoding;
+	}
+
+	/**
+	 * Creates a parser for the given settings
+	 *
+	 * @param settings the configuration of the parser
+	 *
+	 * @return a new parser instance
+	 */
+	protected abstract AbstractParser<T> createParser(T settings);
+
+	/**
+	 * Scans characters received from the input to find where complete records end. Every character is scanned only once, in the order received,
+	 * so implementations must keep any state required to identify record boundaries (such as whether a quoted value is open) between invocations.
+	 *
+	 * @param chars         the characters received from the input and not yet parsed.
+	 * @param from          the position of the first character to scan
+	 * @param to            the end of the characters to scan (exclusive)
+	 * @param lineSeparator the line separator of the input, or {@code null} if it is not known yet, in which case records
+	 *                      can only end with a {@code '\n'}.
+	 *
+	 * @return the position after the last record that ends between {@code from} and {@code to}, or {@code -1} if no record ends in that range.
+	 */
+	protected abstract int findRecordEnd(char[] chars, int from, int to, char[] lineSeparator);
+
+	/**
+	 * Adjusts the settings used to parse the input after its first complete records were parsed, with information collected by the parser that
+	 * processed them. By default, the line separator found by that parser is used and line separator detection is disabled.
+	 *
+	 * @param segmentSettings the configuration used to parse the rest of the input.
+	 * @param firstParser     the parser that processed the beginning of the input.
+	 */
+	@SuppressWarnings("unchecked")
+	protected void prepareSegmentSettings(T segmentSettings, AbstractParser<T> firstParser) {
+		char[] lineSeparator = firstParser.getContext().lineSeparator();
+		if (lineSeparator != null && lineSeparator.length > 0 && lineSeparator[0] != '\0') {
+			((Format) segmentSettings.getFormat()).setLineSeparator(lineSeparator);
+			segmentSettings.setLineSeparatorDetectionEnabled(false);
+		}
+	}
+
+	/**
+	 * Receives the next characters of the input. Records completed by these characters are parsed and delivered to the {@link Processor} before
+	 * this method returns.
+	 *
+	 * @param chars the next characters of the input.
+	 */
+	public final void feed(char[] chars) {
+		feed(chars, 0, chars.length);
+	}
+
+	/**
+	 * Receives the next characters of the input. Records completed by these characters are parsed and delivered to the {@link Processor} before
+	 * this method returns.
+	 *
+	 * @param chars  an array with the next characters of the input.
+	 * @param offset the position of the first character to read from the given array
+	 * @param length the number of characters to read from the given array
+	 */
+	public final void feed(char[] chars, int offset, int length) {
+		if (!accepting()) {
+			return;
+		}
+		ensureCapacity(length);
+		System.arraycopy(chars, offset, buffer, this.length, length);
+		this.length += length;
+		received();
+	}
+
+	/**
+	 * Receives the next bytes of the input. All remaining bytes of the given buffer are consumed. Bytes at the end of the buffer that don't
+	 * form a complete character are kept until the next bytes are received. Records completed by these bytes are parsed and delivered to the
+	 * {@link Processor} before this method returns.
+	 *
+	 * @param bytes a buffer with the next bytes of the input.
+	 */
+	public final void feed(ByteBuffer bytes) {
+		if (!accepting()) {
+			bytes.position(bytes.limit());
+			return;
+		}
+		decode(bytes, false);
+		received();
+	}
+
+	/**
+	 * Notifies the parser that all the input has been received. Any pending characters are parsed as the last record of the input,
+	 * and the {@link Processor} is notified that the process ended.
+	 */
+	public final void endOfInput() {
+		if (inputEnded) {
+			return;
+		}
+		inputEnded = true;
+		if (ended) {
+			return;
+		}
+		try {
+			if (decoder != null) {
+				decode(ByteBuffer.allocate(0), true);
+			}
+			parse(length);
+		} finally {
+			end();
+		}
+	}
+
+	/**
+	 * Returns the context of the parsing process, or {@code null} if no records have been parsed yet.
+	 *
+	 * @return the current parsing context.
+	 */
+	public final ParsingContext getContext() {
+		return context;
+	}
+
+	private boolean accepting() {
+		if (inputEnded) {
+			throw new IllegalStateException("Input has already ended");
+		}
+		return !ended;
+	}
+
+	private void ensureCapacity(int additional) {
+		if (length + additional > buffer.length) {
+			char[] tmp = new char[Math.max(buffer.length * 2, length + additional)];
+			System.arraycopy(buffer, 0, tmp, 0, length);
+			buffer = tmp;
+		}
+	}
+
+	private void decode(ByteBuffer bytes, boolean endOfInput) {
+		if (decoder == null) {
+			decoder = encoding.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+		}
+		ByteBuffer in = bytes;
+		if (pendingBytes != null) {
+			in = ByteBuffer.allocate(pendingBytes.remaining() + bytes.remaining());
+			in.put(pendingBytes).put(bytes).flip();
+			pendingBytes = null;
+		}
+
+		ensureCapacity((int) (in.remaining() * decoder.maxCharsPerByte()) + 2);
+		CharBuffer out = CharBuffer.wrap(buffer, length, buffer.length - length);
+		decoder.decode(in, out, endOfInput);
+		if (endOfInput) {
+			decoder.flush(out);
+		}
+		length = out.position();
+
+		if (in.hasRemaining()) {
+			pendingBytes = ByteBuffer.allocate(in.remaining());
+			pendingBytes.put(in).flip();
+		}
+	}
+
+	private void received() {
+		try {
+			int recordEnd = findRecordEnd(buffer, scanned, length, lineSeparator);
+			scanned = length;
+			if (recordEnd > 0) {
+				parse(recordEnd);
+			}
+		} catch (RuntimeException e) {
+			end();
+			throw e;
+		} catch (Error e) {
+			end();
+			throw e;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void parse(int end) {
+		if (context != null && (end == 0 || context.isStopped())) {
+			return;
+		}
+
+		boolean first = context == null;
+		if (first) {
+			if (segmentSettings == null) {
+				settings.autoConfigure();
+				segmentSettings = (T) settings.clone();
+				segmentSettings.setProcessor(NoopProcessor.instance);
+				segmentSettings.setReadInputOnSeparateThread(false);
+				segmentSettings.setNumberOfRecordsToRead(-1);
+				if (!segmentSettings.isLineSeparatorDetectionEnabled()) {
+					lineSeparator = segmentSettings.getFormat().getLineSeparator();
+				}
+
+				processor = settings.getProcessor();
+				errorHandler = settings.getProcessorErrorHandler();
+				recordsToRead = settings.getNumberOfRecordsToRead();
+			}
+			parser = createParser((T) segmentSettings.clone());
+		}
+
+		//reads the entire segment with a single read operation.
+		parser.settings.setInputBufferSize(Math.min(settings.getInputBufferSize(), end + 1));
+		parser.beginParsing(new CharArrayReader(buffer, 0, end));
+		String[] headers = null;
+		try {
+			String[] row = parser.parseNext();
+			if (segmentSettings.getHeaders() == null) {
+				//headers extracted or derived from the first row define how later rows are padded and which fields are selected.
+				headers = parser.getContext().headers();
+			}
+			if (first) {
+				if (row == null && (headers == null || headers.length == 0) && !inputEnded) {
+					//only empty or skipped lines so far: the beginning of the input is parsed again when more records are available.
+					parser.stopParsing();
+					parser = null;
+					return;
+				}
+				context = new FeedParsingContext(parser.getContext());
+				if (processor instanceof DefaultConversionProcessor) {
+					DefaultConversionProcessor conversionProcessor = ((DefaultConversionProcessor) processor);
+					conversionProcessor.errorHandler = errorHandler;
+					conversionProcessor.context = context;
+				}
+				processor.processStarted(context);
+
+				prepareSegmentSettings(segmentSettings, parser);
+			}
+
+			while (!context.isStopped() && row != null) {
+				context.recordCount++;
+				Internal.process(row, processor, context, errorHandler);
+				if (recordsToRead >= 0 && context.recordCount >= recordsToRead) {
+					context.stop();
+				} else {
+					row = parser.parseNext();
+				}
+			}
+		} finally {
+			if (parser != null) {
+				parser.stopParsing();
+			}
+		}
+
+		boolean headersFound = headers != null && headers.length > 0;
+		if (headersFound) {
+			segmentSettings.setHeaders(headers);
+		}
+		if (first) {
+			segmentSettings.setHeaderExtractionEnabled(false);
+			segmentSettings.setNumberOfRowsToSkip(0);
+			if (!segmentSettings.isLineSeparatorDetectionEnabled()) {
+				lineSeparator = segmentSettings.getFormat().getLineSeparator();
+			}
+		}
+		if (first || headersFound) {
+			parser = createParser(segmentSettings);
+		}
+
+		length -= end;
+		scanned -= end;
+		System.arraycopy(buffer, end, buffer, 0, length);
+
+		if (context.isStopped()) {
+			end();
+		}
+	}
+
+	private void end() {
+		if (!ended) {
+			ended = true;
+			length = 0;
+			scanned = 0;
+			pendingBytes = null;
+			if (context != null) {
+				context.stop();
+				processor.processEnded(context);
+			}
+		}
+	}
+
+	private static final class FeedParsingContext extends ParsingContextWrapper {
+		private boolean stopped;
+		long recordCount;
+
+		FeedParsingContext(ParsingContext context) {
+			super(context);
+		}
+
+		@Override
+		public long currentRecord() {
+			return recordCount;
+		}
+
+		@Override
+		public long currentLine() {
+			return -1L;
+		}
+
+		@Override
+		public long currentChar() {
+			return -1L;
+		}
+
+		@Override
+		public void stop() {
+			stopped = true;
+		}
+
+		@Override
+		public boolean isStopped() {
+			return stopped;
+		}
+	}
+}
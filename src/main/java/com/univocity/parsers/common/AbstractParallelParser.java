@@ -0,0 +1,591 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import com.univocity.parsers.common.input.*;
+import com.univocity.parsers.common.iterators.*;
+import com.univocity.parsers.common.processor.core.*;
+import com.univocity.parsers.common.record.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * The base class for parsers that split a single file into chunks that start at record boundaries, and parse each chunk in parallel.
+ *
+ * <p> The {@link Processor} configured in the parser settings receives all records of the file in a single thread (the thread that invoked
+ * one of the {@code parse} methods), so it doesn't need to be thread-safe. Records are delivered in the order they appear in the file by default.
+ * If {@link #setOrderedDelivery(boolean)} is set to {@code false}, records of each chunk are delivered as soon as the chunk is parsed.
+ *
+ * <p> Before the parallel process starts, the beginning of the file is parsed to run any automatic detection of line separators and format
+ * enabled in the settings, and to extract headers if required. Headers are then provided to the parsers of every chunk, and rows to skip are only
+ * skipped from the first chunk. If the file can't be split safely (see {@link #split(File, long, CommonParserSettings, Charset, ExecutorService)}),
+ * it is parsed sequentially.
+ *
+ * <p> Chunk boundaries are speculative: every chunk but the last must end exactly at the end of a record. If the parser of a chunk reaches its end
+ * in the middle of a record, the boundary that follows it is wrong, and the rest of the file, from the start of that chunk, is parsed sequentially.
+ * This is only impossible if records of later chunks were already delivered out of order, or are being iterated with
+ * {@link #iterateChunks(File, Charset)}, in which case parsing fails with an error.
+ *
+ * <p> As chunks are parsed independently, the {@link ParsingContext} given to the {@link Processor} reports the number of records delivered in
+ * {@link ParsingContext#currentRecord()}, and {@code -1} for {@link ParsingContext#currentLine()} and {@link ParsingContext#currentChar()}.
+ * Positions reported by errors are relative to the start of the chunk where the error occurred.
+ *
+ * @param <T> the type of settings used by the parsers of each chunk.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see AbstractParser
+ * @see MappedFileReader
+ */
+public abstract class AbstractParallelParser<T extends CommonParserSettings<?>> {
+
+	/**
+	 * The default number of bytes in each chunk of the file (8 MB)
+	 */
+	public static final long DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+	protected final T settings;
+	private int threadCount = Runtime.getRuntime().availableProcessors();
+	private long chunkSize = DEFAULT_CHUNK_SIZE;
+	private boolean orderedDelivery = true;
+
+	/**
+	 * Creates a parallel parser with the given configuration
+	 *
+	 * @param settings the parser configuration. The {@link Processor} of this configuration receives the records parsed from the input.
+	 */
+	public AbstractParallelParser(T settings) {
+		if (settings == null) {
+			throw new IllegalArgumentException("Parser settings cannot be null");
+		}
+		this.settings = settings;
+	}
+
+	/**
+	 * Returns the number of threads used to parse chunks of the input (defaults to the number of available processors)
+	 *
+	 * @return the number of parsing threads
+	 */
+	public final int getThreadCount() {
+		return threadCount;
+	}
+
+	/**
+	 * Defines the number of threads used to parse chunks of the input (defaults to the number of available processors)
+	 *
+	 * @param threadCount the number of parsing threads
+	 */
+	public final void setThreadCount(int threadCount) {
+		if (threadCount < 1) {
+			throw new IllegalArgumentException("Thread count must be at least 1. Got " + threadCount);
+		}
+		this.threadCount = threadCount;
+	}
+
+	/**
+	 * Returns the approximate number of bytes in each chunk of the input (defaults to {@link #DEFAULT_CHUNK_SIZE}).
+	 * Records of up to two chunks per thread are held in memory while waiting to be delivered to the {@link Processor}.
+	 *
+	 * @return the approximate chunk size, in bytes.
+	 */
+	public final long getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * Defines the approximate number of bytes in each chunk of the input (defaults to {@link #DEFAULT_CHUNK_SIZE}).
+	 * Records of up to two chunks per thread are held in memory while waiting to be delivered to the {@link Processor}.
+	 *
+	 * @param chunkSize the approximate chunk size, in bytes.
+	 */
+	public final void setChunkSize(long chunkSize) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("Chunk size must be positive. Got " + chunkSize);
+		}
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Indicates whether records are delivered to the {@link Processor} in the order they appear in the input (defaults to {@code true}).
+	 * If disabled, the records of each chunk are delivered as soon as the chunk is parsed. Records within each chunk are always delivered in order.
+	 * If a chunk turns out to end in the middle of a record after records of later chunks were delivered, parsing fails with an error.
+	 *
+	 * @return {@code true} if records are delivered in the order of the input, otherwise {@code false}
+	 */
+	public final boolean isOrderedDelivery() {
+		return orderedDelivery;
+	}
+
+	/**
+	 * Defines whether records are delivered to the {@link Processor} in the order they appear in the input (defaults to {@code true}).
+	 * If disabled, the records of each chunk are delivered as soon as the chunk is parsed. Records within each chunk are always delivered in order.
+	 * If a chunk turns out to end in the middle of a record after records of later chunks were delivered, parsing fails with an error.
+	 *
+	 * @param orderedDelivery flag indicating whether records should be delivered in the order of the input
+	 */
+	public final void setOrderedDelivery(boolean orderedDelivery) {
+		this.orderedDelivery = orderedDelivery;
+	}
+
+	/**
+	 * Creates a parser for the given settings
+	 *
+	 * @param settings the configuration of the parser
+	 *
+	 * @return a new parser instance
+	 */
+	protected abstract AbstractParser<T> createParser(T settings);
+
+	/**
+	 * Finds positions of the file where records start, splitting it into chunks that can be parsed independently.
+	 *
+	 * @param file          the file to split
+	 * @param start         the position of the first record in the file
+	 * @param chunkSettings the settings used to parse each chunk, with the format and line separator of the file already determined.
+	 * @param encoding      the encoding of the file
+	 * @param executor      an executor that can be used to scan the file in parallel
+	 *
+	 * @return the start position of each chunk, followed by the length of the file, or {@code null} if the file can't be split safely.
+	 */
+	protected abstract long[] split(File file, long start, T chunkSettings, Charset encoding, ExecutorService executor);
+
+	/**
+	 * Adjusts the settings used to parse each chunk of the input with information collected by the parser that processed the beginning of
+	 * the file. By default, the line separator found by that parser is used and line separator detection is disabled.
+	 *
+	 * @param chunkSettings the configuration used to parse each chunk of the input.
+	 * @param firstParser   the parser that processed the beginning of the file
+	 */
+	@SuppressWarnings("unchecked")
+	protected void prepareChunkSettings(T chunkSettings, AbstractParser<T> firstParser) {
+		char[] lineSeparator = firstParser.getContext().lineSeparator();
+		if (lineSeparator != null && lineSeparator.length > 0 && lineSeparator[0] != '\0') {
+			((Format) chunkSettings.getFormat()).setLineSeparator(lineSeparator);
+			chunkSettings.setLineSeparatorDetectionEnabled(false);
+		}
+	}
+
+	/**
+	 * Parses a file in parallel, using the default encoding of the JVM or the encoding indicated by its BOM.
+	 *
+	 * @param file the input file to be parsed.
+	 */
+	public final void parse(File file) {
+		parse(file, (Charset) null);
+	}
+
+	/**
+	 * Parses a file in parallel.
+	 *
+	 * @param file     the input file to be parsed.
+	 * @param encoding the encoding of the file
+	 */
+	public final void parse(File file, String encoding) {
+		parse(file, encoding == null ? null : Charset.forName(encoding));
+	}
+
+	/**
+	 * Parses a file in parallel.
+	 *
+	 * @param file     the input file to be parsed.
+	 * @param encoding the encoding of the file
+	 */
+	public final void parse(File file, Charset encoding) {
+		ExecutorService executor = newExecutor();
+		try {
+			Chunks chunks = split(file, encoding, executor, threadCount > 1);
+			if (chunks.bounds == null) {
+				createParser(settings).parse(file, chunks.charset);
+				return;
+			}
+			deliver(file, chunks.bounds, chunks.first, chunks.others, encoding, chunks.charset, executor, new ParallelParsingContext(chunks.context));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Splits a file into chunks that start at record boundaries, and provides an {@link IterableResult} for iterating the rows of each chunk.
+	 * Each chunk is parsed by its own parser, so different chunks can be iterated by different threads at the same time. Rows of the first chunk
+	 * come first, followed by the rows of the second chunk, and so on.
+	 *
+	 * <p> The {@link Processor} configured in the parser settings is not used. If the file can't be split safely, a single
+	 * {@link IterableResult} that iterates over the entire file is returned. If the parser of a chunk reaches its end in the middle of a record,
+	 * the chunks were not split at record boundaries and a {@link TextParsingException} is thrown: parse such files with
+	 * {@link #parse(File, Charset)} instead.
+	 *
+	 * <p> With Java 8 or later, the list can be used as the source of a parallel stream of rows, e.g.
+	 * {@code chunks.parallelStream().flatMap(chunk -> StreamSupport.stream(chunk.spliterator(), false))}
+	 *
+	 * @param file     the input file to be parsed.
+	 * @param encoding the encoding of the file, or {@code null} to use the encoding indicated by its BOM or the default encoding of the JVM.
+	 *
+	 * @return an {@link IterableResult} for each chunk of the file, in the order they appear in the file.
+	 */
+	public final List<IterableResult<String[], ParsingContext>> iterateChunks(final File file, Charset encoding) {
+		List<IterableResult<String[], ParsingContext>> out = new ArrayList<IterableResult<String[], ParsingContext>>();
+		final Chunks chunks = splitForIteration(file, encoding);
+		for (int i = 0; i < chunks.count(); i++) {
+			final int chunk = i;
+			out.add(new RowIterator(chunks.createParser(chunk)) {
+				@Override
+				protected void beginParsing() {
+					parser.beginParsing(chunks.createReader(file, chunk));
+				}
+			});
+		}
+		return out;
+	}
+
+	/**
+	 * Splits a file into chunks that start at record boundaries, and provides an {@link IterableResult} for iterating the records of each chunk.
+	 * Each chunk is parsed by its own parser, so different chunks can be iterated by different threads at the same time. Records of the first chunk
+	 * come first, followed by the records of the second chunk, and so on.
+	 *
+	 * <p> The {@link Processor} configured in the parser settings is not used. If the file can't be split safely, a single
+	 * {@link IterableResult} that iterates over the entire file is returned. If the parser of a chunk reaches its end in the middle of a record,
+	 * the chunks were not split at record boundaries and a {@link TextParsingException} is thrown: parse such files with
+	 * {@link #parse(File, Charset)} instead.
+	 *
+	 * @param file     the input file to be parsed.
+	 * @param encoding the encoding of the file, or {@code null} to use the encoding indicated by its BOM or the default encoding of the JVM.
+	 *
+	 * @return an {@link IterableResult} for each chunk of the file, in the order they appear in the file.
+	 */
+	public final List<IterableResult<Record, ParsingContext>> iterateRecordChunks(final File file, Charset encoding) {
+		List<IterableResult<Record, ParsingContext>> out = new ArrayList<IterableResult<Record, ParsingContext>>();
+		final Chunks chunks = splitForIteration(file, encoding);
+		for (int i = 0; i < chunks.count(); i++) {
+			final int chunk = i;
+			out.add(new RecordIterator(chunks.createParser(chunk)) {
+				@Override
+				protected void beginParsing() {
+					parser.beginParsing(chunks.createReader(file, chunk));
+				}
+			});
+		}
+		return out;
+	}
+
+	private Chunks splitForIteration(File file, Charset encoding) {
+		ExecutorService executor = newExecutor();
+		try {
+			return split(file, encoding, executor, true);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private ExecutorService newExecutor() {
+		return Executors.newFixedThreadPool(threadCount, new ThreadFactory() {
+			private final AtomicInteger count = new AtomicInteger();
+
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, "unVocity-parsers parallel parsing thread " + count.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private Chunks split(File file, Charset encoding, ExecutorService executor, boolean splitFile) {
+		if (file == null) {
+			throw new IllegalArgumentException("Input file cannot be null");
+		}
+		settings.autoConfigure();
+
+		T base = (T) settings.clone();
+		base.setProcessor(NoopProcessor.instance);
+		base.setReadInputOnSeparateThread(false);
+		base.setNumberOfRecordsToRead(-1);
+		base.setRowArrayReuseEnabled(false);
+		base.setAutoClosingEnabled(true);
+
+		MappedFileReader reader = new MappedFileReader(file, encoding);
+		AbstractParser<T> firstParser = createParser((T) base.clone());
+		String[] headers;
+		Chunks out = new Chunks();
+		out.encoding = encoding;
+		try {
+			firstParser.beginParsing(reader);
+			headers = settings.isHeaderExtractionEnabled() ? firstParser.getContext().headers() : null;
+			out.charset = reader.getCharset();
+			out.context = firstParser.getContext();
+			prepareChunkSettings(base, firstParser);
+		} finally {
+			firstParser.stopParsing();
+		}
+
+		out.first = base;
+		out.bounds = splitFile ? split(file, 0L, base, out.charset, executor) : null;
+		if (out.bounds != null) {
+			out.others = (T) base.clone();
+			out.others.setHeaderExtractionEnabled(false);
+			out.others.setNumberOfRowsToSkip(0);
+			if (headers != null) {
+				out.others.setHeaders(headers);
+			}
+		}
+		return out;
+	}
+
+	private final class Chunks {
+		T first;
+		T others;
+		long[] bounds;
+		Charset encoding;
+		Charset charset;
+		ParsingContext context;
+
+		int count() {
+			return bounds == null ? 1 : bounds.length - 1;
+		}
+
+		@SuppressWarnings("unchecked")
+		AbstractParser<T> createParser(int chunk) {
+			AbstractParser<T> parser = AbstractParallelParser.this.createParser((T) (chunk == 0 ? first : others).clone());
+			parser.requireRecordEnd = chunk < count() - 1;
+			return parser;
+		}
+
+		Reader createReader(File file, int chunk) {
+			if (bounds == null) {
+				return new MappedFileReader(file, encoding);
+			}
+			long length = bounds[chunk + 1] - bounds[chunk];
+			int windowSize = (int) Math.max(4, Math.min(MappedFileReader.DEFAULT_WINDOW_SIZE, length));
+			return new MappedFileReader(file, chunk == 0 ? encoding : charset, bounds[chunk], length, windowSize);
+		}
+	}
+
+	private void deliver(File file, long[] chunks, T firstChunk, T otherChunks, Charset firstEncoding, Charset encoding, ExecutorService executor, ParallelParsingContext context) {
+		Processor<ParsingContext> processor = settings.getProcessor();
+		ProcessorErrorHandler<ParsingContext> errorHandler = settings.getProcessorErrorHandler();
+		if (processor instanceof DefaultConversionProcessor) {
+			DefaultConversionProcessor conversionProcessor = ((DefaultConversionProcessor) processor);
+			conversionProcessor.errorHandler = errorHandler;
+			conversionProcessor.context = context;
+		}
+
+		long recordsToRead = settings.getNumberOfRecordsToRead();
+		int chunkCount = chunks.length - 1;
+		int maxPending = threadCount * 2;
+		int submitted = 0;
+		int delivered = 0;
+		int verified = 0; //chunks before this one were delivered in order and ended at record boundaries.
+		boolean[] done = new boolean[chunkCount];
+
+		LinkedList<Future<ParsedChunk>> pending = new LinkedList<Future<ParsedChunk>>();
+		CompletionService<ParsedChunk> completion = orderedDelivery ? null : new ExecutorCompletionService<ParsedChunk>(executor);
+
+		processor.processStarted(context);
+		try {
+			while (delivered < chunkCount && !context.isStopped()) {
+				while (submitted < chunkCount && submitted - delivered < maxPending) {
+					Callable<ParsedChunk> task = new ChunkParser(file, submitted, chunks[submitted], chunks[submitted + 1], submitted == 0 ? firstChunk : otherChunks, submitted == 0 ? firstEncoding : encoding, submitted < chunkCount - 1, context);
+					pending.add(completion == null ? executor.submit(task) : completion.submit(task));
+					submitted++;
+				}
+
+				Future<ParsedChunk> next;
+				if (completion == null) {
+					next = pending.removeFirst();
+				} else {
+					next = completion.take();
+					pending.remove(next);
+				}
+				ParsedChunk chunk = getChunk(next);
+
+				if (chunk.rows == null) {
+					if (delivered > verified) {
+						throw new IllegalStateException("Chunk " + (chunk.index + 1) + " of input file '" + file.getAbsolutePath() + "' does not end at a record boundary, " +
+								"and records parsed after it were already delivered. Enable ordered delivery to parse this file.");
+					}
+					//the chunks after this one don't start at record boundaries: the rest of the file, from the first chunk not delivered, is parsed sequentially.
+					for (Future<ParsedChunk> future : pending) {
+						future.cancel(true);
+					}
+					pending.clear();
+					parseSequentially(file, chunks[verified], chunks[chunkCount], verified == 0 ? firstChunk : otherChunks, verified == 0 ? firstEncoding : encoding, processor, errorHandler, context, recordsToRead);
+					break;
+				}
+				delivered++;
+				done[chunk.index] = true;
+				while (verified < chunkCount && done[verified]) {
+					verified++;
+				}
+
+				for (String[] row : chunk.rows) {
+					if (context.isStopped()) {
+						break;
+					}
+					process(row, processor, errorHandler, context, recordsToRead);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			context.stop();
+		} finally {
+			for (Future<ParsedChunk> future : pending) {
+				future.cancel(true);
+			}
+			processor.processEnded(context);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void parseSequentially(File file, long start, long end, T chunkSettings, Charset encoding, Processor<ParsingContext> processor, ProcessorErrorHandler<ParsingContext> errorHandler, ParallelParsingContext context, long recordsToRead) {
+		long length = end - start;
+		int windowSize = (int) Math.max(4, Math.min(MappedFileReader.DEFAULT_WINDOW_SIZE, length));
+
+		AbstractParser<T> parser = createParser((T) chunkSettings.clone());
+		parser.beginParsing(new MappedFileReader(file, encoding, start, length, windowSize));
+		try {
+			String[] row;
+			while (!context.isStopped() && (row = parser.parseNext()) != null) {
+				process(row, processor, errorHandler, context, recordsToRead);
+			}
+		} finally {
+			parser.stopParsing();
+		}
+	}
+
+	private void process(String[] row, Processor<ParsingContext> processor, ProcessorErrorHandler<ParsingContext> errorHandler, ParallelParsingContext context, long recordsToRead) {
+		context.recordCount++;
+		Internal.process(row, processor, context, errorHandler);
+		if (recordsToRead >= 0 && context.recordCount >= recordsToRead) {
+			context.stop();
+		}
+	}
+
+	private ParsedChunk getChunk(Future<ParsedChunk> future) throws InterruptedException {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IllegalStateException("Error parsing input in parallel", cause);
+		}
+	}
+
+	private static final class ParsedChunk {
+		final int index;
+		/**
+		 * The rows of the chunk, or {@code null} if the chunk is followed by another and its parser reached its end in the middle of a record,
+		 * i.e. the boundary between them is wrong.
+		 */
+		final List<String[]> rows;
+
+		ParsedChunk(int index, List<String[]> rows) {
+			this.index = index;
+			this.rows = rows;
+		}
+	}
+
+	private final class ChunkParser implements Callable<ParsedChunk> {
+		private final File file;
+		private final int index;
+		private final long start;
+		private final long end;
+		private final T settings;
+		private final Charset encoding;
+		private final boolean verifyEnd;
+		private final ParallelParsingContext context;
+
+		ChunkParser(File file, int index, long start, long end, T settings, Charset encoding, boolean verifyEnd, ParallelParsingContext context) {
+			this.file = file;
+			this.index = index;
+			this.start = start;
+			this.end = end;
+			this.settings = settings;
+			this.encoding = encoding;
+			this.verifyEnd = verifyEnd;
+			this.context = context;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public ParsedChunk call() {
+			List<String[]> rows = new ArrayList<String[]>();
+			if (context.isStopped()) {
+				return new ParsedChunk(index, rows);
+			}
+			long length = end - start;
+			int windowSize = (int) Math.max(4, Math.min(MappedFileReader.DEFAULT_WINDOW_SIZE, length));
+
+			AbstractParser<T> parser = createParser((T) settings.clone());
+			parser.beginParsing(new MappedFileReader(file, encoding, start, length, windowSize));
+			try {
+				String[] row;
+				while ((row = parser.parseNext()) != null) {
+					rows.add(row);
+					if (context.isStopped()) {
+						break;
+					}
+				}
+				if (verifyEnd && parser.inputEndedWithinRecord && !context.isStopped()) {
+					rows = null;
+				}
+			} finally {
+				parser.stopParsing();
+			}
+			return new ParsedChunk(index, rows);
+		}
+	}
+
+	private static final class ParallelParsingContext extends ParsingContextWrapper {
+		private volatile boolean stopped;
+		long recordCount;
+
+		ParallelParsingContext(ParsingContext context) {
+			super(context);
+		}
+
+		@Override
+		public long currentRecord() {
+			return recordCount;
+		}
+
+		@Override
+		public long currentLine() {
+			return -1L;
+		}
+
+		@Override
+		public long currentChar() {
+			return -1L;
+		}
+
+		@Override
+		public void stop() {
+			stopped = true;
+		}
+
+		@Override
+		public boolean isStopped() {
+			return stopped;
+		}
+	}
+}
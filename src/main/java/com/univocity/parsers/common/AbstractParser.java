@@ -76,6 +76,9 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	protected boolean ignoreLeadingWhitespace;
 
 	private final boolean processComments;
+	private final boolean reuseRowArrays;
+	boolean inputEndedWithinRecord; //true when the end of the input interrupted a record not terminated by a line separator.
+	boolean requireRecordEnd; //fails if the input ends in the middle of a record, e.g. a chunk of a file parsed in parallel not split at a record boundary.
 
 	/**
 	 * All parsers must support, at the very least, the settings provided by {@link CommonParserSettings}. The AbstractParser requires its configuration to be
@@ -98,6 +101,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 		this.collectComments = settings.isCommentCollectionEnabled();
 		this.collectEmptyComments = settings.isBlankCommentCollectionEnabled();
 		this.comments = collectComments ? new TreeMap<Long, String>() : Collections.<Long, String>emptyMap();
+		this.reuseRowArrays = settings.isRowArrayReuseEnabled();
 		this.extractHeaders = settings.isHeaderExtractionEnabled();
 		this.whitespaceRangeStart = settings.getWhitespaceRangeStart();
 		this.processComments = settings.isCommentProcessingEnabled();
@@ -128,6 +132,9 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 */
 	public final void parse(Reader reader) {
 		beginParsing(reader);
+		if (processor instanceof CharSequenceRowProcessor) {
+			output.enableViews();
+		}
 		try {
 			while (!context.isStopped()) {
 				input.markRecordStart();
@@ -141,7 +148,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 					parseRecord();
 				}
 
-				String[] row = output.rowParsed();
+				CharSequence[] row = output.rowParsedAsViews();
 				if (row != null) {
 					if (recordsToRead >= 0 && context.currentRecord() >= recordsToRead) {
 						context.stop();
@@ -210,8 +217,15 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 		return false;
 	}
 
+	private void endedWithinRecord() {
+		inputEndedWithinRecord = true;
+		if (requireRecordEnd) {
+			throw new IllegalStateException("Input ended in the middle of a record. The chunk of the file being parsed does not end at a record boundary.");
+		}
+	}
+
 	private String[] handleEOF() {
-		String[] row = null;
+		CharSequence[] row = null;
 		try {
 			boolean consumeValueOnEOF = consumeValueOnEOF();
 			if (output.column != 0 || (consumeValueOnEOF && !context.isStopped())) {
@@ -220,14 +234,16 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 				} else if (input.currentParsedContentLength() > 0) {
 					output.emptyParsed();
 				}
-				row = output.rowParsed();
+				row = output.rowParsedAsViews();
+				endedWithinRecord();
 			} else if (output.appender.length() > 0 || input.currentParsedContentLength() > 0) {
 				if (output.appender.length() == 0) {
 					output.emptyParsed();
 				} else {
 					output.valueParsed();
 				}
-				row = output.rowParsed();
+				row = output.rowParsedAsViews();
+				endedWithinRecord();
 			} else if (!output.pendingRecords.isEmpty()) {
 				row = output.pendingRecords.poll();
 			}
@@ -237,7 +253,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 		if (row != null && processor != NoopProcessor.instance) {
 			rowProcessed(row);
 		}
-		return row;
+		return row instanceof String[] ? (String[]) row : null;
 	}
 
 	/**
@@ -249,9 +265,12 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 */
 	public final void beginParsing(Reader reader) {
 		output.reset();
+		inputEndedWithinRecord = false;
 
 		if (reader instanceof LineReader) {
 			input = new DefaultCharInputReader(settings.getFormat().getLineSeparator(), settings.getFormat().getNormalizedNewline(), settings.getInputBufferSize(), whitespaceRangeStart, true);
+		} else if (reader instanceof MappedFileReader) {
+			input = settings.newMappedCharInputReader(whitespaceRangeStart);
 		} else {
 			input = settings.newCharInputReader(whitespaceRangeStart);
 		}
@@ -552,7 +571,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 
 		String[] row;
 		while ((row = parseNext()) != null) {
-			out.add(row);
+			out.add(retain(row));
 		}
 		return out;
 	}
@@ -572,46 +591,65 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 */
 	public final String[] parseNext() {
 		try {
-			while (!context.isStopped()) {
-				input.markRecordStart();
-				ch = input.nextChar();
-				if (processComments && inComment()) {
-					processComment();
-					continue;
-				}
-				if (output.pendingRecords.isEmpty()) {
-					parseRecord();
-				}
-				String[] row = output.rowParsed();
-				if (row != null) {
-					if (recordsToRead >= 0 && context.currentRecord() >= recordsToRead) {
-						context.stop();
-						if (recordsToRead == 0L) {
-							stopParsing();
-							return null;
-						}
-					}
-					if (processor != NoopProcessor.instance) {
-						rowProcessed(row);
-					}
-					return row;
-				} else if (extractingHeaders) {
-					return null;
-				}
-			}
-
-			if (output.column != 0) {
-				return output.rowParsed();
-			}
-			stopParsing();
-			return null;
+			return parseNextRow();
 		} catch (EOFException ex) {
 			String[] row = handleEOF();
 			if (output.pendingRecords.isEmpty()) {
 				stopParsing();
 			}
 			return row;
-		} catch (NullPointerException ex) {
+		} catch (Throwable ex) {
+			handleParsingError(ex);
+		}
+		return null;
+	}
+
+	/**
+	 * Parses the input until a record is produced. Shared by {@link #parseNext()} and {@link #parseNextBatch(String[][])}, which handle
+	 * the end of the input and errors.
+	 *
+	 * @return the next record, or {@code null} if there are no more records to return at this point.
+	 *
+	 * @throws EOFException if the end of the input is reached.
+	 */
+	private String[] parseNextRow() throws EOFException {
+		while (!context.isStopped()) {
+			input.markRecordStart();
+			ch = input.nextChar();
+			if (processComments && inComment()) {
+				processComment();
+				continue;
+			}
+			if (output.pendingRecords.isEmpty()) {
+				parseRecord();
+			}
+			String[] row = output.rowParsed();
+			if (row != null) {
+				if (recordsToRead >= 0 && context.currentRecord() >= recordsToRead) {
+					context.stop();
+					if (recordsToRead == 0L) {
+						stopParsing();
+						return null;
+					}
+				}
+				if (processor != NoopProcessor.instance) {
+					rowProcessed(row);
+				}
+				return row;
+			} else if (extractingHeaders) {
+				return null;
+			}
+		}
+
+		if (output.column != 0) {
+			return output.rowParsed();
+		}
+		stopParsing();
+		return null;
+	}
+
+	private void handleParsingError(Throwable ex) {
+		if (ex instanceof NullPointerException) {
 			if (context == null) {
 				throw new IllegalStateException("Cannot parse without invoking method beginParsing(Reader) first");
 			} else {
@@ -620,14 +658,84 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 				}
 				throw new IllegalStateException("Error parsing next record.", ex);
 			}
-		} catch (Throwable ex) {
-			try {
-				ex = handleException(ex);
-			} finally {
-				stopParsing(ex);
+		}
+		try {
+			ex = handleException(ex);
+		} finally {
+			stopParsing(ex);
+		}
+	}
+
+	/**
+	 * Parses the next records from the input into a batch of rows. Note that {@link AbstractParser#beginParsing(Reader)} must have been invoked once
+	 * before calling this method. Rows are stored from the first position of the given batch, until it is full or the end of the input is reached.
+	 * If the batch already holds an array of the same length as a parsed row at the position the row is stored, the values of the row are copied into
+	 * that array, which allows the same batch to be reused without allocating new rows when {@link CommonParserSettings#isRowArrayReuseEnabled()}
+	 * evaluates to {@code true}.
+	 *
+	 * <p> All resources will be closed automatically at the end of the input or if any error happens while parsing,
+	 * unless {@link CommonParserSettings#isAutoClosingEnabled()} evaluates to {@code false}.
+	 *
+	 * @param batch the array that will receive the rows parsed from the input.
+	 *
+	 * @return the number of rows stored in the batch. If less than the batch length, the end of the input has been reached.
+	 */
+	public final int parseNextBatch(String[][] batch) {
+		final int length = batch.length;
+		int count = 0;
+		String[] row;
+		try {
+			while (count < length && (row = parseNextRow()) != null) {
+				batch[count] = store(batch[count], row);
+				count++;
+			}
+			return count;
+		} catch (EOFException ex) {
+			row = handleEOF();
+			if (row != null) {
+				batch[count] = store(batch[count], row);
+				count++;
 			}
+			if (output.pendingRecords.isEmpty()) {
+				stopParsing();
+				return count;
+			}
+		} catch (Throwable ex) {
+			handleParsingError(ex);
+			return count;
 		}
-		return null;
+		//records still pending after the end of the input
+		while (count < length && (row = parseNext()) != null) {
+			batch[count] = store(batch[count], row);
+			count++;
+		}
+		return count;
+	}
+
+	private String[] store(String[] target, String[] row) {
+		if (target != null && target.length == row.length && target != row) {
+			System.arraycopy(row, 0, target, 0, row.length);
+			return target;
+		}
+		return retain(row);
+	}
+
+	/**
+	 * Parses the next records from the input. Note that {@link AbstractParser#beginParsing(Reader)} must have been invoked once before calling this method.
+	 * All resources will be closed automatically at the end of the input or if any error happens while parsing,
+	 * unless {@link CommonParserSettings#isAutoClosingEnabled()} evaluates to {@code false}.
+	 *
+	 * @param count the maximum number of records to parse.
+	 *
+	 * @return the list of records parsed from the input. If it has less than {@code count} elements, the end of the input has been reached.
+	 */
+	public final List<Record> parseNextRecords(int count) {
+		List<Record> out = new ArrayList<Record>(count);
+		Record record;
+		while (out.size() < count && (record = parseNextRecord()) != null) {
+			out.add(record);
+		}
+		return out;
 	}
 
 	/**
@@ -652,7 +760,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 		if (values == null) {
 			return null;
 		}
-		return context.toRecord(values);
+		return context.toRecord(retain(values));
 	}
 
 
@@ -714,10 +822,41 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 		return null;
 	}
 
+	private Reader newReader(File file, String encoding) {
+		return newReader(file, Charset.forName(encoding));
+	}
+
+	private Reader newReader(File file, Charset encoding) {
+		if (settings.isMemoryMappingEnabled()) {
+			return new MappedFileReader(file, encoding);
+		}
+		return ArgumentUtils.newReader(file, encoding);
+	}
+
+	/**
+	 * Returns a row that can be kept after the next record is parsed, copying it if {@link CommonParserSettings#isRowArrayReuseEnabled()}
+	 * evaluates to {@code true}.
+	 *
+	 * @param row the row returned by the parser
+	 *
+	 * @return the given row, or a copy of it if the parser reuses row arrays.
+	 */
+	private String[] retain(String[] row) {
+		return reuseRowArrays ? row.clone() : row;
+	}
+
 	private void rowProcessed(String[] row) {
 		Internal.process(row, processor, context, errorHandler);
 	}
 
+	private void rowProcessed(CharSequence[] row) {
+		if (output.isViewEnabled()) {
+			Internal.process(row, (CharSequenceRowProcessor) processor, context, errorHandler);
+		} else {
+			Internal.process((String[]) row, processor, context, errorHandler);
+		}
+	}
+
 	/**
 	 * Parses the entirety of a given file and delegates each parsed row to an instance of {@link RowProcessor}, defined by
 	 * {@link CommonParserSettings#getRowProcessor()}.
@@ -725,7 +864,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param file The file to be parsed.
 	 */
 	public final void parse(File file) {
-		parse(ArgumentUtils.newReader(file));
+		parse(newReader(file, (Charset) null));
 	}
 
 	/**
@@ -736,7 +875,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param encoding the encoding of the file
 	 */
 	public final void parse(File file, String encoding) {
-		parse(ArgumentUtils.newReader(file, encoding));
+		parse(newReader(file, encoding));
 	}
 
 	/**
@@ -747,7 +886,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param encoding the encoding of the file
 	 */
 	public final void parse(File file, Charset encoding) {
-		parse(ArgumentUtils.newReader(file, encoding));
+		parse(newReader(file, encoding));
 	}
 
 	/**
@@ -793,7 +932,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param file The file to be parsed.
 	 */
 	public final void beginParsing(File file) {
-		beginParsing(ArgumentUtils.newReader(file));
+		beginParsing(newReader(file, (Charset) null));
 	}
 
 	/**
@@ -805,7 +944,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param encoding the encoding of the file
 	 */
 	public final void beginParsing(File file, String encoding) {
-		beginParsing(ArgumentUtils.newReader(file, encoding));
+		beginParsing(newReader(file, encoding));
 	}
 
 	/**
@@ -817,7 +956,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @param encoding the encoding of the file
 	 */
 	public final void beginParsing(File file, Charset encoding) {
-		beginParsing(ArgumentUtils.newReader(file, encoding));
+		beginParsing(newReader(file, encoding));
 	}
 
 	/**
@@ -868,7 +1007,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<String[]> parseAll(File file, int expectedRowCount) {
-		return parseAll(ArgumentUtils.newReader(file), expectedRowCount);
+		return parseAll(newReader(file, (Charset) null), expectedRowCount);
 	}
 
 	/**
@@ -882,7 +1021,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<String[]> parseAll(File file, String encoding, int expectedRowCount) {
-		return parseAll(ArgumentUtils.newReader(file, encoding), expectedRowCount);
+		return parseAll(newReader(file, encoding), expectedRowCount);
 	}
 
 	/**
@@ -896,7 +1035,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<String[]> parseAll(File file, Charset encoding, int expectedRowCount) {
-		return parseAll(ArgumentUtils.newReader(file, encoding), expectedRowCount);
+		return parseAll(newReader(file, encoding), expectedRowCount);
 	}
 
 	/**
@@ -951,7 +1090,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<String[]> parseAll(File file) {
-		return parseAll(ArgumentUtils.newReader(file));
+		return parseAll(newReader(file, (Charset) null));
 	}
 
 	/**
@@ -963,7 +1102,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<String[]> parseAll(File file, String encoding) {
-		return parseAll(ArgumentUtils.newReader(file, encoding));
+		return parseAll(newReader(file, encoding));
 	}
 
 	/**
@@ -975,7 +1114,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<String[]> parseAll(File file, Charset encoding) {
-		return parseAll(ArgumentUtils.newReader(file, encoding));
+		return parseAll(newReader(file, encoding));
 	}
 
 	/**
@@ -1026,7 +1165,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<Record> parseAllRecords(File file, int expectedRowCount) {
-		return parseAllRecords(ArgumentUtils.newReader(file), expectedRowCount);
+		return parseAllRecords(newReader(file, (Charset) null), expectedRowCount);
 	}
 
 	/**
@@ -1040,7 +1179,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<Record> parseAllRecords(File file, String encoding, int expectedRowCount) {
-		return parseAllRecords(ArgumentUtils.newReader(file, encoding), expectedRowCount);
+		return parseAllRecords(newReader(file, encoding), expectedRowCount);
 	}
 
 	/**
@@ -1054,7 +1193,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<Record> parseAllRecords(File file, Charset encoding, int expectedRowCount) {
-		return parseAllRecords(ArgumentUtils.newReader(file, encoding), expectedRowCount);
+		return parseAllRecords(newReader(file, encoding), expectedRowCount);
 	}
 
 	/**
@@ -1109,7 +1248,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<Record> parseAllRecords(File file) {
-		return parseAllRecords(ArgumentUtils.newReader(file));
+		return parseAllRecords(newReader(file, (Charset) null));
 	}
 
 	/**
@@ -1121,7 +1260,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<Record> parseAllRecords(File file, String encoding) {
-		return parseAllRecords(ArgumentUtils.newReader(file, encoding));
+		return parseAllRecords(newReader(file, encoding));
 	}
 
 	/**
@@ -1133,7 +1272,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	 * @return the list of all records parsed from the file.
 	 */
 	public final List<Record> parseAllRecords(File file, Charset encoding) {
-		return parseAllRecords(ArgumentUtils.newReader(file, encoding));
+		return parseAllRecords(newReader(file, encoding));
 	}
 
 	/**
@@ -1220,7 +1359,7 @@ public abstract class AbstractParser<T extends CommonParserSettings<?>> {
 	public final Record parseNextRecord() {
 		String[] row = this.parseNext();
 		if (row != null) {
-			return context.toRecord(row);
+			return context.toRecord(retain(row));
 		}
 		return null;
 	}
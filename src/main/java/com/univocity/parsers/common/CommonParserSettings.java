@@ -24,6 +24,7 @@ import com.univocity.parsers.common.processor.*;
 import com.univocity.parsers.common.processor.core.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * This is the parent class for all configuration classes used by parsers ({@link AbstractParser})
@@ -41,9 +42,23 @@ import java.util.*;
  * <p>When enabled, a reading thread (in {@code input.concurrent.ConcurrentCharInputReader}) will be started and load characters from the input, while the parser is processing its input buffer.
  * This yields better performance, especially when reading from big input (greater than 100 mb)
  * <p>When disabled, the parsing process will briefly pause so the buffer can be replenished every time it is exhausted (in {@link DefaultCharInputReader} it is not as bad or slow as it sounds, and can even be (slightly) more efficient if your input is small)
+ * <li><b>inputWaitSpinCount <i>(defaults to 1000)</i>:</b> when the input is read on a separate thread, the number of times the parser and the input reading thread
+ * check for each other's progress in a busy loop before parking.</li>
+ * <li><b>inputWaitParkNanos <i>(defaults to 50000)</i>:</b> when the input is read on a separate thread, the number of nanoseconds the parser and the input reading thread
+ * park between checks for each other's progress, once they are done spinning. If {@code 0} or less, the threads yield instead of parking.</li>
+ * <li><b>inputReadingExecutor <i>(defaults to null)</i>:</b> when the input is read on a separate thread, the {@link Executor} that runs the input reading process.
+ * If {@code null}, a new thread is started for every input parsed.</li>
  * <li><b>numberOfRecordsToRead <i>(defaults to -1)</i>:</b> Defines how many (valid) records are to be parsed before the process is stopped. A negative value indicates there's no limit.</li>
  * <li><b>lineSeparatorDetectionEnabled <i>(defaults to false)</i>:</b> Attempts to identify what is the line separator being used in the input.
  * The first row of the input will be read until a sequence of '\r\n', or characters '\r' or '\n' is found. If a match is found, then it will be used as the line separator to use to parse the input</li>
+ * <li><b>memoryMappingEnabled <i>(defaults to false)</i>:</b> indicates whether files given to the parser should be mapped into memory and decoded directly
+ * into the parser's buffer (using a {@link MappedCharInputReader}), instead of being read through an {@link java.io.InputStreamReader}.</li>
+ * <li><b>rowArrayReuseEnabled <i>(defaults to false)</i>:</b> indicates whether the parser should return the same {@code String[]} instance for all
+ * records of the same length, instead of allocating a new array for each record. Rows are only valid until the next record is parsed.</li>
+ * <li><b>dictionaryFields <i>(defaults to none)</i>:</b> the fields, selected by name or position, whose values should be looked up in a small
+ * per-column dictionary, so that repeated values share the same {@code String} instance.</li>
+ * <li><b>dictionaryCardinalityLimit <i>(defaults to 256)</i>:</b> the maximum number of distinct values kept in the dictionary of each field.
+ * Fields with more distinct values than that stop using a dictionary.</li>
  * </ul>
  *
  * @param <F> the format supported by this parser.
@@ -67,6 +82,13 @@ public abstract class CommonParserSettings<F extends Format> extends CommonSetti
 	private boolean blankCommentCollectionEnabled = false;
 	private boolean autoClosingEnabled = true;
 	private boolean commentProcessingEnabled = true;
+	private boolean memoryMappingEnabled = false;
+	private boolean rowArrayReuseEnabled = false;
+	private FieldSelector dictionaryFields;
+	private int dictionaryCardinalityLimit = 256;
+	private int inputWaitSpinCount = ConcurrentCharInputReader.DEFAULT_SPIN_COUNT;
+	private long inputWaitParkNanos = ConcurrentCharInputReader.DEFAULT_PARK_NANOS;
+	private Executor inputReadingExecutor;
 	private List<InputAnalysisProcess> inputAnalysisProcesses = new ArrayList<InputAnalysisProcess>();
 
 	/**
@@ -215,11 +237,14 @@ public abstract class CommonParserSettings<F extends Format> extends CommonSetti
 	 */
 	protected CharInputReader newCharInputReader(int whitespaceRangeStart) {
 		if (readInputOnSeparateThread) {
+			ConcurrentCharInputReader input;
 			if (lineSeparatorDetectionEnabled) {
-				return new ConcurrentCharInputReader(getFormat().getNormalizedNewline(), this.getInputBufferSize(), 10, whitespaceRangeStart, autoClosingEnabled);
+				input = new ConcurrentCharInputReader(getFormat().getNormalizedNewline(), this.getInputBufferSize(), 10, whitespaceRangeStart, autoClosingEnabled, inputWaitSpinCount, inputWaitParkNanos);
 			} else {
-				return new ConcurrentCharInputReader(getFormat().getLineSeparator(), getFormat().getNormalizedNewline(), this.getInputBufferSize(), 10, whitespaceRangeStart, autoClosingEnabled);
+				input = new ConcurrentCharInputReader(getFormat().getLineSeparator(), getFormat().getNormalizedNewline(), this.getInputBufferSize(), 10, whitespaceRangeStart, autoClosingEnabled, inputWaitSpinCount, inputWaitParkNanos);
 			}
+			input.setExecutor(inputReadingExecutor);
+			return input;
 		} else {
 			if (lineSeparatorDetectionEnabled) {
 				return new DefaultCharInputReader(getFormat().getNormalizedNewline(), this.getInputBufferSize(), whitespaceRangeStart, autoClosingEnabled);
@@ -229,6 +254,249 @@ public abstract class CommonParserSettings<F extends Format> extends CommonSetti
 		}
 	}
 
+	/**
+	 * Returns the number of times the parser and the input reading thread check for each other's progress in a busy loop before parking (defaults to 1000).
+	 * <p>Only used when the input is read on a separate thread (i.e. {@link #getReadInputOnSeparateThread()} evaluates to {@code true}).
+	 * Buckets of characters are exchanged between the two threads without locks: while the parser waits for more characters, or the input reading thread
+	 * waits for a bucket to be released by the parser, the waiting thread keeps checking for progress of the other thread. After the given number
+	 * of attempts, the waiting thread parks for {@link #getInputWaitParkNanos()} between each check.
+	 *
+	 * @return the number of busy-spin attempts made before parking.
+	 */
+	public int getInputWaitSpinCount() {
+		return inputWaitSpinCount;
+	}
+
+	/**
+	 * Defines the number of times the parser and the input reading thread check for each other's progress in a busy loop before parking (defaults to 1000).
+	 * <p>Only used when the input is read on a separate thread (i.e. {@link #getReadInputOnSeparateThread()} evaluates to {@code true}).
+	 * Buckets of characters are exchanged between the two threads without locks: while the parser waits for more characters, or the input reading thread
+	 * waits for a bucket to be released by the parser, the waiting thread keeps checking for progress of the other thread. After the given number
+	 * of attempts, the waiting thread parks for {@link #getInputWaitParkNanos()} between each check.
+	 *
+	 * @param inputWaitSpinCount the number of busy-spin attempts made before parking.
+	 */
+	public void setInputWaitSpinCount(int inputWaitSpinCount) {
+		if (inputWaitSpinCount < 0) {
+			throw new IllegalArgumentException("Input wait spin count cannot be negative");
+		}
+		this.inputWaitSpinCount = inputWaitSpinCount;
+	}
+
+	/**
+	 * Returns the number of nanoseconds the parser and the input reading thread park between checks for each other's progress, after
+	 * spinning {@link #getInputWaitSpinCount()} times (defaults to 50000).
+	 * <p>Only used when the input is read on a separate thread (i.e. {@link #getReadInputOnSeparateThread()} evaluates to {@code true}).
+	 * If {@code 0} or less, the waiting thread never parks and yields to other threads between checks instead, keeping both threads busy.
+	 *
+	 * @return the number of nanoseconds to park between checks after spinning.
+	 */
+	public long getInputWaitParkNanos() {
+		return inputWaitParkNanos;
+	}
+
+	/**
+	 * Defines the number of nanoseconds the parser and the input reading thread park between checks for each other's progress, after
+	 * spinning {@link #getInputWaitSpinCount()} times (defaults to 50000).
+	 * <p>Only used when the input is read on a separate thread (i.e. {@link #getReadInputOnSeparateThread()} evaluates to {@code true}).
+	 * If {@code 0} or less, the waiting thread never parks and yields to other threads between checks instead, keeping both threads busy.
+	 *
+	 * @param inputWaitParkNanos the number of nanoseconds to park between checks after spinning.
+	 */
+	public void setInputWaitParkNanos(long inputWaitParkNanos) {
+		this.inputWaitParkNanos = inputWaitParkNanos;
+	}
+
+	/**
+	 * Returns the {@link Executor} used to run the process that reads the input on a separate thread (defaults to {@code null}).
+	 * <p>Only used when {@link #getReadInputOnSeparateThread()} evaluates to {@code true}. If {@code null}, a new thread is started for every input parsed.
+	 *
+	 * @return the executor that runs the input reading process.
+	 */
+	public Executor getInputReadingExecutor() {
+		return inputReadingExecutor;
+	}
+
+	/**
+	 * Defines the {@link Executor} used to run the process that reads the input on a separate thread (defaults to {@code null}).
+	 * <p>Only used when {@link #getReadInputOnSeparateThread()} evaluates to {@code true}. If {@code null}, a new thread is started for every input parsed.
+	 * Use this to avoid creating a thread for each input when parsing many small inputs.
+	 * <p>The executor must run the input reading process promptly, as the parser waits for it. Avoid bounded pools whose threads may all be busy
+	 * parsing, otherwise the parsers will wait forever for input that is never read.
+	 *
+	 * @param inputReadingExecutor the executor that runs the input reading process.
+	 */
+	public void setInputReadingExecutor(Executor inputReadingExecutor) {
+		this.inputReadingExecutor = inputReadingExecutor;
+	}
+
+	/**
+	 * Defines a {@link ThreadFactory} to create the threads used to read the input on a separate thread. This is a shorthand for
+	 * {@link #setInputReadingExecutor(Executor)} with an executor that starts a new thread produced by the given factory for every input.
+	 * <p>On Java 21 or later, use {@link ConcurrentCharInputReader#newVirtualThreadFactory()} to read the input using virtual threads.
+	 *
+	 * @param threadFactory the factory of threads used to read the input. If {@code null}, the parser starts its own threads.
+	 */
+	public void setInputReadingThreadFactory(final ThreadFactory threadFactory) {
+		if (threadFactory == null) {
+			this.inputReadingExecutor = null;
+		} else {
+			this.inputReadingExecutor = new Executor() {
+				@Override
+				public void execute(Runnable command) {
+					threadFactory.newThread(command).start();
+				}
+			};
+		}
+	}
+
+	/**
+	 * An implementation of {@link CharInputReader} which decodes the contents of a memory-mapped file directly into the parser buffer.
+	 * Used by the parser when the input is a {@link java.io.File} and {@link #isMemoryMappingEnabled()} evaluates to {@code true}.
+	 *
+	 * @param whitespaceRangeStart starting range of characters considered to be whitespace.
+	 *
+	 * @return an input reader that decodes characters from a {@link MappedFileReader}
+	 */
+	protected CharInputReader newMappedCharInputReader(int whitespaceRangeStart) {
+		if (lineSeparatorDetectionEnabled) {
+			return new MappedCharInputReader(getFormat().getNormalizedNewline(), this.getInputBufferSize(), whitespaceRangeStart, autoClosingEnabled);
+		} else {
+			return new MappedCharInputReader(getFormat().getLineSeparator(), getFormat().getNormalizedNewline(), this.getInputBufferSize(), whitespaceRangeStart, autoClosingEnabled);
+		}
+	}
+
+	/**
+	 * Indicates whether files provided to the parser should be mapped into memory (defaults to {@code false}).
+	 * <p>When enabled, any {@link java.io.File} given to the parser will be read with a {@link MappedFileReader}, and windows of the mapped file will be decoded
+	 * on demand directly into the parser's buffer. This avoids copying the file contents through an {@link java.io.InputStream} and
+	 * an {@link java.io.InputStreamReader}, which can be significant when processing very large files.
+	 * <p>As the operating system reads ahead the mapped file, the setting {@link #getReadInputOnSeparateThread()} is ignored when parsing files mapped into memory.
+	 * Other types of input ({@link java.io.Reader}, {@link java.io.InputStream}) are not affected by this setting.
+	 *
+	 * @return {@code true} if files should be mapped into memory for parsing, otherwise {@code false}
+	 */
+	public boolean isMemoryMappingEnabled() {
+		return memoryMappingEnabled;
+	}
+
+	/**
+	 * Defines whether files provided to the parser should be mapped into memory (defaults to {@code false}).
+	 * <p>When enabled, any {@link java.io.File} given to the parser will be read with a {@link MappedFileReader}, and windows of the mapped file will be decoded
+	 * on demand directly into the parser's buffer. This avoids copying the file contents through an {@link java.io.InputStream} and
+	 * an {@link java.io.InputStreamReader}, which can be significant when processing very large files.
+	 * <p>As the operating system reads ahead the mapped file, the setting {@link #getReadInputOnSeparateThread()} is ignored when parsing files mapped into memory.
+	 * Other types of input ({@link java.io.Reader}, {@link java.io.InputStream}) are not affected by this setting.
+	 *
+	 * @param memoryMappingEnabled flag indicating whether files should be mapped into memory for parsing
+	 */
+	public void setMemoryMappingEnabled(boolean memoryMappingEnabled) {
+		this.memoryMappingEnabled = memoryMappingEnabled;
+	}
+
+	/**
+	 * Indicates whether the parser reuses the {@code String[]} that holds the values of each record (defaults to {@code false}).
+	 * <p>When enabled, the parser keeps one array for each record length, and the same array is given to {@link RowProcessor#rowProcessed(String[], ParsingContext)}
+	 * and returned by {@code parseNext()} for every record with that length. The contents of the array are <b>only valid until the next record is parsed</b>.
+	 * Copy the array if its values must be kept, and don't use processors that retain rows, such as {@link com.univocity.parsers.common.processor.RowListProcessor},
+	 * or that process them on another thread, such as {@link com.univocity.parsers.common.processor.ConcurrentRowProcessor}.
+	 * <p>Methods that return all rows at once, such as {@code parseAll()} and {@code parseAllRecords()}, as well as {@link com.univocity.parsers.common.record.Record}s
+	 * produced by the parser, hold copies of the reused arrays and are not affected by this setting.
+	 *
+	 * @return {@code true} if the parser should reuse the arrays of values of each record, otherwise {@code false}
+	 */
+	public boolean isRowArrayReuseEnabled() {
+		return rowArrayReuseEnabled;
+	}
+
+	/**
+	 * Defines whether the parser reuses the {@code String[]} that holds the values of each record (defaults to {@code false}).
+	 * <p>When enabled, the parser keeps one array for each record length, and the same array is given to {@link RowProcessor#rowProcessed(String[], ParsingContext)}
+	 * and returned by {@code parseNext()} for every record with that length. The contents of the array are <b>only valid until the next record is parsed</b>.
+	 * Copy the array if its values must be kept, and don't use processors that retain rows, such as {@link com.univocity.parsers.common.processor.RowListProcessor},
+	 * or that process them on another thread, such as {@link com.univocity.parsers.common.processor.ConcurrentRowProcessor}.
+	 * <p>Methods that return all rows at once, such as {@code parseAll()} and {@code parseAllRecords()}, as well as {@link com.univocity.parsers.common.record.Record}s
+	 * produced by the parser, hold copies of the reused arrays and are not affected by this setting.
+	 *
+	 * @param rowArrayReuseEnabled flag indicating whether the parser should reuse the arrays of values of each record
+	 */
+	public void setRowArrayReuseEnabled(boolean rowArrayReuseEnabled) {
+		this.rowArrayReuseEnabled = rowArrayReuseEnabled;
+	}
+
+	/**
+	 * Selects fields, by their names, whose values should be looked up in a dictionary of distinct values while parsing.
+	 * <p>Intended for columns with few distinct values (such as country codes, status or flags). The parser keeps a small dictionary for each
+	 * of these columns, and every occurrence of a value is represented by the same {@code String} instance. The characters of each value are
+	 * looked up in the dictionary before any {@code String} is created, which reduces the garbage produced while parsing as well as the memory
+	 * retained by the rows kept in memory.
+	 * <p>If the number of distinct values of a field exceeds {@link #getDictionaryCardinalityLimit()}, the field stops using a dictionary
+	 * for the rest of the input.
+	 * <p>Fields are matched against the headers of the input, so the headers must be extracted from the input or provided in {@link #setHeaders(String...)}
+	 *
+	 * @param fieldNames the names of the fields whose values should be looked up in a dictionary
+	 *
+	 * @return the (modifiable) set of fields that use a dictionary
+	 */
+	public FieldSet<String> setDictionaryFields(String... fieldNames) {
+		FieldNameSelector out = new FieldNameSelector();
+		out.add(fieldNames);
+		this.dictionaryFields = out;
+		return out;
+	}
+
+	/**
+	 * Selects fields, by their positions in the input, whose values should be looked up in a dictionary of distinct values while parsing.
+	 * <p>Intended for columns with few distinct values (such as country codes, status or flags). The parser keeps a small dictionary for each
+	 * of these columns, and every occurrence of a value is represented by the same {@code String} instance. The characters of each value are
+	 * looked up in the dictionary before any {@code String} is created, which reduces the garbage produced while parsing as well as the memory
+	 * retained by the rows kept in memory.
+	 * <p>If the number of distinct values of a field exceeds {@link #getDictionaryCardinalityLimit()}, the field stops using a dictionary
+	 * for the rest of the input.
+	 *
+	 * @param fieldIndexes the positions of the fields whose values should be looked up in a dictionary
+	 *
+	 * @return the (modifiable) set of fields that use a dictionary
+	 */
+	public FieldSet<Integer> setDictionaryIndexes(Integer... fieldIndexes) {
+		FieldIndexSelector out = new FieldIndexSelector();
+		out.add(fieldIndexes);
+		this.dictionaryFields = out;
+		return out;
+	}
+
+	/**
+	 * Returns the selection of fields whose values should be looked up in a dictionary of distinct values while parsing.
+	 *
+	 * @return the selection of fields that use a dictionary, or {@code null} if no dictionaries should be used.
+	 */
+	FieldSelector getDictionaryFieldSelector() {
+		return dictionaryFields;
+	}
+
+	/**
+	 * Returns the maximum number of distinct values kept in the dictionary of each field selected with {@link #setDictionaryFields(String...)}
+	 * or {@link #setDictionaryIndexes(Integer...)} (defaults to 256). Once a field has more distinct values, it stops using a dictionary.
+	 *
+	 * @return the maximum number of distinct values in the dictionary of a field.
+	 */
+	public int getDictionaryCardinalityLimit() {
+		return dictionaryCardinalityLimit;
+	}
+
+	/**
+	 * Defines the maximum number of distinct values kept in the dictionary of each field selected with {@link #setDictionaryFields(String...)}
+	 * or {@link #setDictionaryIndexes(Integer...)} (defaults to 256). Once a field has more distinct values, it stops using a dictionary.
+	 *
+	 * @param dictionaryCardinalityLimit the maximum number of distinct values in the dictionary of a field.
+	 */
+	public void setDictionaryCardinalityLimit(int dictionaryCardinalityLimit) {
+		if (dictionaryCardinalityLimit <= 0) {
+			throw new IllegalArgumentException("Dictionary cardinality limit must be positive. Got " + dictionaryCardinalityLimit);
+		}
+		this.dictionaryCardinalityLimit = dictionaryCardinalityLimit;
+	}
+
 	/**
 	 * The number of valid records to be parsed before the process is stopped. A negative value indicates there's no limit (defaults to -1).
 	 *
@@ -379,9 +647,16 @@ public abstract class CommonParserSettings<F extends Format> extends CommonSetti
 		out.put("Column reordering enabled", columnReorderingEnabled);
 		out.put("Input buffer size", inputBufferSize);
 		out.put("Input reading on separate thread", readInputOnSeparateThread);
+		out.put("Input wait spin count", inputWaitSpinCount);
+		out.put("Input wait park time (ns)", inputWaitParkNanos);
+		out.put("Input reading executor", inputReadingExecutor == null ? "none" : inputReadingExecutor.getClass().getName());
 		out.put("Number of records to read", numberOfRecordsToRead == -1 ? "all" : numberOfRecordsToRead);
 		out.put("Line separator detection enabled", lineSeparatorDetectionEnabled);
 		out.put("Auto-closing enabled", autoClosingEnabled);
+		out.put("Memory mapping enabled", memoryMappingEnabled);
+		out.put("Row array reuse enabled", rowArrayReuseEnabled);
+		out.put("Dictionary fields", dictionaryFields == null ? "none" : dictionaryFields.describe());
+		out.put("Dictionary cardinality limit", dictionaryCardinalityLimit);
 	}
 
 	private boolean preventReordering() {
@@ -509,6 +784,7 @@ public abstract class CommonParserSettings<F extends Format> extends CommonSetti
 		processor = null;
 		numberOfRecordsToRead = -1L;
 		numberOfRowsToSkip = 0L;
+		dictionaryFields = null;
 	}
 
 	/**
@@ -313,6 +313,18 @@ public abstract class DefaultConversionProcessor implements ConversionProcessor
 		conversionsByType.put(type, conversions);
 	}
 
+	/**
+	 * Copies the conversions defined in another processor using {@link #convertFields(Conversion...)},
+	 * {@link #convertIndexes(Conversion...)}, {@link #convertAll(Conversion...)} and {@link #convertType(Class, Conversion...)}
+	 * into this processor. The {@link Conversion} instances themselves are shared by both processors.
+	 *
+	 * @param source the processor whose conversions will be copied.
+	 */
+	protected final void copyConversions(DefaultConversionProcessor source) {
+		this.conversions = source.conversions == null ? null : source.conversions.clone();
+		this.conversionsByType = source.conversionsByType == null ? null : new HashMap<Class<?>, Conversion[]>(source.conversionsByType);
+	}
+
 	private Object applyTypeConversion(boolean revert, Object input) {
 		if (conversionsByType == null || input == null) {
 			return input;
@@ -15,6 +15,7 @@
  */
 package com.univocity.parsers.common;
 
+import com.univocity.parsers.common.processor.*;
 import com.univocity.parsers.common.processor.core.*;
 
 import java.util.*;
@@ -28,34 +29,53 @@ class Internal {
 	public static final <C extends Context> void process(String[] row, Processor<C> processor, C context, ProcessorErrorHandler<C> errorHandler) {
 		try {
 			processor.rowProcessed(row, context);
-		} catch (DataProcessingException ex) {
-			ex.setContext(context);
+		} catch (Throwable t) {
+			handleError(t, row, processor, context, errorHandler);
+		}
+	}
 
-			if (!ex.isFatal() && !ex.isHandled() && ex.getColumnIndex() > -1 && errorHandler instanceof RetryableErrorHandler) {
-				RetryableErrorHandler retry = ((RetryableErrorHandler) errorHandler);
-				ex.markAsHandled(errorHandler);
-				retry.handleError(ex, row, context);
-				if (!retry.isRecordSkipped()) {
-					try {
-						processor.rowProcessed(row, context);
-						return;
-					} catch (DataProcessingException e) {
-						ex = e;
-					} catch (Throwable t) {
-						throwDataProcessingException(processor, t, row, context.errorContentLength());
-					}
-				}
+	public static final void process(CharSequence[] row, CharSequenceRowProcessor processor, ParsingContext context, ProcessorErrorHandler<ParsingContext> errorHandler) {
+		try {
+			processor.rowProcessed(row, context);
+		} catch (Throwable t) {
+			//views are overwritten by the next record, so the error handler gets the values as Strings.
+			String[] values = new String[row.length];
+			for (int i = 0; i < row.length; i++) {
+				values[i] = row[i] == null ? null : row[i].toString();
 			}
+			handleError(t, values, processor, context, errorHandler);
+		}
+	}
 
-			ex.setErrorContentLength(context.errorContentLength());
-			if (ex.isFatal()) {
-				throw ex;
-			}
-			ex.markAsHandled(errorHandler);
-			errorHandler.handleError(ex, row, context);
-		} catch (Throwable t) {
+	private static final <C extends Context> void handleError(Throwable t, String[] row, Processor<C> processor, C context, ProcessorErrorHandler<C> errorHandler) {
+		if (!(t instanceof DataProcessingException)) {
 			throwDataProcessingException(processor, t, row, context.errorContentLength());
 		}
+		DataProcessingException ex = (DataProcessingException) t;
+		ex.setContext(context);
+
+		if (!ex.isFatal() && !ex.isHandled() && ex.getColumnIndex() > -1 && errorHandler instanceof RetryableErrorHandler) {
+			RetryableErrorHandler retry = ((RetryableErrorHandler) errorHandler);
+			ex.markAsHandled(errorHandler);
+			retry.handleError(ex, row, context);
+			if (!retry.isRecordSkipped()) {
+				try {
+					processor.rowProcessed(row, context);
+					return;
+				} catch (DataProcessingException e) {
+					ex = e;
+				} catch (Throwable e) {
+					throwDataProcessingException(processor, e, row, context.errorContentLength());
+				}
+			}
+		}
+
+		ex.setErrorContentLength(context.errorContentLength());
+		if (ex.isFatal()) {
+			throw ex;
+		}
+		ex.markAsHandled(errorHandler);
+		errorHandler.handleError(ex, row, context);
 	}
 
 	private static final void throwDataProcessingException(Processor processor, Throwable t, String[] row, int errorContentLength) throws DataProcessingException {
@@ -83,6 +83,19 @@ public class ParserOutput {
 	public boolean trim = false;
 	public final Deque<String[]> pendingRecords = new LinkedList<String[]>();
 
+	private final boolean reuseRowArrays;
+	private String[][] rowArrays;
+
+	private ValueDictionary[] dictionaries;
+
+	private boolean viewsRequested;
+	private boolean collectingViews;
+	private CharSequence[] parsedViews;
+	private FieldView[] views;
+	private CharSequence[] viewRow;
+	private char[] viewChars;
+	private int viewLength;
+
 	/**
 	 * Headers parsed from the input when {@link CommonParserSettings#headerExtractionEnabled} is {@code true},
 	 * irrespective of any user-provided headers in {@link CommonParserSettings#getHeaders()}
@@ -126,6 +139,7 @@ public class ParserOutput {
 			initializeHeaders();
 		}
 		this.columnReorderingEnabledSetting = settings.isColumnReorderingEnabled();
+		this.reuseRowArrays = settings.isRowArrayReuseEnabled();
 	}
 
 	protected void initializeHeaders() {
@@ -174,7 +188,35 @@ public class ParserOutput {
 		}
 
 		columnsToExtractInitialized = true;
+		collectingViews = viewsRequested;
 		initializeColumnsToExtract(headers);
+		initializeDictionaries(headers);
+	}
+
+	/**
+	 * Creates a {@link ValueDictionary} for each field selected in {@link CommonParserSettings#setDictionaryFields(String...)} or
+	 * {@link CommonParserSettings#setDictionaryIndexes(Integer...)}.
+	 *
+	 * @param values a sequence of values that represent the headers of the input.
+	 */
+	private void initializeDictionaries(NormalizedString[] values) {
+		dictionaries = null;
+		FieldSelector selector = settings.getDictionaryFieldSelector();
+		if (selector == null) {
+			return;
+		}
+		int[] indexes = selector.getFieldIndexes(values);
+		if (indexes == null) {
+			return;
+		}
+		for (int index : indexes) {
+			if (index >= 0 && index < parsedValues.length) {
+				if (dictionaries == null) {
+					dictionaries = new ValueDictionary[parsedValues.length];
+				}
+				dictionaries[index] = new ValueDictionary(settings.getDictionaryCardinalityLimit());
+			}
+		}
 	}
 
 	/**
@@ -186,6 +228,13 @@ public class ParserOutput {
 		if (!pendingRecords.isEmpty()) {
 			return pendingRecords.poll();
 		}
+		if (collectingViews) {
+			for (int i = 0; i < column; i++) {
+				CharSequence value = parsedViews[i];
+				parsedValues[i] = value == null ? null : value.toString();
+			}
+			viewLength = 0;
+		}
 		// some values were parsed. Let's return them
 		if (column > 0) {
 			// identifies selected columns and headers (in the first non-empty row)
@@ -198,11 +247,11 @@ public class ParserOutput {
 					this.appender = appenders[0];
 					return null;
 				} else if (!columnsReordered && selectedIndexes != null) {
-					String[] out = new String[column];
-					for (int i = 0; i < selectedIndexes.length; i++) {
-						int index = selectedIndexes[i];
-						if (index < column) {
-							out[index] = parsedValues[index];
+					//keeps the same values and length subsequent rows would have: only columns whose appenders were not disabled.
+					String[] out = new String[columnReorderingEnabledSetting || column >= headers.length ? column : headers.length];
+					for (int i = 0; i < column; i++) {
+						if (appenders[i] != NoopCharAppender.getInstance()) {
+							out[i] = parsedValues[i];
 						}
 					}
 					column = 0;
@@ -216,7 +265,7 @@ public class ParserOutput {
 					column = 0;
 					return ArgumentUtils.EMPTY_STRING_ARRAY;
 				}
-				String[] reorderedValues = new String[selectedIndexes.length];
+				String[] reorderedValues = newRow(selectedIndexes.length);
 				for (int i = 0; i < selectedIndexes.length; i++) {
 					int index = selectedIndexes[i];
 					if (index >= column || index == -1) {
@@ -231,8 +280,11 @@ public class ParserOutput {
 			} else {
 				int last = columnReorderingEnabledSetting ? column : column < headers.length ? headers.length : column;
 
-				String[] out = new String[last];
+				String[] out = newRow(last);
 				System.arraycopy(parsedValues, 0, out, 0, column);
+				if (reuseRowArrays && last > column) {
+					Arrays.fill(out, column, last, null);
+				}
 				column = 0;
 				this.appender = appenders[0];
 				return out;
@@ -248,17 +300,179 @@ public class ParserOutput {
 				if (selectedIndexes.length == 0) {
 					return ArgumentUtils.EMPTY_STRING_ARRAY;
 				}
-				String[] out = new String[selectedIndexes.length];
+				String[] out = newRow(selectedIndexes.length);
 				Arrays.fill(out, nullValue);
 				return out;
 			}
 
-			return new String[]{nullValue};
+			String[] out = newRow(1);
+			out[0] = nullValue;
+			return out;
 		}
 		// no values were parsed and we do not care about empty lines.
 		return null;
 	}
 
+	/**
+	 * Gets all values parsed in the current record as {@link CharSequence} views over an internal buffer of this {@code ParserOutput}, if
+	 * {@link #enableViews()} has been invoked. Values parsed as {@code String}s, such as the null and empty values, are returned as they are.
+	 * <p> The views, and the array returned by this method, are reused and overwritten when the next record is parsed.
+	 * <p> Rows parsed before headers and selected fields are initialized (i.e. the first row), and rows pending from previous parsing
+	 * operations, are returned as {@code String[]} by {@link #rowParsed()}.
+	 *
+	 * @return the sequence of parsed values in a record.
+	 */
+	public CharSequence[] rowParsedAsViews() {
+		if (!collectingViews || !pendingRecords.isEmpty() || column == 0) {
+			return rowParsed();
+		}
+
+		currentRecord++;
+		CharSequence[] out;
+		if (columnsReordered) {
+			if (selectedIndexes.length == 0) {
+				column = 0;
+				viewLength = 0;
+				this.appender = appenders[0];
+				return ArgumentUtils.EMPTY_STRING_ARRAY;
+			}
+			out = viewRow(selectedIndexes.length);
+			for (int i = 0; i < selectedIndexes.length; i++) {
+				int index = selectedIndexes[i];
+				if (index >= column || index == -1) {
+					out[i] = nullValue;
+				} else {
+					out[i] = parsedViews[index];
+				}
+			}
+		} else {
+			int last = columnReorderingEnabledSetting ? column : column < headers.length ? headers.length : column;
+			out = viewRow(last);
+			System.arraycopy(parsedViews, 0, out, 0, column);
+			if (last > column) {
+				Arrays.fill(out, column, last, null);
+			}
+		}
+		column = 0;
+		viewLength = 0;
+		this.appender = appenders[0];
+		return out;
+	}
+
+	private CharSequence[] viewRow(int length) {
+		if (viewRow == null || viewRow.length != length) {
+			viewRow = new CharSequence[length];
+		}
+		return viewRow;
+	}
+
+	/**
+	 * Makes {@link #valueParsed()} copy the characters accumulated in the {@link #appender} to an internal buffer instead of creating
+	 * {@code String}s, so records can be obtained with {@link #rowParsedAsViews()}. Remains enabled until the output is reset for a new
+	 * parsing process.
+	 */
+	final void enableViews() {
+		if (parsedViews == null) {
+			parsedViews = new CharSequence[parsedValues.length];
+			views = new FieldView[parsedValues.length];
+			viewChars = new char[1024];
+		}
+		viewsRequested = true;
+		collectingViews = columnsToExtractInitialized;
+	}
+
+	/**
+	 * Indicates whether {@link #enableViews()} has been invoked for the current parsing process, in which case parsers should accumulate
+	 * values in the {@link #appender} instead of creating {@code String}s directly from the input.
+	 *
+	 * @return {@code true} if values of the records parsed are collected as {@link CharSequence} views.
+	 */
+	public final boolean isViewEnabled() {
+		return viewsRequested;
+	}
+
+	/**
+	 * Indicates whether the values at the current column are looked up in a dictionary (see {@link CommonParserSettings#setDictionaryFields(String...)}).
+	 * Parsers should provide the characters of such values with {@link #valueParsed(char[], int, int)} when they are available in the input buffer,
+	 * so no {@code String} is created for values already in the dictionary.
+	 *
+	 * @return {@code true} if values of the current column are looked up in a dictionary.
+	 */
+	public final boolean isDictionaryColumn() {
+		return dictionaries != null && column < dictionaries.length && dictionaries[column] != null;
+	}
+
+	private void dictionaryValueParsed(ValueDictionary dictionary) {
+		String value;
+		int length = appender.length();
+		if (length <= 0) {
+			value = appender.getAndReset();
+		} else {
+			value = dictionary.get(appender.getChars(), 0, length);
+			if (value == null) { //too many distinct values.
+				dictionaries[column] = null;
+				value = appender.getAndReset();
+			} else {
+				appender.reset();
+			}
+		}
+		if (collectingViews) {
+			this.parsedViews[column++] = value;
+		} else {
+			this.parsedValues[column++] = value;
+		}
+	}
+
+	private void viewParsed() {
+		int length = appender.length();
+		if (length <= 0) {
+			parsedViews[column++] = appender.getAndReset();
+			return;
+		}
+		int end = viewLength + length;
+		if (end > viewChars.length) {
+			viewChars = Arrays.copyOf(viewChars, Math.max(end, viewChars.length * 2));
+		}
+		System.arraycopy(appender.getChars(), 0, viewChars, viewLength, length);
+		appender.reset();
+
+		FieldView view = views[column];
+		if (view == null) {
+			view = new FieldView(this);
+			views[column] = view;
+		}
+		view.start = viewLength;
+		view.length = length;
+		viewLength = end;
+		parsedViews[column++] = view;
+	}
+
+	/**
+	 * Returns an array to hold the values of a record with the given length. If {@link CommonParserSettings#isRowArrayReuseEnabled()}
+	 * evaluates to {@code true}, the same instance is returned for all records with the same length.
+	 *
+	 * @param length the number of values in the record
+	 *
+	 * @return an array to be populated with the values of a record.
+	 */
+	private String[] newRow(int length) {
+		if (!reuseRowArrays) {
+			return new String[length];
+		}
+		if (rowArrays == null) {
+			rowArrays = new String[parsedValues.length + 1][];
+		}
+		if (length >= rowArrays.length) {
+			rowArrays = Arrays.copyOf(rowArrays, length + 1);
+		}
+		String[] out = rowArrays[length];
+		if (out == null) {
+			out = new String[length];
+			rowArrays[length] = out;
+		}
+		return out;
+	}
+
 	FieldSelector getFieldSelector() {
 		return settings.getFieldSelector();
 	}
@@ -349,7 +563,11 @@ public class ParserOutput {
 	 * Adds a nullValue (as specified in {@link CommonSettings#getNullValue()}) to the output and prepares the next position in the record to receive more values.
 	 */
 	public void emptyParsed() {
-		this.parsedValues[column++] = nullValue;
+		if (collectingViews) {
+			this.parsedViews[column++] = nullValue;
+		} else {
+			this.parsedValues[column++] = nullValue;
+		}
 		this.appender = appenders[column];
 	}
 
@@ -360,7 +578,43 @@ public class ParserOutput {
 		if (trim) {
 			appender.updateWhitespace();
 		}
-		this.parsedValues[column++] = appender.getAndReset();
+		ValueDictionary dictionary;
+		if (dictionaries != null && (dictionary = dictionaries[column]) != null) {
+			dictionaryValueParsed(dictionary);
+		} else if (collectingViews) {
+			viewParsed();
+		} else {
+			this.parsedValues[column++] = appender.getAndReset();
+		}
+		this.appender = appenders[column];
+	}
+
+	/**
+	 * Adds a non-empty value, given as a range of characters of a buffer, to the output and prepares the next position in the record to receive
+	 * more values. If the current column uses a dictionary, the characters are looked up in it and a {@code String} is only created for values
+	 * that are not in the dictionary yet.
+	 *
+	 * @param chars  the buffer with the characters of the value
+	 * @param from   the position of the first character of the value in the buffer
+	 * @param length the number of characters that compose the value
+	 */
+	public void valueParsed(char[] chars, int from, int length) {
+		String value = null;
+		ValueDictionary dictionary;
+		if (dictionaries != null && (dictionary = dictionaries[column]) != null) {
+			value = dictionary.get(chars, from, length);
+			if (value == null) { //too many distinct values.
+				dictionaries[column] = null;
+			}
+		}
+		if (value == null) {
+			value = new String(chars, from, length);
+		}
+		if (collectingViews) {
+			this.parsedViews[column++] = value;
+		} else {
+			this.parsedValues[column++] = value;
+		}
 		this.appender = appenders[column];
 	}
 
@@ -370,7 +624,20 @@ public class ParserOutput {
 	 * @param value the value to be added to the current record position.
 	 */
 	public void valueParsed(String value) {
-		this.parsedValues[column++] = value;
+		ValueDictionary dictionary;
+		if (dictionaries != null && value != null && (dictionary = dictionaries[column]) != null) {
+			String entry = dictionary.get(value);
+			if (entry == null) { //too many distinct values.
+				dictionaries[column] = null;
+			} else {
+				value = entry;
+			}
+		}
+		if (collectingViews) {
+			this.parsedViews[column++] = value;
+		} else {
+			this.parsedValues[column++] = value;
+		}
 		this.appender = appenders[column];
 	}
 
@@ -388,6 +655,7 @@ public class ParserOutput {
 	 */
 	public final void discardValues() {
 		column = 0;
+		viewLength = 0;
 		this.appender = appenders[0];
 	}
 
@@ -400,5 +668,80 @@ public class ParserOutput {
 		this.column = 0;
 		this.headers = null;
 		this.headerStrings = null;
+		this.viewsRequested = false;
+		this.collectingViews = false;
+		this.dictionaries = null;
+	}
+
+	/**
+	 * A view over the characters of a value stored in the internal buffer of a {@link ParserOutput}. Only valid until the next record is parsed.
+	 * Its {@link #hashCode()} is the same as the hash code of the equivalent {@code String}.
+	 */
+	private static final class FieldView implements CharSequence {
+		private final ParserOutput output;
+		int start;
+		int length;
+
+		FieldView(ParserOutput output) {
+			this.output = output;
+		}
+
+		@Override
+		public int length() {
+			return length;
+		}
+
+		@Override
+		public char charAt(int index) {
+			if (index < 0 || index >= length) {
+				throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+			}
+			return output.viewChars[start + index];
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			if (start < 0 || end > length || start > end) {
+				throw new IndexOutOfBoundsException("Invalid range [" + start + ", " + end + ") for length " + length);
+			}
+			return new String(output.viewChars, this.start + start, end - start);
+		}
+
+		@Override
+		public String toString() {
+			return new String(output.viewChars, start, length);
+		}
+
+		@Override
+		public int hashCode() {
+			char[] chars = output.viewChars;
+			int h = 0;
+			for (int i = start, end = start + length; i < end; i++) {
+				h = 31 * h + chars[i];
+			}
+			return h;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof FieldView)) {
+				return false;
+			}
+			FieldView other = (FieldView) o;
+			if (length != other.length) {
+				return false;
+			}
+			char[] chars = output.viewChars;
+			char[] otherChars = other.output.viewChars;
+			for (int i = 0; i < length; i++) {
+				if (chars[start + i] != otherChars[other.start + i]) {
+					return false;
+				}
+			}
+			return true;
+		}
 	}
 }
@@ -0,0 +1,284 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Publishes the results of an {@link IterableResult} (such as the rows, records or java beans returned by the {@code iterate} methods of
+ * {@link AbstractParser} and {@link com.univocity.parsers.common.routine.AbstractRoutines}) to a single {@link Subscriber}, following
+ * the demand it signals through its {@link Subscription}.
+ *
+ * <p> Input is only parsed when the subscriber requests more results. Requests accumulate, and results are emitted in batches covering the
+ * entire outstanding demand. Results are emitted either in the thread that requested them, or by an {@link Executor} provided in the constructor.
+ * Parsing and emission are never performed by more than one thread at the same time, and requests made from within {@link Subscriber#onNext(Object)}
+ * don't cause recursive emissions.
+ *
+ * <p> The {@link Subscriber} and {@link Subscription} interfaces have the same methods and semantics as their counterparts in the Reactive Streams
+ * specification (and {@code java.util.concurrent.Flow}), so adapting them to any reactive library only requires delegating method calls.
+ * Only errors produced while parsing the input are delivered to {@link Subscriber#onError(Throwable)}. Exceptions thrown by the subscriber
+ * itself cancel its subscription, stopping the parsing process, and are rethrown to the caller of {@link Subscription#request(long)}
+ * (or to the {@link Executor}).
+ *
+ * @param <T> the type of results published
+ * @param <C> the type of context of the parsing process
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see IterableResult
+ */
+public class ResultPublisher<T, C extends Context> {
+
+	/**
+	 * Receives results published by a {@link ResultPublisher}.
+	 *
+	 * @param <T> the type of results received
+	 */
+	public interface Subscriber<T> {
+
+		/**
+		 * Invoked once, before any other method, with the subscription used to request results.
+		 *
+		 * @param subscription the subscription to results of the publisher
+		 */
+		void onSubscribe(Subscription subscription);
+
+		/**
+		 * Invoked with each result published, up to the number of results requested.
+		 *
+		 * @param item the next result
+		 */
+		void onNext(T item);
+
+		/**
+		 * Invoked once if the parsing process fails. No other methods are invoked afterwards.
+		 *
+		 * @param throwable the error that interrupted the parsing process
+		 */
+		void onError(Throwable throwable);
+
+		/**
+		 * Invoked once after all results have been published. No other methods are invoked afterwards.
+		 */
+		void onComplete();
+	}
+
+	/**
+	 * The link between a {@link ResultPublisher} and its {@link Subscriber}.
+	 */
+	public interface Subscription {
+
+		/**
+		 * Requests more results to be published.
+		 *
+		 * @param n the number of additional results to publish. Must be positive.
+		 */
+		void request(long n);
+
+		/**
+		 * Stops the publication of results and the parsing process.
+		 */
+		void cancel();
+	}
+
+	private static final Subscription EMPTY_SUBSCRIPTION = new Subscription() {
+		@Override
+		public void request(long n) {
+		}
+
+		@Override
+		public void cancel() {
+		}
+	};
+
+	private final IterableResult<T, C> result;
+	private final Executor executor;
+	private final AtomicBoolean subscribed = new AtomicBoolean();
+
+	/**
+	 * Creates a publisher of the given results, which will be emitted in the thread that requests them.
+	 *
+	 * @param result the results to publish
+	 */
+	public ResultPublisher(IterableResult<T, C> result) {
+		this(result, null);
+	}
+
+	/**
+	 * Creates a publisher of the given results.
+	 *
+	 * @param result   the results to publish
+	 * @param executor the executor that parses the input and emits results. If {@code null}, results are emitted in the thread that requests them.
+	 */
+	public ResultPublisher(IterableResult<T, C> result, Executor executor) {
+		if (result == null) {
+			throw new IllegalArgumentException("Result to publish cannot be null");
+		}
+		this.result = result;
+		this.executor = executor;
+	}
+
+	/**
+	 * Subscribes to the results of this publisher. Results can only be published to a single subscriber, so subsequent subscribers
+	 * receive an {@link IllegalStateException} through {@link Subscriber#onError(Throwable)}.
+	 *
+	 * @param subscriber the subscriber that will receive the results.
+	 */
+	public void subscribe(Subscriber<? super T> subscriber) {
+		if (subscriber == null) {
+			throw new NullPointerException("Subscriber cannot be null");
+		}
+		if (!subscribed.compareAndSet(false, true)) {
+			subscriber.onSubscribe(EMPTY_SUBSCRIPTION);
+			subscriber.onError(new IllegalStateException("Results can only be published to a single subscriber"));
+			return;
+		}
+		subscriber.onSubscribe(new ResultSubscription(subscriber));
+	}
+
+	private final class ResultSubscription implements Subscription, Runnable {
+		private final Subscriber<? super T> subscriber;
+		private final AtomicLong demand = new AtomicLong();
+		private final AtomicInteger pendingSignals = new AtomicInteger();
+		private volatile boolean cancelled;
+		private volatile Throwable invalidRequest;
+
+		private ResultIterator<T, C> iterator;
+		private boolean done;
+
+		ResultSubscription(Subscriber<? super T> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				invalidRequest = new IllegalArgumentException("Number of results requested must be positive. Got " + n);
+			} else {
+				long current;
+				long updated;
+				do {
+					current = demand.get();
+					updated = current + n;
+					if (updated < 0) {
+						updated = Long.MAX_VALUE;
+					}
+				} while (!demand.compareAndSet(current, updated));
+			}
+			signal();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			signal();
+		}
+
+		private void signal() {
+			if (pendingSignals.getAndIncrement() == 0) {
+				if (executor == null) {
+					run();
+				} else {
+					executor.execute(this);
+				}
+			}
+		}
+
+		@Override
+		public void run() {
+			int signals = 1;
+			do {
+				emit();
+				signals = pendingSignals.addAndGet(-signals);
+			} while (signals != 0);
+		}
+
+		private void emit() {
+			if (done) {
+				return;
+			}
+			if (cancelled) {
+				close();
+				return;
+			}
+			if (invalidRequest != null) {
+				close();
+				subscriber.onError(invalidRequest);
+				return;
+			}
+
+			long requested = demand.get();
+			long emitted = 0;
+			while (emitted < requested) {
+				if (cancelled) {
+					close();
+					return;
+				}
+
+				T next;
+				try {
+					if (iterator == null) {
+						iterator = result.iterator();
+					}
+					if (!iterator.hasNext()) {
+						done = true;
+						break;
+					}
+					next = iterator.next();
+				} catch (Throwable t) {
+					close();
+					subscriber.onError(t);
+					return;
+				}
+
+				try {
+					subscriber.onNext(next);
+				} catch (RuntimeException e) {
+					close();
+					throw e;
+				} catch (Error e) {
+					close();
+					throw e;
+				}
+				emitted++;
+			}
+
+			if (done) {
+				subscriber.onComplete();
+			} else if (requested != Long.MAX_VALUE) {
+				demand.addAndGet(-emitted);
+			}
+		}
+
+		private void close() {
+			done = true;
+			if (iterator != null) {
+				C context = iterator.getContext();
+				if (context != null && !context.isStopped()) {
+					context.stop();
+					try {
+						//lets the parser stop and release the input.
+						if (iterator.hasNext()) {
+							iterator.next();
+						}
+					} catch (RuntimeException e) {
+						//ignore as the process was stopped
+					}
+				}
+			}
+		}
+	}
+}
@@ -18,12 +18,21 @@ package com.univocity.parsers.common;
 import java.lang.ref.*;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 /**
  * A simple cache of values associated with strings. It is built to simply prevent generating the same value over
- * and over again over a short period of time. Once its size limit is reached, the cache will be fully cleared.
- * Do not use this as a general purpose caching solution. This meant for storing values that can be cheaply produced
- * and re-generating them every now and then won't incur in any major performance impact.
+ * and over again over a short period of time. Do not use this as a general purpose caching solution. This meant for
+ * storing values that can be cheaply produced and re-generating them every now and then won't incur in any major
+ * performance impact.
+ *
+ * <p> Entries are distributed among independent stripes to reduce contention between threads. Once a stripe is full,
+ * entries are evicted one at a time following the CLOCK policy: entries read since the last time the clock hand passed
+ * through them get a second chance, and the first entry not read since then is replaced. The memory used by each stripe
+ * grows with the number of entries it holds, not with the size limit.
+ *
+ * <p> The number of hits, misses and evictions is tracked and can be obtained with {@link #getHitCount()},
+ * {@link #getMissCount()} and {@link #getEvictionCount()}.
  *
  * @param <T> the type of entry to be stored in the cache
  */
@@ -31,10 +40,109 @@ public abstract class StringCache<T> {
 
 	private static final int DEFAULT_SIZE_LIMIT = 16384;
 	private static final int DEFAULT_MAX_STRING_LENGTH = 0;
-	private final Map<String, SoftReference<T>> stringCache = new ConcurrentHashMap<String, SoftReference<T>>();
+	private static final int MAX_STRIPES = 16;
+	private static final int MIN_STRIPE_CAPACITY = 64;
+
+	private volatile Stripe<T>[] stripes = createStripes(DEFAULT_SIZE_LIMIT);
 	private int sizeLimit = DEFAULT_SIZE_LIMIT;
 	private int maxStringLength = DEFAULT_MAX_STRING_LENGTH;
 
+	private static final class Entry<T> {
+		final String key;
+		volatile SoftReference<T> value;
+		volatile boolean referenced;
+
+		Entry(String key, SoftReference<T> value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	private static final class Stripe<T> {
+		final Map<String, Entry<T>> entries = new ConcurrentHashMap<String, Entry<T>>();
+		final int capacity;
+		Entry<T>[] clock;
+		int size;
+		int hand;
+
+		final AtomicLong hits = new AtomicLong();
+		final AtomicLong misses = new AtomicLong();
+		final AtomicLong evictions = new AtomicLong();
+
+		@SuppressWarnings("unchecked")
+		Stripe(int capacity) {
+			this.capacity = capacity;
+			clock = new Entry[Math.min(capacity, MIN_STRIPE_CAPACITY)];
+		}
+
+		synchronized void put(String key, SoftReference<T> value) {
+			Entry<T> entry = entries.get(key);
+			if (entry != null) {
+				entry.value = value;
+				return;
+			}
+			add(new Entry<T>(key, value));
+		}
+
+		synchronized void add(Entry<T> entry) {
+			if (size < capacity) {
+				if (size == clock.length) {
+					clock = Arrays.copyOf(clock, (int) Math.min(capacity, clock.length * 2L));
+				}
+				clock[size++] = entry;
+			} else {
+				while (clock[hand].referenced) {
+					clock[hand].referenced = false;
+					hand = (hand + 1) % clock.length;
+				}
+				entries.remove(clock[hand].key);
+				evictions.incrementAndGet();
+				clock[hand] = entry;
+				hand = (hand + 1) % clock.length;
+			}
+			entries.put(entry.key, entry);
+		}
+
+		/**
+		 * Moves the entries of this stripe to the stripes of a cache with a different size limit, starting from the
+		 * entry the clock hand points to, so the oldest entries are evicted first if the new stripes are smaller.
+		 */
+		synchronized void transferTo(StringCache<T> cache) {
+			for (int i = 0; i < size; i++) {
+				Entry<T> entry = clock[(hand + i) % size];
+				cache.stripe(entry.key).add(entry);
+			}
+			Stripe<T> target = cache.stripes[0];
+			target.hits.addAndGet(hits.get());
+			target.misses.addAndGet(misses.get());
+			target.evictions.addAndGet(evictions.get());
+		}
+
+		@SuppressWarnings("unchecked")
+		synchronized void clear() {
+			entries.clear();
+			clock = new Entry[Math.min(capacity, MIN_STRIPE_CAPACITY)];
+			size = 0;
+			hand = 0;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Stripe<T>[] createStripes(int sizeLimit) {
+		int count = Integer.highestOneBit(Math.max(1, Math.min(MAX_STRIPES, sizeLimit / MIN_STRIPE_CAPACITY)));
+		Stripe<T>[] out = new Stripe[count];
+		for (int i = 0; i < count; i++) {
+			out[i] = new Stripe<T>(sizeLimit / count + (i < sizeLimit % count ? 1 : 0));
+		}
+		return out;
+	}
+
+	private Stripe<T> stripe(String input) {
+		Stripe<T>[] stripes = this.stripes;
+		int h = input.hashCode();
+		return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+	}
+
 	/**
 	 * Converts a given string to a value
 	 *
@@ -50,12 +158,12 @@ public abstract class StringCache<T> {
 	 * @return {@code true} if the cache contains (or contained) a value associated with the given key.
 	 */
 	public boolean containsKey(String input) {
-		return stringCache.containsKey(input);
+		return stripe(input).entries.containsKey(input);
 	}
 
 	/**
-	 * Returns the size limit of this string cache. Defaults to 16,384. For simplicity, when
-	 * this limit is reached, the entire cache is cleared.
+	 * Returns the size limit of this string cache. Defaults to 16,384. When this limit is reached,
+	 * entries that haven't been read recently are evicted to make room for new ones.
 	 *
 	 * @return the maximum number of entries that can be stored in this string cache.
 	 */
@@ -64,16 +172,24 @@ public abstract class StringCache<T> {
 	}
 
 	/**
-	 * Defines the size limit of this string cache (16,384 by default). For simplicity, when
-	 * this limit is reached, the entire cache is cleared.
+	 * Defines the size limit of this string cache (16,384 by default). When this limit is reached,
+	 * entries that haven't been read recently are evicted to make room for new ones.
+	 * Entries already in the cache are kept, except for the ones evicted if the new limit is smaller than the current size.
 	 *
 	 * @param sizeLimit the maximum number of entries that can be stored in this string cache.
 	 */
-	public void setSizeLimit(int sizeLimit) {
+	public synchronized void setSizeLimit(int sizeLimit) {
 		if (sizeLimit <= 0) {
 			sizeLimit = DEFAULT_SIZE_LIMIT;
 		}
-		this.sizeLimit = sizeLimit;
+		if (this.sizeLimit != sizeLimit) {
+			Stripe<T>[] previous = this.stripes;
+			this.sizeLimit = sizeLimit;
+			this.stripes = createStripes(sizeLimit);
+			for (Stripe<T> stripe : previous) {
+				stripe.transferTo(this);
+			}
+		}
 	}
 
 	/**
@@ -86,11 +202,7 @@ public abstract class StringCache<T> {
 		if (input == null || input.length() > maxStringLength) {
 			return;
 		}
-		if (stringCache.size() >= sizeLimit) {
-			stringCache.clear();
-		}
-		stringCache.put(input, new SoftReference<T>(value));
-
+		stripe(input).put(input, new SoftReference<T>(value));
 	}
 
 	/**
@@ -104,15 +216,21 @@ public abstract class StringCache<T> {
 		if (input == null || (maxStringLength > 0 && input.length() > maxStringLength)) {
 			return null;
 		}
-		SoftReference<T> ref = stringCache.get(input);
-		T out;
-		if (ref == null || ref.get() == null) {
-			out = process(input);
-			ref = new SoftReference<T>(out);
-			stringCache.put(input, ref);
-		} else {
-			out = ref.get();
+		Stripe<T> stripe = stripe(input);
+		Entry<T> entry = stripe.entries.get(input);
+		if (entry != null) {
+			T out = entry.value.get();
+			if (out != null) {
+				if (!entry.referenced) {
+					entry.referenced = true;
+				}
+				stripe.hits.incrementAndGet();
+				return out;
+			}
 		}
+		stripe.misses.incrementAndGet();
+		T out = process(input);
+		stripe.put(input, new SoftReference<T>(out));
 		return out;
 	}
 
@@ -120,7 +238,73 @@ public abstract class StringCache<T> {
 	 * Removes all entries stored in this cache.
 	 */
 	public void clear() {
-		stringCache.clear();
+		for (Stripe<T> stripe : stripes) {
+			stripe.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of entries currently stored in this cache.
+	 *
+	 * @return the number of entries in this cache.
+	 */
+	public int size() {
+		int size = 0;
+		for (Stripe<T> stripe : stripes) {
+			size += stripe.entries.size();
+		}
+		return size;
+	}
+
+	/**
+	 * Returns the number of calls to {@link #get(String)} that found a value in the cache.
+	 *
+	 * @return the number of cache hits
+	 */
+	public long getHitCount() {
+		long out = 0;
+		for (Stripe<T> stripe : stripes) {
+			out += stripe.hits.get();
+		}
+		return out;
+	}
+
+	/**
+	 * Returns the number of calls to {@link #get(String)} that had to produce a value with {@link #process(String)}, either
+	 * because the value was never stored, was evicted, or was reclaimed by the garbage collector.
+	 *
+	 * @return the number of cache misses
+	 */
+	public long getMissCount() {
+		long out = 0;
+		for (Stripe<T> stripe : stripes) {
+			out += stripe.misses.get();
+		}
+		return out;
+	}
+
+	/**
+	 * Returns the number of entries removed from the cache to make room for new ones after the size limit was reached.
+	 *
+	 * @return the number of evictions
+	 */
+	public long getEvictionCount() {
+		long out = 0;
+		for (Stripe<T> stripe : stripes) {
+			out += stripe.evictions.get();
+		}
+		return out;
+	}
+
+	/**
+	 * Resets the hit, miss and eviction counters of this cache.
+	 */
+	public void resetStatistics() {
+		for (Stripe<T> stripe : stripes) {
+			stripe.hits.set(0);
+			stripe.misses.set(0);
+			stripe.evictions.set(0);
+		}
 	}
 
 	/**
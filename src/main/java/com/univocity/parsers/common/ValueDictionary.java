@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+/**
+ * A small dictionary of the distinct values found in a column, used by {@link ParserOutput} to reuse the same {@code String} instance
+ * for every occurrence of a value, without creating a new {@code String} to find it.
+ *
+ * <p> Values are stored in an open-addressing hash table with linear probing, keyed by their characters. Once the number of distinct values
+ * reaches the cardinality limit, lookups of new values fail and the column is no longer worth a dictionary.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see CommonParserSettings#setDictionaryCardinalityLimit(int)
+ */
+final class ValueDictionary {
+
+	private final int limit;
+	private final int mask;
+	private final String[] values;
+	private final char[][] keys;
+	private final int[] hashes;
+	private int size;
+
+	/**
+	 * Creates a dictionary for up to a given number of distinct values
+	 *
+	 * @param limit the maximum number of distinct values to store
+	 */
+	ValueDictionary(int limit) {
+		this.limit = limit;
+		int capacity = Integer.highestOneBit(Math.max(limit, 2) * 2 - 1) << 1; //keeps the table at most half full
+		this.mask = capacity - 1;
+		this.values = new String[capacity];
+		this.keys = new char[capacity][];
+		this.hashes = new int[capacity];
+	}
+
+	/**
+	 * Returns the {@code String} with the given characters, adding it to the dictionary if it's not there yet.
+	 *
+	 * @param chars  the buffer with the characters of the value
+	 * @param from   the position of the first character of the value in the buffer
+	 * @param length the number of characters that compose the value
+	 *
+	 * @return the dictionary instance of the value, or {@code null} if the value is not in the dictionary and the cardinality limit has been reached.
+	 */
+	String get(char[] chars, int from, int length) {
+		int hash = 0;
+		for (int i = from, end = from + length; i < end; i++) {
+			hash = 31 * hash + chars[i];
+		}
+
+		int slot = (hash ^ (hash >>> 16)) & mask;
+		String value;
+		while ((value = values[slot]) != null) {
+			if (hashes[slot] == hash && matches(keys[slot], chars, from, length)) {
+				return value;
+			}
+			slot = (slot + 1) & mask;
+		}
+
+		if (size >= limit) {
+			return null;
+		}
+		char[] key = new char[length];
+		System.arraycopy(chars, from, key, 0, length);
+		value = new String(key);
+
+		keys[slot] = key;
+		hashes[slot] = hash;
+		values[slot] = value;
+		size++;
+		return value;
+	}
+
+	/**
+	 * Returns the dictionary instance of a given {@code String}, adding it to the dictionary if it's not there yet.
+	 *
+	 * @param string the value to look up
+	 *
+	 * @return the dictionary instance of the value, or {@code null} if the value is not in the dictionary and the cardinality limit has been reached.
+	 */
+	String get(String string) {
+		int hash = string.hashCode();
+		int slot = (hash ^ (hash >>> 16)) & mask;
+		String value;
+		while ((value = values[slot]) != null) {
+			if (hashes[slot] == hash && value.equals(string)) {
+				return value;
+			}
+			slot = (slot + 1) & mask;
+		}
+
+		if (size >= limit) {
+			return null;
+		}
+		keys[slot] = string.toCharArray();
+		hashes[slot] = hash;
+		values[slot] = string;
+		size++;
+		return string;
+	}
+
+	/**
+	 * Returns the number of distinct values stored in this dictionary
+	 *
+	 * @return the number of values in the dictionary
+	 */
+	int size() {
+		return size;
+	}
+
+	private static boolean matches(char[] key, char[] chars, int from, int length) {
+		if (key.length != length) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (key[i] != chars[from + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
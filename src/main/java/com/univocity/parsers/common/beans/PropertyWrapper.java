@@ -49,6 +49,9 @@ public final class PropertyWrapper {
 	public final Method getWriteMethod() {
 		if (writeMethod == null) {
 			writeMethod = (Method) invoke(propertyDescriptor, BeanHelper.PROPERTY_WRITE_METHOD);
+			if (writeMethod == null) {
+				writeMethod = NO_METHOD;
+			}
 		}
 		return writeMethod == NO_METHOD ? null : writeMethod;
 	}
@@ -62,6 +65,9 @@ public final class PropertyWrapper {
 	public final Method getReadMethod() {
 		if (readMethod == null) {
 			readMethod = (Method) invoke(propertyDescriptor, BeanHelper.PROPERTY_READ_METHOD);
+			if (readMethod == null) {
+				readMethod = NO_METHOD;
+			}
 		}
 		return readMethod == NO_METHOD ? null : readMethod;
 	}
@@ -75,6 +81,9 @@ public final class PropertyWrapper {
 	public final String getName() {
 		if (name == null) {
 			name = (String) invoke(propertyDescriptor, BeanHelper.PROPERTY_NAME_METHOD);
+			if (name == null) {
+				name = NO_NAME;
+			}
 		}
 		return name == NO_NAME ? null : name;
 	}
@@ -96,12 +96,14 @@ public class FieldConversionMapping implements Cloneable {
 		//the correct conversion sequence is registered for all fields.
 		conversionsByIndex = new HashMap<Integer, List<Conversion<?, ?>>>();
 
+		NormalizedString[] headers = NormalizedString.toIdentifierGroupArray(values);
+
 		// adds the conversions in the sequence they were created.
 		for (FieldSelector next : conversionSequence) {
-			fieldNameConversionMapping.prepareExecution(writing, next, conversionsByIndex, values);
-			fieldIndexConversionMapping.prepareExecution(writing, next, conversionsByIndex, values);
-			fieldEnumConversionMapping.prepareExecution(writing, next, conversionsByIndex, values);
-			convertAllMapping.prepareExecution(writing, next, conversionsByIndex, values);
+			fieldNameConversionMapping.prepareExecution(writing, next, conversionsByIndex, headers);
+			fieldIndexConversionMapping.prepareExecution(writing, next, conversionsByIndex, headers);
+			fieldEnumConversionMapping.prepareExecution(writing, next, conversionsByIndex, headers);
+			convertAllMapping.prepareExecution(writing, next, conversionsByIndex, headers);
 		}
 
 
@@ -400,10 +402,10 @@ abstract class AbstractConversionMapping<T> implements Cloneable {
 	 * @param writing            flag indicating whether a writing process is being initialized.
 	 * @param selector           the selected fields for a given conversion sequence.
 	 * @param conversionsByIndex map of all conversions registered to every field index, in the order they were declared
-	 * @param values             The field sequence that identifies how records will be organized.
+	 * @param values             The field sequence that identifies how records will be organized, already normalized with {@link NormalizedString#toIdentifierGroupArray(String[])}.
 	 *                           <p> This is generally the sequence of headers in a record, but it might be just the first parsed row from a given input (as field selection by index is allowed).
 	 */
-	public void prepareExecution(boolean writing, FieldSelector selector, Map<Integer, List<Conversion<?, ?>>> conversionsByIndex, String[] values) {
+	public void prepareExecution(boolean writing, FieldSelector selector, Map<Integer, List<Conversion<?, ?>>> conversionsByIndex, NormalizedString[] values) {
 		if (conversionsMap == null) {
 			return;
 		}
@@ -415,7 +417,7 @@ abstract class AbstractConversionMapping<T> implements Cloneable {
 			return;
 		}
 
-		int[] fieldIndexes = selector.getFieldIndexes(NormalizedString.toIdentifierGroupArray(values));
+		int[] fieldIndexes = selector.getFieldIndexes(values);
 		if (fieldIndexes == null) {
 			fieldIndexes = ArgumentUtils.toIntArray(conversionsByIndex.keySet());
 		}
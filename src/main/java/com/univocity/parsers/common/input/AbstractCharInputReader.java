@@ -69,6 +69,7 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 	public int length = -1;
 	private boolean incrementLineCount;
 	private boolean normalizeLineEndings = true;
+	private int valueStart;
 
 	/**
 	 * Creates a new instance that attempts to detect the newlines used in the input automatically.
@@ -437,6 +438,9 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 		if (i == 0) {
 			return false;
 		}
+		final char[] buffer = this.buffer;
+		final int length = this.length;
+		final char lineSeparator1 = this.lineSeparator1;
 		int i = this.i;
 		for (; ch != stop; ch = buffer[i++]) {
 			if (i >= length) {
@@ -454,15 +458,29 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 		return true;
 	}
 
-	@Override
-	public final String getString(char ch, char stop, boolean trim, String nullValue, int maxLength) {
+	/**
+	 * Finds the end of a value that is entirely available in the buffer, from the current position until a stop character or a line ending.
+	 * If the value is found, the current position is updated to the last character of the value and {@link #valueStart} receives the position
+	 * of its first character.
+	 *
+	 * @param ch        the current character to be considered.
+	 * @param stop      the stop character that identifies the end of the value
+	 * @param trim      flag indicating whether or not trailing whitespaces should be discarded
+	 * @param maxLength the maximum length of the value.
+	 *
+	 * @return the length of the value, or {@code -1} if the buffer needs to reloaded or the maximum length has been exceeded.
+	 */
+	private int scanString(char ch, char stop, boolean trim, int maxLength) {
 		if (i == 0) {
-			return null;
+			return -1;
 		}
+		final char[] buffer = this.buffer;
+		final int length = this.length;
+		final char lineSeparator1 = this.lineSeparator1;
 		int i = this.i;
 		for (; ch != stop; ch = buffer[i++]) {
 			if (i >= length) {
-				return null;
+				return -1;
 			}
 			if (lineSeparator1 == ch && (lineSeparator2 == '\0' || lineSeparator2 == buffer[i])) {
 				break;
@@ -472,24 +490,35 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 		int pos = this.i - 1;
 		int len = i - this.i;
 		if (maxLength != -1 && len > maxLength) { //validating before trailing whitespace handling so this behaves as an appender.
-			return null;
+			return -1;
 		}
 
 		this.i = i - 1;
 
 		if (trim) {
 			i = i - 2;
-			while (i >= 0 && buffer[i] <= ' ' && whitespaceRangeStart < buffer[i]) {
+			while (len > 0 && buffer[i] <= ' ' && whitespaceRangeStart < buffer[i]) {
 				len--;
 				i--;
 			}
 		}
 
+		valueStart = pos;
+		return len;
+	}
+
+	@Override
+	public final String getString(char ch, char stop, boolean trim, String nullValue, int maxLength) {
+		int len = scanString(ch, stop, trim, maxLength);
+		if (len == -1) {
+			return null;
+		}
+
 		String out;
-		if (len <= 0) {
+		if (len == 0) {
 			out = nullValue;
 		} else {
-			out = new String(buffer, pos, len);
+			out = new String(buffer, valueStart, len);
 		}
 
 		nextChar();
@@ -497,17 +526,112 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 		return out;
 	}
 
-	@Override
-	public final String getQuotedString(char quote, char escape, char escapeEscape, int maxLength, char stop1, char stop2, boolean keepQuotes, boolean keepEscape, boolean trimLeading, boolean trimTrailing) {
+	/**
+	 * Attempts to collect the characters of a {@code String} from the current position until a stop character is found on the input,
+	 * or a line ending is reached, appending them to a given {@link CharAppender} instead of creating a {@code String}.
+	 * If the characters can be obtained, the current position of the parser will be updated to the last consumed character.
+	 * If the internal buffer needs to be reloaded, this method will return {@code false} and the current position of the buffer will
+	 * remain unchanged.
+	 *
+	 * @param ch        the current character to be considered. If equal to the stop character nothing will be appended
+	 * @param stop      the stop character that identifies the end of the content to be collected
+	 * @param trim      flag indicating whether or not trailing whitespaces should be discarded
+	 * @param maxLength the maximum length of the content to be collected. If the length exceeds this limit, {@code false} will be returned
+	 * @param appender  the appender that receives the characters collected from the input
+	 *
+	 * @return {@code true} if the content was appended, or {@code false} if the buffer needs to reloaded or the maximum length has been exceeded.
+	 * When {@code true} is returned and nothing was appended, the content is empty, exactly as when {@link #getString(char, char, boolean, String, int)}
+	 * returns its {@code nullValue}.
+	 */
+	public final boolean appendString(char ch, char stop, boolean trim, int maxLength, CharAppender appender) {
+		int len = scanString(ch, stop, trim, maxLength);
+		if (len == -1) {
+			return false;
+		}
+
+		if (len > 0) {
+			appender.append(buffer, valueStart, len);
+		}
+
+		nextChar();
+
+		return true;
+	}
+
+	/**
+	 * Attempts to parse a {@code String} from the current position until a stop character is found on the input, or a line ending is reached,
+	 * handing its characters, as a range of the internal buffer, to {@link ParserOutput#valueParsed(char[], int, int)}. This allows the value to be
+	 * looked up in a dictionary without creating a {@code String} first. If the value can be parsed, the current position of the parser will be updated
+	 * to the last consumed character. If the internal buffer needs to be reloaded, this method will return {@code false} and the current position of the
+	 * buffer will remain unchanged.
+	 *
+	 * @param ch        the current character to be considered. If equal to the stop character the {@code nullValue} will be parsed
+	 * @param stop      the stop character that identifies the end of the content to be collected
+	 * @param trim      flag indicating whether or not trailing whitespaces should be discarded
+	 * @param nullValue the value to be parsed when the content is empty
+	 * @param maxLength the maximum length of the content to be collected. If the length exceeds this limit, {@code false} will be returned
+	 * @param output    the output that receives the value
+	 *
+	 * @return {@code true} if the value was parsed, or {@code false} if the buffer needs to reloaded or the maximum length has been exceeded.
+	 */
+	public final boolean parseString(char ch, char stop, boolean trim, String nullValue, int maxLength, ParserOutput output) {
+		int len = scanString(ch, stop, trim, maxLength);
+		if (len == -1) {
+			return false;
+		}
+
+		if (len == 0) {
+			output.valueParsed(nullValue);
+		} else {
+			output.valueParsed(buffer, valueStart, len);
+		}
+
+		nextChar();
+
+		return true;
+	}
+
+	/**
+	 * Finds the end of a quoted value that is entirely available in the buffer. If the value is found, the current position is updated
+	 * to the character after the closing quote and {@link #valueStart} receives the position of the first character of the value.
+	 *
+	 * @param quote        the quote character
+	 * @param escape       the quote escape character
+	 * @param escapeEscape the escape of the quote escape character
+	 * @param maxLength    the maximum length of the value.
+	 * @param stop1        the first stop character that identifies the end of the content to be collected
+	 * @param stop2        the second stop character that identifies the end of the content to be collected
+	 * @param keepQuotes   flag to indicate the quotes that wrap the value should be kept.
+	 * @param keepEscape   flag to indicate that escape sequences should be kept
+	 * @param trimLeading  flag to indicate leading whitespaces should be trimmed
+	 * @param trimTrailing flag to indicate that trailing whitespaces should be trimmed
+	 *
+	 * @return the length of the value, or {@code -1} if the value can't be collected without further processing, or the maximum length has been exceeded.
+	 */
+	private int scanQuotedString(char quote, char escape, char escapeEscape, int maxLength, char stop1, char stop2, boolean keepQuotes, boolean keepEscape, boolean trimLeading, boolean trimTrailing) {
 		if (i == 0) {
-			return null;
+			return -1;
 		}
 
+		final char[] buffer = this.buffer;
+		final int length = this.length;
+		final char lineSeparator1 = normalizeLineEndings ? this.lineSeparator1 : quote;
 		int i = this.i;
 
 		while (true) {
+			//moves past ordinary characters without testing them against each special case below.
+			while (i < length) {
+				char c = buffer[i];
+				if (c == quote || c == escape || c == lineSeparator1) {
+					break;
+				}
+				i++;
+			}
 			if (i >= length) {
-				return null;
+				if (i > this.i) {
+					ch = buffer[i - 1];
+				}
+				return -1;
 			}
 			ch = buffer[i];
 			if (ch == quote) {
@@ -516,7 +640,7 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 						i++;
 						continue;
 					}
-					return null;
+					return -1;
 				}
 				if (i + 1 < length) {
 					char next = buffer[i + 1];
@@ -525,16 +649,16 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 					}
 				}
 
-				return null;
+				return -1;
 			} else if (ch == escape && !keepEscape) {
 				if (i + 1 < length) {
 					char next = buffer[i + 1];
 					if (next == quote || next == escapeEscape) {
-						return null;
+						return -1;
 					}
 				}
-			} else if (lineSeparator1 == ch && normalizeLineEndings && (lineSeparator2 == '\0' || i + 1 < length && lineSeparator2 == buffer[i + 1])) {
-				return null;
+			} else if (lineSeparator1 == ch && (lineSeparator2 == '\0' || i + 1 < length && lineSeparator2 == buffer[i + 1])) {
+				return -1;
 			}
 			i++;
 		}
@@ -542,7 +666,7 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 		int pos = this.i;
 		int len = i - this.i;
 		if (maxLength != -1 && len > maxLength) { //validating before trailing whitespace handling so this behaves as an appender.
-			return null;
+			return -1;
 		}
 
 		if (keepQuotes) {
@@ -564,11 +688,22 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 
 		this.i = i + 1;
 
+		valueStart = pos;
+		return len;
+	}
+
+	@Override
+	public final String getQuotedString(char quote, char escape, char escapeEscape, int maxLength, char stop1, char stop2, boolean keepQuotes, boolean keepEscape, boolean trimLeading, boolean trimTrailing) {
+		int len = scanQuotedString(quote, escape, escapeEscape, maxLength, stop1, stop2, keepQuotes, keepEscape, trimLeading, trimTrailing);
+		if (len == -1) {
+			return null;
+		}
+
 		String out;
-		if (len <= 0) {
+		if (len == 0) {
 			out = "";
 		} else {
-			out = new String(buffer, pos, len);
+			out = new String(buffer, valueStart, len);
 		}
 
 		if (this.i >= length) {
@@ -577,15 +712,104 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 		return out;
 	}
 
+	/**
+	 * Attempts to collect the characters of a quoted {@code String} from the current position until a closing quote or stop character is found
+	 * on the input, or a line ending is reached, appending them to a given {@link CharAppender} instead of creating a {@code String}.
+	 * If the characters can be obtained, the current position of the parser will be updated to the last consumed character.
+	 * If the internal buffer needs to be reloaded, this method will return {@code false} and the current position of the buffer will
+	 * remain unchanged.
+	 *
+	 * @param quote the quote character
+	 * @param escape the quote escape character
+	 * @param escapeEscape the escape of the quote escape character
+	 * @param maxLength the maximum length of the content to be collected. If the length exceeds this limit, {@code false} will be returned
+	 * @param stop1 the first stop character that identifies the end of the content to be collected
+	 * @param stop2 the second stop character that identifies the end of the content to be collected
+	 * @param keepQuotes flag to indicate the quotes that wrap the resulting {@code String} should be kept.
+	 * @param keepEscape flag to indicate that escape sequences should be kept
+	 * @param trimLeading flag to indicate leading whitespaces should be trimmed
+	 * @param trimTrailing flag to indicate that trailing whitespaces should be trimmed
+	 * @param appender the appender that receives the characters collected from the input
+	 * @return {@code true} if the content was appended, or {@code false} if the buffer needs to reloaded or the maximum length has been exceeded.
+	 */
+	public final boolean appendQuotedString(char quote, char escape, char escapeEscape, int maxLength, char stop1, char stop2, boolean keepQuotes, boolean keepEscape, boolean trimLeading, boolean trimTrailing, CharAppender appender) {
+		int len = scanQuotedString(quote, escape, escapeEscape, maxLength, stop1, stop2, keepQuotes, keepEscape, trimLeading, trimTrailing);
+		if (len == -1) {
+			return false;
+		}
+
+		if (len > 0) {
+			appender.append(buffer, valueStart, len);
+		}
+
+		if (this.i >= length) {
+			updateBuffer();
+		}
+		return true;
+	}
+
+	/**
+	 * Attempts to parse a quoted {@code String} from the current position until a closing quote or stop character is found on the input,
+	 * or a line ending is reached, handing its characters, as a range of the internal buffer, to {@link ParserOutput#valueParsed(char[], int, int)}.
+	 * If the value can be parsed, the current position of the parser will be updated to the last consumed character.
+	 * If the internal buffer needs to be reloaded, this method will return {@code false} and the current position of the buffer will
+	 * remain unchanged.
+	 *
+	 * @param quote the quote character
+	 * @param escape the quote escape character
+	 * @param escapeEscape the escape of the quote escape character
+	 * @param maxLength the maximum length of the content to be collected. If the length exceeds this limit, {@code false} will be returned
+	 * @param stop1 the first stop character that identifies the end of the content to be collected
+	 * @param stop2 the second stop character that identifies the end of the content to be collected
+	 * @param keepQuotes flag to indicate the quotes that wrap the resulting {@code String} should be kept.
+	 * @param keepEscape flag to indicate that escape sequences should be kept
+	 * @param trimLeading flag to indicate leading whitespaces should be trimmed
+	 * @param trimTrailing flag to indicate that trailing whitespaces should be trimmed
+	 * @param emptyValue the value to be parsed when the content between quotes is empty
+	 * @param output the output that receives the value
+	 * @return {@code true} if the value was parsed, or {@code false} if the buffer needs to reloaded or the maximum length has been exceeded.
+	 */
+	public final boolean parseQuotedString(char quote, char escape, char escapeEscape, int maxLength, char stop1, char stop2, boolean keepQuotes, boolean keepEscape, boolean trimLeading, boolean trimTrailing, String emptyValue, ParserOutput output) {
+		int len = scanQuotedString(quote, escape, escapeEscape, maxLength, stop1, stop2, keepQuotes, keepEscape, trimLeading, trimTrailing);
+		if (len == -1) {
+			return false;
+		}
+
+		if (len == 0) {
+			output.valueParsed(emptyValue);
+		} else {
+			output.valueParsed(buffer, valueStart, len);
+		}
+
+		if (this.i >= length) {
+			updateBuffer();
+		}
+		return true;
+	}
+
 	public final boolean skipQuotedString(char quote, char escape, char stop1, char stop2) {
 		if (i == 0) {
 			return false;
 		}
 
+		final char[] buffer = this.buffer;
+		final int length = this.length;
+		final char lineSeparator1 = normalizeLineEndings ? this.lineSeparator1 : quote;
 		int i = this.i;
 
 		while (true) {
+			//moves past ordinary characters without testing them against each special case below.
+			while (i < length) {
+				char c = buffer[i];
+				if (c == quote || c == lineSeparator1) {
+					break;
+				}
+				i++;
+			}
 			if (i >= length) {
+				if (i > this.i) {
+					ch = buffer[i - 1];
+				}
 				return false;
 			}
 			ch = buffer[i];
@@ -602,7 +826,7 @@ public abstract class AbstractCharInputReader implements CharInputReader {
 				}
 
 				return false;
-			} else if (lineSeparator1 == ch && normalizeLineEndings && (lineSeparator2 == '\0' || i + 1 < length && lineSeparator2 == buffer[i + 1])) {
+			} else if (lineSeparator1 == ch && (lineSeparator2 == '\0' || i + 1 < length && lineSeparator2 == buffer[i + 1])) {
 				return false;
 			}
 			i++;
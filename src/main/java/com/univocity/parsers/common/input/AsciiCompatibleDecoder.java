@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input;
+
+import java.nio.*;
+import java.nio.charset.*;
+
+/**
+ * Decodes bytes encoded in UTF-8, US-ASCII or ISO-8859-1 straight from a {@link ByteBuffer} into a {@link CharBuffer}.
+ *
+ * <p> In these encodings all structural characters used by the parsers (delimiters, quotes, line separators) are single bytes, and most
+ * of the input is usually plain ASCII. Runs of ASCII bytes are widened to characters in a tight loop over a bulk copy of the input bytes,
+ * and only multi-byte sequences go through the full decoding logic. This is considerably faster than a {@link CharsetDecoder} reading from
+ * direct buffers (such as the ones produced by a memory-mapped file), which are decoded one byte at a time by the JDK.</p>
+ *
+ * <p> Malformed input is replaced exactly as a {@link CharsetDecoder} configured with {@link CodingErrorAction#REPLACE} would, as the malformed
+ * byte sequences are handed over to the JDK decoder.</p>
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see MappedFileReader
+ */
+final class AsciiCompatibleDecoder {
+
+	private static final int ISO_8859_1 = 0;
+	private static final int US_ASCII = 1;
+	private static final int UTF_8 = 2;
+
+	private final int encoding;
+	private final CharsetDecoder fallback;
+	private final byte[] bytes = new byte[8192];
+	private final CharBuffer replacement = CharBuffer.allocate(2);
+
+	private AsciiCompatibleDecoder(int encoding, Charset charset) {
+		this.encoding = encoding;
+		this.fallback = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+	}
+
+	/**
+	 * Creates a decoder for the given encoding, if supported.
+	 *
+	 * @param charset the encoding of the input bytes
+	 *
+	 * @return a new decoder, or {@code null} if the given encoding is not UTF-8, US-ASCII or ISO-8859-1.
+	 */
+	static AsciiCompatibleDecoder newDecoder(Charset charset) {
+		String name = charset.name();
+		if ("UTF-8".equals(name)) {
+			return new AsciiCompatibleDecoder(UTF_8, charset);
+		} else if ("US-ASCII".equals(name)) {
+			return new AsciiCompatibleDecoder(US_ASCII, charset);
+		} else if ("ISO-8859-1".equals(name)) {
+			return new AsciiCompatibleDecoder(ISO_8859_1, charset);
+		}
+		return null;
+	}
+
+	/**
+	 * Decodes bytes from the input buffer into the output buffer, until the output has no room for the next character or
+	 * the input is exhausted. If {@code endOfInput} is {@code false}, an incomplete byte sequence at the end of the input buffer
+	 * is left in the buffer so it can be decoded once more bytes become available.
+	 *
+	 * @param in         the bytes to decode
+	 * @param out        the buffer that receives the decoded characters. Must be backed by an accessible array.
+	 * @param endOfInput flag indicating whether the input buffer holds the last bytes of the input
+	 *
+	 * @return {@code true} if decoding stopped because the output buffer can't hold the next character, otherwise {@code false}.
+	 */
+	boolean decode(ByteBuffer in, CharBuffer out, boolean endOfInput) {
+		char[] chars = out.array();
+		int o = out.arrayOffset() + out.position();
+		final int outLimit = out.arrayOffset() + out.limit();
+		boolean overflow = false;
+
+		while (in.hasRemaining()) {
+			if (o >= outLimit) {
+				overflow = true;
+				break;
+			}
+			int start = in.position();
+			int n = Math.min(in.remaining(), Math.max(4, Math.min(bytes.length, outLimit - o)));
+			boolean lastBytes = endOfInput && n == in.remaining();
+			in.get(bytes, 0, n);
+
+			int i = 0;
+			if (encoding == ISO_8859_1) {
+				int max = Math.min(n, outLimit - o);
+				while (i < max) {
+					chars[o++] = (char) (bytes[i++] & 0xFF);
+				}
+			} else {
+				while (i < n) {
+					if (o >= outLimit) {
+						overflow = true;
+						break;
+					}
+					int b1 = bytes[i];
+					if (b1 >= 0) {
+						// tight loop over runs of ASCII bytes
+						int max = Math.min(n, i + (outLimit - o));
+						do {
+							chars[o++] = (char) b1;
+						} while (++i < max && (b1 = bytes[i]) >= 0);
+						continue;
+					}
+
+					if (encoding == UTF_8) {
+						int remaining = n - i;
+						if ((b1 >> 5) == -2 && (b1 & 0x1E) != 0) { // 110xxxxx, excluding overlong 0xC0 and 0xC1
+							if (remaining >= 2) {
+								int b2 = bytes[i + 1];
+								if ((b2 & 0xC0) == 0x80) {
+									chars[o++] = (char) (((b1 & 0x1F) << 6) | (b2 & 0x3F));
+									i += 2;
+									continue;
+								}
+							} else if (!lastBytes) {
+								break;
+							}
+						} else if ((b1 >> 4) == -2) { // 1110xxxx
+							if (remaining >= 3) {
+								int b2 = bytes[i + 1];
+								int b3 = bytes[i + 2];
+								if ((b2 & 0xC0) == 0x80 && (b3 & 0xC0) == 0x80) {
+									char c = (char) (((b1 & 0x0F) << 12) | ((b2 & 0x3F) << 6) | (b3 & 0x3F));
+									if (c >= 0x800 && (c < Character.MIN_SURROGATE || c > Character.MAX_SURROGATE)) {
+										chars[o++] = c;
+										i += 3;
+										continue;
+									}
+								}
+							} else if (!lastBytes) {
+								break;
+							}
+						} else if ((b1 >> 3) == -2) { // 11110xxx
+							if (remaining >= 4) {
+								int b2 = bytes[i + 1];
+								int b3 = bytes[i + 2];
+								int b4 = bytes[i + 3];
+								if ((b2 & 0xC0) == 0x80 && (b3 & 0xC0) == 0x80 && (b4 & 0xC0) == 0x80) {
+									int codePoint = ((b1 & 0x07) << 18) | ((b2 & 0x3F) << 12) | ((b3 & 0x3F) << 6) | (b4 & 0x3F);
+									if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT && codePoint <= Character.MAX_CODE_POINT) {
+										if (o + 1 >= outLimit) {
+											overflow = true;
+											break;
+										}
+										chars[o++] = (char) ((codePoint >>> 10) + (Character.MIN_HIGH_SURROGATE - (Character.MIN_SUPPLEMENTARY_CODE_POINT >>> 10)));
+										chars[o++] = (char) ((codePoint & 0x3FF) + Character.MIN_LOW_SURROGATE);
+										i += 4;
+										continue;
+									}
+								}
+							} else if (!lastBytes) {
+								break;
+							}
+						}
+					}
+
+					// malformed (or unmappable) input: lets the JDK decoder consume it and produce the replacement.
+					ByteBuffer src = ByteBuffer.wrap(bytes, i, n - i);
+					replacement.clear();
+					fallback.reset();
+					fallback.decode(src, replacement, lastBytes);
+					int produced = replacement.position();
+					if (produced == 0) {
+						break;
+					}
+					if (o + produced > outLimit) {
+						overflow = true;
+						break;
+					}
+					for (int j = 0; j < produced; j++) {
+						chars[o++] = replacement.get(j);
+					}
+					i = src.position();
+				}
+			}
+
+			in.position(start + i);
+			if (overflow || i == 0) {
+				break;
+			}
+		}
+
+		out.position(o - out.arrayOffset());
+		return overflow || (in.hasRemaining() && o >= outLimit);
+	}
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input;
+
+import com.univocity.parsers.common.*;
+
+import java.io.*;
+import java.nio.*;
+
+/**
+ * A {@link CharInputReader} that decodes characters of a memory-mapped file directly into its buffer, when the input
+ * is provided through a {@link MappedFileReader}. Each call to {@link #reloadBuffer()} decodes the next batch of characters
+ * from the mapped region of the file, avoiding the copies performed by the {@link InputStream}/{@link Reader} stack.
+ *
+ * <p> Any other {@link Reader} can be used as well, in which case this class behaves exactly like the {@link DefaultCharInputReader}.</p>
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see MappedFileReader
+ * @see CommonParserSettings#isMemoryMappingEnabled()
+ */
+public class MappedCharInputReader extends AbstractCharInputReader {
+
+	private Reader reader;
+	private MappedFileReader mappedReader;
+	private CharBuffer charBuffer;
+	private boolean unwrapping = false;
+
+	/**
+	 * Creates a new instance with the mandatory characters for handling newlines transparently. Line separators will be detected automatically.
+	 *
+	 * @param normalizedLineSeparator the normalized newline character (as defined in {@link Format#getNormalizedNewline()}) that is used to replace any lineSeparator sequence found in the input.
+	 * @param bufferSize              the buffer size used to store characters decoded from the input.
+	 * @param whitespaceRangeStart    starting range of characters considered to be whitespace.
+	 * @param closeOnStop			  indicates whether to automatically close the input when {@link #stop()} is called
+	 */
+	public MappedCharInputReader(char normalizedLineSeparator, int bufferSize, int whitespaceRangeStart, boolean closeOnStop) {
+		super(normalizedLineSeparator, whitespaceRangeStart, closeOnStop);
+		super.buffer = new char[bufferSize];
+	}
+
+	/**
+	 * Creates a new instance with the mandatory characters for handling newlines transparently.
+	 *
+	 * @param lineSeparator           the sequence of characters that represent a newline, as defined in {@link Format#getLineSeparator()}
+	 * @param normalizedLineSeparator the normalized newline character (as defined in {@link Format#getNormalizedNewline()}) that is used to replace any lineSeparator sequence found in the input.
+	 * @param bufferSize              the buffer size used to store characters decoded from the input.
+	 * @param whitespaceRangeStart    starting range of characters considered to be whitespace.
+	 * @param closeOnStop			  indicates whether to automatically close the input when {@link #stop()} is called
+	 */
+	public MappedCharInputReader(char[] lineSeparator, char normalizedLineSeparator, int bufferSize, int whitespaceRangeStart, boolean closeOnStop) {
+		super(lineSeparator, normalizedLineSeparator, whitespaceRangeStart, closeOnStop);
+		super.buffer = new char[bufferSize];
+	}
+
+	@Override
+	public void stop() {
+		try {
+			if (!unwrapping && closeOnStop && reader != null) {
+				reader.close();
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Error closing input", e);
+		}
+	}
+
+	@Override
+	protected void setReader(Reader reader) {
+		this.reader = reader;
+		if (reader instanceof MappedFileReader) {
+			mappedReader = (MappedFileReader) reader;
+		} else {
+			mappedReader = null;
+		}
+		unwrapping = false;
+	}
+
+	/**
+	 * Decodes the next sequence of characters from the input into the {@link MappedCharInputReader#buffer}, and updates the {@link MappedCharInputReader#length}
+	 * to the number of characters available.
+	 */
+	@Override
+	protected void reloadBuffer() {
+		try {
+			if (mappedReader != null) {
+				if (charBuffer == null || charBuffer.array() != buffer) {
+					charBuffer = CharBuffer.wrap(buffer);
+				}
+				charBuffer.clear();
+				super.length = mappedReader.fill(charBuffer);
+			} else {
+				super.length = reader.read(buffer, 0, buffer.length);
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Error reading from input", e);
+		} catch (BomInput.BytesProcessedNotification notification) {
+			unwrapping = true;
+			unwrapInputStream(notification);
+		}
+	}
+}
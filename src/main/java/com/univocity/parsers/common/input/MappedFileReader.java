@@ -0,0 +1,293 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+
+/**
+ * A {@link Reader} that maps the contents of a {@link File} into memory using {@link FileChannel#map(FileChannel.MapMode, long, long)}
+ * and decodes the mapped bytes on demand, one window at a time.
+ *
+ * <p> Characters are decoded straight from the mapped region into the destination buffer, which avoids copying the file contents
+ * through an intermediate {@link InputStream} and the internal byte buffer of an {@link InputStreamReader}.
+ * When used with a {@link MappedCharInputReader}, characters are decoded directly into the parser buffer.</p>
+ *
+ * <p> Files encoded in UTF-8, US-ASCII or ISO-8859-1 are decoded with an {@link AsciiCompatibleDecoder}, which widens runs of ASCII bytes
+ * to characters without going through a {@link CharsetDecoder}.</p>
+ *
+ * <p> If no encoding is provided, a Byte Order Mark (BOM) at the beginning of the file is used to determine the encoding.
+ * When there's no BOM, the default encoding of the JVM is used.</p>
+ *
+ * <p> A reader can be restricted to a range of bytes of the file, so that different sections of the same file can be read independently.</p>
+ *
+ * <p> Note that mapped regions are only released by the JVM when they are garbage collected. Closing this reader closes the
+ * underlying {@link FileChannel}, but some operating systems may keep the file locked until the last mapped region is collected.</p>
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see MappedCharInputReader
+ */
+public final class MappedFileReader extends Reader {
+
+	/**
+	 * The default number of bytes mapped into memory at a time (32 MB)
+	 */
+	public static final int DEFAULT_WINDOW_SIZE = 32 * 1024 * 1024;
+
+	private final RandomAccessFile file;
+	private final FileChannel channel;
+	private final long end;
+	private final int windowSize;
+	private final Charset charset;
+	private final CharsetDecoder decoder;
+	private final AsciiCompatibleDecoder asciiCompatibleDecoder;
+
+	private MappedByteBuffer window;
+	private long windowOffset;
+	private long position;
+	private boolean lastWindow;
+	private boolean endOfInput;
+
+	private final char[] pending = new char[2];
+	private int pendingStart;
+	private int pendingCount;
+
+	/**
+	 * Creates a reader for a given file, using the default window size of {@link #DEFAULT_WINDOW_SIZE} bytes.
+	 *
+	 * @param file     the file to be read
+	 * @param encoding the encoding of the file. If {@code null}, the encoding will be determined from the BOM of the
+	 *                 file, if any, or the default encoding of the JVM will be used.
+	 */
+	public MappedFileReader(File file, Charset encoding) {
+		this(file, encoding, DEFAULT_WINDOW_SIZE);
+	}
+
+	/**
+	 * Creates a reader for a given file
+	 *
+	 * @param file       the file to be read
+	 * @param encoding   the encoding of the file. If {@code null}, the encoding will be determined from the BOM of the
+	 *                   file, if any, or the default encoding of the JVM will be used.
+	 * @param windowSize the number of bytes to map into memory at a time.
+	 */
+	public MappedFileReader(File file, Charset encoding, int windowSize) {
+		this(file, encoding, 0L, Long.MAX_VALUE, windowSize);
+	}
+
+	/**
+	 * Creates a reader for a range of bytes of a given file. The range should start at the first byte of a character. Any incomplete
+	 * character at the end of the range is decoded as malformed input.
+	 *
+	 * @param file       the file to be read
+	 * @param encoding   the encoding of the file. If {@code null}, the encoding will be determined from the BOM of the
+	 *                   file, if any, or the default encoding of the JVM will be used.
+	 * @param offset     the position of the first byte to read. A BOM at the beginning of the file is skipped if the offset is {@code 0} and
+	 *                   no encoding is provided.
+	 * @param length     the maximum number of bytes to read.
+	 * @param windowSize the number of bytes to map into memory at a time.
+	 */
+	public MappedFileReader(File file, Charset encoding, long offset, long length, int windowSize) {
+		if (windowSize < 4) {
+			throw new IllegalArgumentException("Window size must be at least 4 bytes. Got " + windowSize);
+		}
+		try {
+			this.file = new RandomAccessFile(file, "r");
+		} catch (FileNotFoundException e) {
+			throw new IllegalArgumentException(e);
+		}
+		this.channel = this.file.getChannel();
+		this.windowSize = windowSize;
+
+		if (offset < 0 || length < 0) {
+			closeQuietly();
+			throw new IllegalArgumentException("Offset and length must not be negative. Got offset " + offset + ", length " + length);
+		}
+
+		try {
+			long size = channel.size();
+			this.end = length >= size - offset ? size : offset + length;
+			if (encoding == null) {
+				encoding = detectEncoding();
+			}
+			position = Math.max(position, offset);
+		} catch (IOException e) {
+			closeQuietly();
+			throw new IllegalStateException("Error reading from input", e);
+		}
+
+		this.charset = encoding;
+		this.decoder = encoding.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+		this.asciiCompatibleDecoder = AsciiCompatibleDecoder.newDecoder(encoding);
+	}
+
+	private Charset detectEncoding() throws IOException {
+		ByteBuffer bom = ByteBuffer.allocate(4);
+		while (bom.hasRemaining() && channel.read(bom, bom.position()) > 0) ;
+		bom.flip();
+		int read = bom.limit();
+
+		byte[] bytes = new byte[4];
+		bom.get(bytes, 0, read);
+
+		if (startsWith(bytes, read, BomInput.UTF_8_BOM)) {
+			position = 3;
+			return Charset.forName("UTF-8");
+		} else if (startsWith(bytes, read, BomInput.UTF_32LE_BOM)) {
+			position = 4;
+			return Charset.forName("UTF-32LE");
+		} else if (startsWith(bytes, read, BomInput.UTF_32BE_BOM)) {
+			position = 4;
+			return Charset.forName("UTF-32BE");
+		} else if (startsWith(bytes, read, BomInput.UTF_16LE_BOM)) {
+			position = 2;
+			return Charset.forName("UTF-16LE");
+		} else if (startsWith(bytes, read, BomInput.UTF_16BE_BOM)) {
+			position = 2;
+			return Charset.forName("UTF-16BE");
+		}
+		return Charset.defaultCharset();
+	}
+
+	private static boolean startsWith(byte[] bytes, int length, byte[] bom) {
+		if (length < bom.length) {
+			return false;
+		}
+		for (int i = 0; i < bom.length; i++) {
+			if (bytes[i] != bom[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the encoding used to decode the contents of the file
+	 *
+	 * @return the encoding of the file.
+	 */
+	public Charset getCharset() {
+		return charset;
+	}
+
+	private boolean mapNextWindow() throws IOException {
+		long start = window == null ? position : windowOffset + window.position();
+		if (start >= end) {
+			return false;
+		}
+		long length = Math.min(windowSize, end - start);
+		window = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+		windowOffset = start;
+		lastWindow = start + length >= end;
+		return true;
+	}
+
+	/**
+	 * Decodes characters from the mapped file into a given {@link CharBuffer}, until the buffer is full or the end
+	 * of the file is reached.
+	 *
+	 * @param out the buffer that will receive the decoded characters
+	 *
+	 * @return the number of characters decoded, or -1 if the end of the file has been reached.
+	 *
+	 * @throws IOException if the file can't be mapped into memory
+	 */
+	int fill(CharBuffer out) throws IOException {
+		if (endOfInput) {
+			return -1;
+		}
+		int start = out.position();
+		while (out.hasRemaining()) {
+			if (window == null && !mapNextWindow()) {
+				endOfInput = true;
+				break;
+			}
+			if (asciiCompatibleDecoder != null) {
+				if (asciiCompatibleDecoder.decode(window, out, lastWindow)) {
+					break;
+				}
+				if (lastWindow) {
+					endOfInput = true;
+					break;
+				}
+				//maps the next window, starting with any incomplete byte sequence left in the current one.
+				mapNextWindow();
+				continue;
+			}
+			CoderResult result = decoder.decode(window, out, lastWindow);
+			if (result.isOverflow()) {
+				break;
+			}
+			if (result.isUnderflow()) {
+				if (lastWindow) {
+					if (decoder.flush(out).isOverflow()) {
+						break;
+					}
+					endOfInput = true;
+					break;
+				}
+				//maps the next window, starting with any incomplete byte sequence left in the current one.
+				mapNextWindow();
+			} else {
+				result.throwException();
+			}
+		}
+		int length = out.position() - start;
+		if (length == 0 && endOfInput) {
+			return -1;
+		}
+		return length;
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		if (pendingCount == 0 && len == 1) {
+			//a surrogate pair can't be decoded into a single character. Decodes the next character(s) and keeps any leftover for the next read.
+			pendingStart = 0;
+			pendingCount = fill(CharBuffer.wrap(pending));
+			if (pendingCount == -1) {
+				pendingCount = 0;
+				return -1;
+			}
+		}
+		if (pendingCount > 0) {
+			cbuf[off] = pending[pendingStart++];
+			pendingCount--;
+			return 1;
+		}
+		return fill(CharBuffer.wrap(cbuf, off, len));
+	}
+
+	@Override
+	public void close() throws IOException {
+		endOfInput = true;
+		window = null;
+		file.close();
+	}
+
+	private void closeQuietly() {
+		try {
+			file.close();
+		} catch (IOException e) {
+			//ignore and report the original error
+		}
+	}
+}
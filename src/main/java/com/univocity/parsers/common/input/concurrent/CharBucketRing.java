@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input.concurrent;
+
+import java.util.concurrent.locks.*;
+
+/**
+ * A lock-free ring of {@link CharBucket} instances shared by exactly one producer (the thread that fills buckets with characters from the input)
+ * and one consumer (the parser).
+ *
+ * <p> The producer claims the next free bucket with {@link #claim()}, fills it and makes it visible to the consumer with {@link #publish()}.
+ * Once the input is exhausted it calls {@link #finish()}.
+ * <p> The consumer obtains buckets in order with {@link #next()}. The bucket returned is kept untouched by the producer until the consumer calls
+ * {@link #next()} again, so the parser can work directly on its contents.
+ *
+ * <p> Each side only writes its own counter, so no locks are required. When one side has to wait for the other, it spins for a given number of
+ * attempts, then parks for a given number of nanoseconds between attempts (or yields if no park time is set).
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see ConcurrentCharLoader
+ * @see CharBucket
+ */
+final class CharBucketRing {
+
+	private final CharBucket[] buckets;
+	private final int bucketSize;
+	private final int spinCount;
+	private final long parkNanos;
+
+	private volatile long published;
+	private volatile long consumed;
+	private volatile boolean finished;
+	private volatile boolean stopped;
+
+	private boolean holding;
+
+	/**
+	 * Creates a new ring of buckets. Buckets are only instantiated when the producer needs them.
+	 *
+	 * @param bucketSize     the size of each individual {@link CharBucket}
+	 * @param bucketQuantity the maximum number of {@link CharBucket} instances in the ring (at least 2 are used)
+	 * @param spinCount      the number of times a thread checks for progress of the other thread in a busy loop before parking.
+	 * @param parkNanos      the number of nanoseconds a thread parks between checks after spinning. If {@code 0} or less, the thread will
+	 *                       yield instead of parking.
+	 */
+	CharBucketRing(int bucketSize, int bucketQuantity, int spinCount, long parkNanos) {
+		this.buckets = new CharBucket[Math.max(bucketQuantity, 2)];
+		this.bucketSize = bucketSize;
+		this.spinCount = spinCount;
+		this.parkNanos = parkNanos;
+	}
+
+	/**
+	 * Returns the next bucket to be filled by the producer, waiting while all buckets are in use by the consumer.
+	 * The same bucket is returned until {@link #publish()} is invoked.
+	 *
+	 * @return the next bucket to be filled, or {@code null} if the ring was stopped or the current thread was interrupted while waiting.
+	 */
+	CharBucket claim() {
+		final long next = published;
+		int attempt = 0;
+		while (next - consumed >= buckets.length) {
+			if (stopped || Thread.currentThread().isInterrupted()) {
+				return null;
+			}
+			await(attempt++);
+		}
+
+		int index = (int) (next % buckets.length);
+		CharBucket bucket = buckets[index];
+		if (bucket == null) {
+			bucket = new CharBucket(bucketSize);
+			buckets[index] = bucket;
+		}
+		return bucket;
+	}
+
+	/**
+	 * Makes the bucket returned by the last call to {@link #claim()} available to the consumer.
+	 */
+	void publish() {
+		published = published + 1;
+	}
+
+	/**
+	 * Notifies the consumer that no more buckets will be published.
+	 */
+	void finish() {
+		finished = true;
+	}
+
+	/**
+	 * Stops the producer, causing any call to {@link #claim()} to return {@code null}.
+	 */
+	void stop() {
+		stopped = true;
+	}
+
+	/**
+	 * Releases the bucket previously obtained by the consumer and returns the next published bucket, waiting until the producer publishes one.
+	 *
+	 * @return the next bucket with characters, or {@code null} if the producer finished and all of its buckets were consumed, or if the current
+	 * thread was interrupted while waiting.
+	 */
+	CharBucket next() {
+		if (holding) {
+			holding = false;
+			consumed = consumed + 1;
+		}
+
+		final long next = consumed;
+		int attempt = 0;
+		while (published == next) {
+			if (finished) {
+				if (published == next) {
+					return null;
+				}
+				break;
+			}
+			if (Thread.currentThread().isInterrupted()) {
+				return null;
+			}
+			await(attempt++);
+		}
+
+		holding = true;
+		return buckets[(int) (next % buckets.length)];
+	}
+
+	private void await(int attempt) {
+		if (attempt < spinCount) {
+			return;
+		}
+		if (parkNanos > 0) {
+			LockSupport.parkNanos(this, parkNanos);
+		} else {
+			Thread.yield();
+		}
+	}
+}
@@ -19,14 +19,20 @@ import com.univocity.parsers.common.*;
 import com.univocity.parsers.common.input.*;
 
 import java.io.*;
+import java.lang.reflect.*;
+import java.util.concurrent.*;
 
 /**
  * A concurrent CharInputReader that loads batches of characters in a separate thread and assigns them to buffer in {@link AbstractCharInputReader} when requested.
  *
  * <p> This class loads "buckets" of characters in the background and provides them sequentially to the {@link ConcurrentCharInputReader#buffer}
  * attribute in {@link AbstractCharInputReader}.
- * <p> The bucket loading process will block and wait while all buckets are full.
- * <p> Similarly, the reader will block while all buckets are empty.
+ * <p> The bucket loading process will wait while all buckets are full.
+ * <p> Similarly, the reader will wait while all buckets are empty.
+ * <p> Buckets are exchanged between the two threads without locks. A thread that has to wait spins for a configurable number of times
+ * before parking for a configurable number of nanoseconds between checks.
+ * <p> By default, a new thread is started to load the buckets of each input. An {@link Executor} can be provided with {@link #setExecutor(Executor)}
+ * to run the loading process in pooled threads, or in virtual threads (see {@link #newVirtualThreadFactory()}).
  *
  * This CharInputReader implementation provides a better throughput than {@link DefaultCharInputReader} when reading large inputs ({@code > 100 mb}).
  *
@@ -37,9 +43,22 @@ import java.io.*;
  */
 public class ConcurrentCharInputReader extends AbstractCharInputReader {
 
+	/**
+	 * Default number of times the parser and the input reading thread check for each other's progress in a busy loop before parking.
+	 */
+	public static final int DEFAULT_SPIN_COUNT = 1000;
+
+	/**
+	 * Default number of nanoseconds the parser and the input reading thread park between checks for each other's progress, after spinning.
+	 */
+	public static final long DEFAULT_PARK_NANOS = 50000L;
+
 	private ConcurrentCharLoader bucketLoader;
 	private final int bucketSize;
 	private final int bucketQuantity;
+	private final int spinCount;
+	private final long parkNanos;
+	private Executor executor;
 	private boolean unwrapping = false;
 
 	/**
@@ -53,9 +72,28 @@ public class ConcurrentCharInputReader extends AbstractCharInputReader {
 	 * @param closeOnStop			  indicates whether to automatically close the input when {@link #stop()} is called
 	 */
 	public ConcurrentCharInputReader(char normalizedLineSeparator, int bucketSize, int bucketQuantity, int whitespaceRangeStart, boolean closeOnStop) {
+		this(normalizedLineSeparator, bucketSize, bucketQuantity, whitespaceRangeStart, closeOnStop, DEFAULT_SPIN_COUNT, DEFAULT_PARK_NANOS);
+	}
+
+	/**
+	 * Creates a new instance with the mandatory characters for handling newlines transparently. Line separators will be detected automatically.
+	 *
+	 * @param normalizedLineSeparator the normalized newline character (as defined in {@link Format#getNormalizedNewline()})
+	 *                                that is used to replace any lineSeparator sequence found in the input.
+	 * @param bucketSize              the size of an each individual "bucket" used to store characters read from the input.
+	 * @param bucketQuantity          the number of "buckets" to load in memory. Note the reader will stop if all buckets are full.
+	 * @param whitespaceRangeStart    starting range of characters considered to be whitespace.
+	 * @param closeOnStop			  indicates whether to automatically close the input when {@link #stop()} is called
+	 * @param spinCount               the number of times the parser and the input reading thread check for each other's progress in a busy loop before parking.
+	 * @param parkNanos               the number of nanoseconds the parser and the input reading thread park between checks after spinning.
+	 *                                If {@code 0} or less, the threads yield instead of parking.
+	 */
+	public ConcurrentCharInputReader(char normalizedLineSeparator, int bucketSize, int bucketQuantity, int whitespaceRangeStart, boolean closeOnStop, int spinCount, long parkNanos) {
 		super(normalizedLineSeparator, whitespaceRangeStart, closeOnStop);
 		this.bucketSize = bucketSize;
 		this.bucketQuantity = bucketQuantity;
+		this.spinCount = spinCount;
+		this.parkNanos = parkNanos;
 	}
 
 	/**
@@ -70,9 +108,74 @@ public class ConcurrentCharInputReader extends AbstractCharInputReader {
 	 * @param closeOnStop			  indicates whether to automatically close the input when {@link #stop()} is called
 	 */
 	public ConcurrentCharInputReader(char[] lineSeparator, char normalizedLineSeparator, int bucketSize, int bucketQuantity, int whitespaceRangeStart, boolean closeOnStop) {
+		this(lineSeparator, normalizedLineSeparator, bucketSize, bucketQuantity, whitespaceRangeStart, closeOnStop, DEFAULT_SPIN_COUNT, DEFAULT_PARK_NANOS);
+	}
+
+	/**
+	 * Creates a new instance with the mandatory characters for handling newlines transparently.
+	 *
+	 * @param lineSeparator           the sequence of characters that represent a newline, as defined in {@link Format#getLineSeparator()}
+	 * @param normalizedLineSeparator the normalized newline character (as defined in {@link Format#getNormalizedNewline()})
+	 *                                that is used to replace any lineSeparator sequence found in the input.
+	 * @param bucketSize              the size of an each individual "bucket" used to store characters read from the input.
+	 * @param bucketQuantity          the number of "buckets" to load in memory. Note the reader will stop if all buckets are full.
+	 * @param whitespaceRangeStart    starting range of characters considered to be whitespace.
+	 * @param closeOnStop			  indicates whether to automatically close the input when {@link #stop()} is called
+	 * @param spinCount               the number of times the parser and the input reading thread check for each other's progress in a busy loop before parking.
+	 * @param parkNanos               the number of nanoseconds the parser and the input reading thread park between checks after spinning.
+	 *                                If {@code 0} or less, the threads yield instead of parking.
+	 */
+	public ConcurrentCharInputReader(char[] lineSeparator, char normalizedLineSeparator, int bucketSize, int bucketQuantity, int whitespaceRangeStart, boolean closeOnStop, int spinCount, long parkNanos) {
 		super(lineSeparator, normalizedLineSeparator, whitespaceRangeStart, closeOnStop);
 		this.bucketSize = bucketSize;
 		this.bucketQuantity = bucketQuantity;
+		this.spinCount = spinCount;
+		this.parkNanos = parkNanos;
+	}
+
+	/**
+	 * Defines the {@link Executor} used to run the process that loads characters from the input into "buckets". If {@code null}, a new thread
+	 * will be started for every input. Must be set before {@link #start(Reader)} is called.
+	 *
+	 * <p>The executor must be able to run the loading process promptly, as the parser waits for it. Avoid bounded pools whose threads may all be busy
+	 * parsing, otherwise the parsers will wait forever for input that is never loaded.
+	 *
+	 * @param executor the executor that will run the input loading process.
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns the {@link Executor} used to run the process that loads characters from the input into "buckets". If {@code null}, a new thread
+	 * is started for every input.
+	 *
+	 * @return the executor that runs the input loading process.
+	 */
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Creates a {@link ThreadFactory} that produces virtual threads, which are cheap to create, for the input reading process. This requires Java 21 or later.
+	 * The factory can be wrapped in an {@link Executor} provided to {@link #setExecutor(Executor)}, or given to
+	 * {@link com.univocity.parsers.common.CommonParserSettings#setInputReadingThreadFactory(ThreadFactory)}.
+	 *
+	 * @return a factory of virtual threads
+	 *
+	 * @throws UnsupportedOperationException if virtual threads are not supported by the running JVM.
+	 */
+	public static ThreadFactory newVirtualThreadFactory() {
+		try {
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+			builder = builderType.getMethod("name", String.class).invoke(builder, ConcurrentCharLoader.THREAD_NAME);
+			return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+		} catch (InvocationTargetException e) {
+			throw new UnsupportedOperationException("Virtual threads are not available", e.getCause());
+		} catch (Exception e) {
+			throw new UnsupportedOperationException("Virtual threads are not supported by the running JVM. Java 21 or later is required.", e);
+		}
 	}
 
 	/**
@@ -94,7 +197,7 @@ public class ConcurrentCharInputReader extends AbstractCharInputReader {
 	protected void setReader(Reader reader) {
 		if(!unwrapping) {
 			stop();
-			bucketLoader = new ConcurrentCharLoader(reader, bucketSize, bucketQuantity, closeOnStop);
+			bucketLoader = new ConcurrentCharLoader(reader, bucketSize, bucketQuantity, closeOnStop, spinCount, parkNanos, executor);
 			bucketLoader.reportError();
 		} else {
 			bucketLoader.reader = reader;
@@ -22,60 +22,60 @@ import java.io.*;
 import java.util.concurrent.*;
 
 /**
- * A concurrent character loader for loading a pool of {@link CharBucket} instances using a {@link java.io.Reader} in a separate thread
+ * A concurrent character loader for loading a ring of {@link CharBucket} instances using a {@link java.io.Reader} in a separate thread
  *
  * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
  * @see ConcurrentCharInputReader
  * @see CharBucket
- * @see Entry
+ * @see CharBucketRing
  */
 class ConcurrentCharLoader implements Runnable {
-	private final ArrayBlockingQueue<Object> buckets;
-	private final CharBucket end;
-	private final FixedInstancePool<CharBucket> instances;
+	static final String THREAD_NAME = "unVocity-parsers input reading thread";
 
-	private Entry<CharBucket> currentBucket;
+	private final CharBucketRing buckets;
+	private final CharBucket end;
 
 	private boolean finished = false;
-	private boolean active;
+	private volatile boolean active;
 	Reader reader;
+	private final Executor executor;
+	private boolean started;
 	private Thread activeExecution;
 	private Exception error;
 	private final boolean closeOnStop;
 
 	/**
-	 * Creates a {@link FixedInstancePool} with a given amount of {@link CharBucket} instances and starts a thread to fill each one.
+	 * Creates a {@link CharBucketRing} with a given amount of {@link CharBucket} instances and starts a thread to fill each one.
 	 *
 	 * @param reader         The source of characters to extract and fill {@link CharBucket} instances
 	 * @param bucketSize     The size of each individual {@link CharBucket}
 	 * @param bucketQuantity The number of {@link CharBucket} instances used to extract characters from the given reader.
 	 * @param closeOnStop	 Indicates whether to automatically close the input when {@link #stopReading()} is called
+	 * @param spinCount      The number of times the parser and the input reading thread check for each other's progress in a busy loop before parking.
+	 * @param parkNanos      The number of nanoseconds the parser or the input reading thread park between checks after spinning.
+	 *                       If {@code 0} or less, the threads yield instead of parking.
+	 * @param executor       The {@link Executor} used to run the loading process. If {@code null} a new thread will be started.
 	 */
-	public ConcurrentCharLoader(Reader reader, final int bucketSize, int bucketQuantity, boolean closeOnStop) {
+	public ConcurrentCharLoader(Reader reader, int bucketSize, int bucketQuantity, boolean closeOnStop, int spinCount, long parkNanos, Executor executor) {
 		this.closeOnStop = closeOnStop;
+		this.executor = executor;
 		this.end = new CharBucket(-1);
-		this.buckets = new ArrayBlockingQueue<Object>(bucketQuantity);
+		this.buckets = new CharBucketRing(bucketSize, bucketQuantity, spinCount, parkNanos);
 
 		this.reader = reader;
 
-		this.instances = new FixedInstancePool<CharBucket>(bucketQuantity) {
-			@Override
-			protected CharBucket newInstance() {
-				return new CharBucket(bucketSize);
-			}
-		};
-
 		finished = false;
 		active = true;
 	}
 
-	private int readBucket() throws IOException, InterruptedException {
-		Entry<CharBucket> bucket = instances.allocate();
-		int length = bucket.get().fill(reader);
+	private int readBucket() throws IOException {
+		CharBucket bucket = buckets.claim();
+		if (bucket == null) {
+			return -1;
+		}
+		int length = bucket.fill(reader);
 		if (length != -1) {
-			buckets.put(bucket);
-		} else {
-			instances.release(bucket);
+			buckets.publish();
 		}
 		return length;
 	}
@@ -86,19 +86,28 @@ class ConcurrentCharLoader implements Runnable {
 	 */
 	@Override
 	public void run() {
+		synchronized (this) {
+			activeExecution = Thread.currentThread();
+		}
 		try {
 			try {
 				while (active && readBucket() != -1) ;
 			} finally {
-				buckets.put(end);
+				buckets.finish();
 			}
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
 		} catch (Exception e) {
 			finished = true;
 			setError(e);
 		} finally {
-			stopReading();
+			try {
+				stopReading();
+			} finally {
+				synchronized (this) {
+					activeExecution = null;
+					//the thread may belong to a pool: clears any interruption meant for this loading process.
+					Thread.interrupted();
+				}
+			}
 		}
 	}
 
@@ -109,13 +118,13 @@ class ConcurrentCharLoader implements Runnable {
 	}
 
 	/**
-	 * Returns the next available bucket. Blocks until a bucket is made available or the reading process stops.
+	 * Returns the next available bucket. Waits until a bucket is made available or the reading process stops.
+	 * The bucket returned previously is released for reuse by the input reading thread.
 	 *
 	 * @return the next available bucket.
 	 */
-	@SuppressWarnings("unchecked")
-	public synchronized CharBucket nextBucket() {
-		if (activeExecution == null && !finished) {
+	public CharBucket nextBucket() {
+		if (!started && !finished) {
 			int length = -1;
 			try {
 				length = readBucket();
@@ -129,43 +138,28 @@ class ConcurrentCharLoader implements Runnable {
 			}
 
 			if(length != -1) {
-				activeExecution = new Thread(this, "unVocity-parsers input reading thread");
-				activeExecution.start();
+				started = true;
+				if (executor == null) {
+					new Thread(this, THREAD_NAME).start();
+				} else {
+					executor.execute(this);
+				}
 			} else {
 				finished = true;
 				try {
-					buckets.put(end);
-				} catch(InterruptedException e){
-					Thread.currentThread().interrupt();
+					buckets.finish();
 				} finally {
 					stopReading();
 				}
 			}
 		}
 
-		try {
-			if (finished) {
-				if (buckets.size() <= 1) {
-					return end;
-				}
-			}
-			if (currentBucket != null) {
-				instances.release(currentBucket);
-			}
-
-			Object element = buckets.take();
-			if (element == end) {
-				finished = true;
-				return end;
-			} else {
-				currentBucket = (Entry<CharBucket>) element;
-			}
-			return currentBucket.get();
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
+		CharBucket bucket = buckets.next();
+		if (bucket == null) {
 			finished = true;
 			return end;
 		}
+		return bucket;
 	}
 
 	/**
@@ -173,6 +167,7 @@ class ConcurrentCharLoader implements Runnable {
 	 */
 	public void stopReading() {
 		active = false;
+		buckets.stop();
 		try {
 			if(closeOnStop) {
 				reader.close();
@@ -181,8 +176,10 @@ class ConcurrentCharLoader implements Runnable {
 			throw new IllegalStateException("Error closing input", e);
 		} finally {
 			try {
-				if (activeExecution != null) {
-					activeExecution.interrupt();
+				synchronized (this) {
+					if (activeExecution != null && activeExecution != Thread.currentThread()) {
+						activeExecution.interrupt();
+					}
 				}
 			} catch (Throwable ex) {
 				throw new IllegalStateException("Error stopping input reader thread", ex);
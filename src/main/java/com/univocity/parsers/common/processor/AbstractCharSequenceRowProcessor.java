@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright 2014 Univocity Software Pty Ltd
+ * Copyright 2019 Univocity Software Pty Ltd
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -13,37 +13,28 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  ******************************************************************************/
-package com.univocity.parsers.common.input.concurrent;
+package com.univocity.parsers.common.processor;
 
-/**
- * An entry used by the {@link FixedInstancePool}
+import com.univocity.parsers.common.*;
 
- * @param <T> the type of this entry.
- *
- * @see FixedInstancePool
+/**
+ * A {@link CharSequenceRowProcessor} implementation that provides empty implementations of {@link #processStarted(ParsingContext)} and
+ * {@link #processEnded(ParsingContext)}, and forwards rows parsed as {@code String[]} to {@link #rowProcessed(CharSequence[], ParsingContext)}.
  *
  * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
- *
  */
-class Entry<T> {
-	final T entry;
-	final int index;
+public abstract class AbstractCharSequenceRowProcessor implements CharSequenceRowProcessor {
+
+	@Override
+	public void processStarted(ParsingContext context) {
+	}
 
-	/**
-	 * Creates a new entry with an object and its position in the {@link FixedInstancePool}
-	 * @param entry the value in this entry
-	 * @param index the position of this entry in the {@link FixedInstancePool}
-	 */
-	Entry(T entry, int index) {
-		this.entry = entry;
-		this.index = index;
+	@Override
+	public final void rowProcessed(String[] row, ParsingContext context) {
+		rowProcessed((CharSequence[]) row, context);
 	}
 
-	/**
-	 * Returns the object stored in this  {@link FixedInstancePool} entry.
-	 * @return the object stored in this  {@link FixedInstancePool} entry.
-	 */
-	public T get() {
-		return this.entry;
+	@Override
+	public void processEnded(ParsingContext context) {
 	}
 }
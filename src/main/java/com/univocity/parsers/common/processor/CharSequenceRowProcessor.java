@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor;
+
+import com.univocity.parsers.common.*;
+
+/**
+ * A {@link RowProcessor} that receives the values of each record as {@link CharSequence} views over the internal buffer of the parser,
+ * so that {@code String}s are only created when the user asks for them with {@link CharSequence#toString()}.
+ *
+ * <p>When a parser that extends {@link AbstractParser} processes an entire input with one of its {@code parse} methods, each record is
+ * delegated to {@link #rowProcessed(CharSequence[], ParsingContext)}. Note that:
+ * <ul>
+ * <li>the views, and the array that contains them, are only valid for the duration of the call. Their contents are overwritten when the
+ * next record is parsed. Use {@link CharSequence#toString()} to keep any value.</li>
+ * <li>values such as the null and empty values defined in the settings may be given as {@code String}s, as well as the values of the first
+ * record of the input.</li>
+ * <li>the {@link CharSequence#hashCode()} of a view is the same as the hash code of the equivalent {@code String}.</li>
+ * </ul>
+ *
+ * <p>Records obtained in other ways, for example with {@link AbstractParser#parseNext()}, are delegated to
+ * {@link #rowProcessed(String[], ParsingContext)} as usual. {@link AbstractCharSequenceRowProcessor} forwards these to
+ * {@link #rowProcessed(CharSequence[], ParsingContext)}.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see AbstractCharSequenceRowProcessor
+ * @see RowProcessor
+ */
+public interface CharSequenceRowProcessor extends RowProcessor {
+
+	/**
+	 * Invoked by the parser after all values of a valid record have been processed.
+	 *
+	 * @param row     views over the data extracted by the parser for an individual record, valid only until this method returns.
+	 * @param context A contextual object with information and controls over the current state of the parsing process
+	 */
+	void rowProcessed(CharSequence[] row, ParsingContext context);
+}
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor;
+
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.common.processor.core.*;
+import com.univocity.parsers.conversions.*;
+
+/**
+ *
+ * A {@link RowProcessor} implementation for associating rows extracted from any implementation of {@link AbstractParser} with their
+ * master rows as they are parsed, without collecting all detail rows of a master row in memory.
+ *
+ * <p> For each row processed, a call to {@link MasterDetailStreamProcessor#isMasterRecord(String[], Context)} will be made to identify whether or not it is a master row.
+ * <p> Each master row is sent to {@link #masterStarted(Object[], Context)}, followed by each one of its detail rows, sent to
+ * {@link #detailProcessed(Object[], Context)}, and finally to {@link #masterEnded(Object[], Context)}.
+ *
+ * <p> <b>Note</b> this class extends {@link ObjectRowProcessor} and value conversions provided by {@link Conversion} instances are fully supported.
+ *
+ * @see MasterDetailProcessor
+ * @see RowPlacement
+ * @see AbstractParser
+ * @see ObjectRowListProcessor
+ * @see RowProcessor
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ *
+ */
+public abstract class MasterDetailStreamProcessor extends AbstractMasterDetailStreamProcessor<ParsingContext> implements RowProcessor {
+
+	/**
+	 * Creates a MasterDetailStreamProcessor
+	 *
+	 * @param rowPlacement indication whether the master records are placed in relation its detail records in the input.
+	 *
+	 * <hr><blockquote><pre>
+	 *
+	 * Master record (Totals)       Master record (Totals)
+	 *  above detail records         under detail records
+	 *
+	 *    Totals | 100                 Item   | 60
+	 *    Item   | 60                  Item   | 40
+	 *    Item   | 40                  Totals | 100
+	 * </pre></blockquote><hr>
+	 * @param detailProcessor the {@link ObjectRowListProcessor} that processes detail rows.
+	 */
+	public MasterDetailStreamProcessor(RowPlacement rowPlacement, ObjectRowListProcessor detailProcessor) {
+		super(rowPlacement, detailProcessor);
+	}
+
+	/**
+	 * Creates a MasterDetailStreamProcessor assuming master records are positioned above its detail records in the input.
+	 *
+	 * @param detailProcessor the {@link ObjectRowListProcessor} that processes detail rows.
+	 */
+	public MasterDetailStreamProcessor(ObjectRowListProcessor detailProcessor) {
+		super(RowPlacement.TOP, detailProcessor);
+	}
+}
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor;
+
+import com.univocity.parsers.annotations.helpers.*;
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.common.processor.core.*;
+
+/**
+ *
+ * A {@link RowProcessor} implementation for converting rows extracted from any implementation of {@link AbstractParser} into java objects,
+ * using a pool of worker threads to execute the conversions and validations of each row.
+ * <p>The class type of the object must contain the annotations provided in {@link com.univocity.parsers.annotations}.
+ *
+ * <p> For each row processed, a java bean instance of a given class will be created with its fields populated.
+ * <p> This instance will then be sent to the {@link ParallelBeanProcessor#beanProcessed(Object, Context)} method, in the same order of the input rows.
+ *
+ * @see AbstractParser
+ * @see RowProcessor
+ * @see AbstractParallelBeanProcessor
+ * @see BeanProcessor
+ *
+ * @param <T> the annotated class type.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ *
+ */
+public abstract class ParallelBeanProcessor<T> extends AbstractParallelBeanProcessor<T, ParsingContext> implements RowProcessor {
+
+	/**
+	 * Creates a processor for java beans of a given type, converting rows in as many threads as there are processors available.
+	 * @param beanType the class with its attributes mapped to fields of records parsed by an {@link AbstractParser} or written by an {@link AbstractWriter}.
+	 */
+	public ParallelBeanProcessor(Class<T> beanType) {
+		super(beanType, MethodFilter.ONLY_SETTERS);
+	}
+
+	/**
+	 * Creates a processor for java beans of a given type, converting rows in the given number of threads.
+	 * @param beanType the class with its attributes mapped to fields of records parsed by an {@link AbstractParser} or written by an {@link AbstractWriter}.
+	 * @param threadCount the number of threads that will convert rows into java beans.
+	 */
+	public ParallelBeanProcessor(Class<T> beanType, int threadCount) {
+		super(beanType, MethodFilter.ONLY_SETTERS, threadCount);
+	}
+
+	/**
+	 * Creates a processor for java beans of a given type, converting rows in the given number of threads.
+	 * @param beanType the class with its attributes mapped to fields of records parsed by an {@link AbstractParser} or written by an {@link AbstractWriter}.
+	 * @param threadCount the number of threads that will convert rows into java beans.
+	 * @param limit the limit of rows to be kept in memory, waiting for conversion or delivery, before the input parsing process is blocked.
+	 */
+	public ParallelBeanProcessor(Class<T> beanType, int threadCount, int limit) {
+		super(beanType, MethodFilter.ONLY_SETTERS, threadCount, limit);
+	}
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor;
+
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.common.processor.core.*;
+
+/**
+ * A {@link RowProcessor} implementation that stores values of selected columns in arrays of primitives.
+ * Each column is added with a {@link ColumnType} that determines how its values are parsed and stored.
+ *
+ * <p> At the end of the process, the user can access the values of each column using the methods {@link #getIntColumn(String)},
+ * {@link #getLongColumn(String)}, {@link #getDoubleColumn(String)}, {@link #getBooleanColumn(String)} and {@link #getDictionary(String)}.</p>
+ *
+ * <p><b>Note:</b> Storing the values of all columns may be memory intensive. For large inputs, use a {@link BatchedPrimitiveColumnProcessor} instead</p>
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see AbstractParser
+ * @see RowProcessor
+ * @see AbstractPrimitiveColumnProcessor
+ */
+public class PrimitiveColumnProcessor extends AbstractPrimitiveColumnProcessor<ParsingContext> implements RowProcessor {
+
+	/**
+	 * Constructs a primitive column processor, pre-allocating room for 1000 rows.
+	 */
+	public PrimitiveColumnProcessor() {
+		this(1000);
+	}
+
+	/**
+	 * Constructs a primitive column processor pre-allocating room for the expected number of rows to be processed
+	 *
+	 * @param expectedRowCount the expected number of rows to be processed
+	 */
+	public PrimitiveColumnProcessor(int expectedRowCount) {
+		super(expectedRowCount, 0);
+	}
+}
@@ -28,8 +28,9 @@ public abstract class AbstractInputValueSwitch<T extends Context> extends Abstra
 
 	private int columnIndex = -1;
 	private NormalizedString columnName = null;
-	private Switch[] switches = new Switch[0];
-	private Switch defaultSwitch = null;
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private Switch<T>[] switches = new Switch[0];
+	private Switch<T> defaultSwitch = null;
 	private String[] headers;
 	private int[] indexes;
 
@@ -49,6 +50,11 @@ public abstract class AbstractInputValueSwitch<T extends Context> extends Abstra
 
 	private Comparator<String> comparator = caseInsensitiveComparator;
 
+	private Map<String, Integer> valuePositions;
+	private int[] matcherPositions;
+	private String lastValue;
+	private Switch<T> lastMatch;
+
 	/**
 	 * Creates a switch that will analyze the first column of rows found in the input to determine which
 	 * {@link Processor} to use for each parsed row
@@ -91,6 +97,7 @@ public abstract class AbstractInputValueSwitch<T extends Context> extends Abstra
 	 */
 	public void setCaseSensitive(boolean caseSensitive) {
 		this.comparator = caseSensitive ? caseSensitiveComparator : caseInsensitiveComparator;
+		resetSwitchIndex();
 	}
 
 	/**
@@ -103,6 +110,7 @@ public abstract class AbstractInputValueSwitch<T extends Context> extends Abstra
 			throw new IllegalArgumentException("Comparator must not be null");
 		}
 		this.comparator = comparator;
+		resetSwitchIndex();
 	}
 
 	/**
@@ -112,7 +120,7 @@ public abstract class AbstractInputValueSwitch<T extends Context> extends Abstra
 	 * @param headersToUse the (optional) sequence of headers to assign to the {@link ParsingContext} of the given processor
 	 */
 	public void setDefaultSwitch(Processor<T> processor, String... headersToUse) {
-		defaultSwitch = new Switch(processor, headersToUse, null, null, null);
+		defaultSwitch = new Switch<T>(processor, headersToUse, null, null, null);
 	}
 
 	/**
@@ -121,7 +129,7 @@ public abstract class AbstractInputValueSwitch<T extends Context> extends Abstra
 	 * @param processor the default processor implementation
 	 */
 	public void setDefaultSwitch(Processor<T> processor) {
-		defaultSwitch = new Switch(processor, null, null, null, null);
+		defaultSwitch = new Switch<T>(processor, null, null, null, null);
 	}
 
 	/**
@@ -131,7 +139,7 @@ public abstract class AbstractInputValueSwitch<T extends Context> extends Abstra
 	 * @param indexesToUse the (optional) sequence of column indexes to assign to the {@link ParsingContext} of the given processor
 	 */
 	public void setDefaultSwitch(Processor<T> processor, int... indexesToUse) {
-		defaultSwitch = new Switch(processor, null, indexesToUse, null, null);
+		defaultSwitch = new Switch<T>(processor, null, indexesToUse, null, null);
 	}
 
 
@@ -150,8 +158,7 @@ public abstract class AbstractInputValueSwitch<T extends Context> extends Abstra
 	 * @param processor the processor implementation when the given value matches with the contents in the column provided in the constructor of this class.
 	 */
 	public void addSwitchForValue(String value, Processor<T> processor) {
-		switches = Arrays.copyOf(switches, switches.length + 1);
-		switches[switches.length - 1] = new Switch(processor, null, null, value, null);
+		addSwitch(new Switch<T>(processor, null, null, value, null));
 	}
 
 	/**
@@ -162,8 +169,7 @@ public abstract class AbstractInputValueSwitch<T extends Context> extends Abstra
 	 * @param headersToUse the (optional) sequence of headers to assign to the {@link ParsingContext} of the given processor
 	 */
 	public void addSwitchForValue(String value, Processor<T> processor, String... headersToUse) {
-		switches = Arrays.copyOf(switches, switches.length + 1);
-		switches[switches.length - 1] = new Switch(processor, headersToUse, null, value, null);
+		addSwitch(new Switch<T>(processor, headersToUse, null, value, null));
 	}
 
 
@@ -174,8 +180,7 @@ public abstract class AbstractInputValueSwitch<T extends Context> extends Abstra
 	 * @param processor the processor implementation when the given value matches with the contents in the column provided in the constructor of this class.
 	 */
 	public void addSwitchForValue(CustomMatcher matcher, Processor<T> processor) {
-		switches = Arrays.copyOf(switches, switches.length + 1);
-		switches[switches.length - 1] = new Switch(processor, null, null, null, matcher);
+		addSwitch(new Switch<T>(processor, null, null, null, matcher));
 	}
 
 	/**
@@ -186,8 +191,7 @@ public abstract class AbstractInputValueSwitch<T extends Context> extends Abstra
 	 * @param headersToUse the (optional) sequence of headers to assign to the {@link ParsingContext} of the given processor
 	 */
 	public void addSwitchForValue(CustomMatcher matcher, Processor<T> processor, String... headersToUse) {
-		switches = Arrays.copyOf(switches, switches.length + 1);
-		switches[switches.length - 1] = new Switch(processor, headersToUse, null, null, matcher);
+		addSwitch(new Switch<T>(processor, headersToUse, null, null, matcher));
 	}
 
 	/**
@@ -198,8 +202,7 @@ public abstract class AbstractInputValueSwitch<T extends Context> extends Abstra
 	 * @param indexesToUse the (optional) sequence of column indexes to assign to the {@link ParsingContext} of the given  processor
 	 */
 	public void addSwitchForValue(String value, Processor<T> processor, int... indexesToUse) {
-		switches = Arrays.copyOf(switches, switches.length + 1);
-		switches[switches.length - 1] = new Switch(processor, null, indexesToUse, value, null);
+		addSwitch(new Switch<T>(processor, null, indexesToUse, value, null));
 	}
 
 	/**
@@ -210,10 +213,21 @@ public abstract class AbstractInputValueSwitch<T extends Context> extends Abstra
 	 * @param indexesToUse the (optional) sequence of column indexes to assign to the {@link ParsingContext} of the given processor
 	 */
 	public void addSwitchForValue(CustomMatcher matcher, Processor<T> processor, int... indexesToUse) {
+		addSwitch(new Switch<T>(processor, null, indexesToUse, null, matcher));
+	}
+
+	private void addSwitch(Switch<T> s) {
 		switches = Arrays.copyOf(switches, switches.length + 1);
-		switches[switches.length - 1] = new Switch(processor, null, indexesToUse, null, matcher);
+		switches[switches.length - 1] = s;
+		resetSwitchIndex();
 	}
 
+	private void resetSwitchIndex() {
+		valuePositions = null;
+		matcherPositions = null;
+		lastValue = null;
+		lastMatch = null;
+	}
 
 	@Override
 	public String[] getHeaders() {
@@ -239,15 +253,11 @@ public abstract class AbstractInputValueSwitch<T extends Context> extends Abstra
 		}
 
 		if (columnIndex < row.length) {
-			String valueToMatch = row[columnIndex];
-
-			for (int i = 0; i < switches.length; i++) {
-				Switch s = switches[i];
-				if ((s.matcher != null && s.matcher.matches(valueToMatch)) || comparator.compare(valueToMatch, s.value) == 0) {
-					headers = s.headers;
-					indexes = s.indexes;
-					return s.processor;
-				}
+			Switch<T> s = findSwitch(row[columnIndex]);
+			if (s != null) {
+				headers = s.headers;
+				indexes = s.indexes;
+				return s.processor;
 			}
 		}
 		if (defaultSwitch != null) {
@@ -260,6 +270,89 @@ public abstract class AbstractInputValueSwitch<T extends Context> extends Abstra
 		throw new DataProcessingException("Unable to process input row. No switches activated and no default switch defined.", columnIndex, row, null);
 	}
 
+	/**
+	 * Finds the first switch, in the order they were added, that matches a given value. Switches for plain values are looked up by
+	 * value unless a custom {@link Comparator} has been provided, in which case all switches are tested one by one.
+	 *
+	 * @param valueToMatch the value in the column of the current input row.
+	 *
+	 * @return the matching switch, or {@code null} if no switch matches the given value.
+	 */
+	private Switch<T> findSwitch(String valueToMatch) {
+		if (valueToMatch == null || (comparator != caseSensitiveComparator && comparator != caseInsensitiveComparator)) {
+			for (int i = 0; i < switches.length; i++) {
+				Switch<T> s = switches[i];
+				if ((s.matcher != null && s.matcher.matches(valueToMatch)) || comparator.compare(valueToMatch, s.value) == 0) {
+					return s;
+				}
+			}
+			return null;
+		}
+
+		if (valueToMatch == lastValue || valueToMatch.equals(lastValue)) {
+			return lastMatch;
+		}
+
+		if (valuePositions == null) {
+			indexSwitches();
+		}
+
+		Integer position = valuePositions.get(comparator == caseSensitiveComparator ? valueToMatch : toCaseInsensitiveKey(valueToMatch));
+		int end = position == null ? switches.length : position;
+
+		//custom matchers added before the matching value take precedence.
+		for (int i = 0; i < matcherPositions.length && matcherPositions[i] < end; i++) {
+			Switch<T> s = switches[matcherPositions[i]];
+			if (s.matcher.matches(valueToMatch)) {
+				return s;
+			}
+		}
+
+		if (position == null) {
+			return null;
+		}
+
+		Switch<T> s = switches[position];
+		if (matcherPositions.length == 0 || matcherPositions[0] > position) {
+			lastValue = valueToMatch;
+			lastMatch = s;
+		}
+		return s;
+	}
+
+	private void indexSwitches() {
+		Map<String, Integer> positions = new HashMap<String, Integer>();
+		int[] matchers = new int[switches.length];
+		int matcherCount = 0;
+
+		for (int i = 0; i < switches.length; i++) {
+			Switch<T> s = switches[i];
+			if (s.matcher != null) {
+				matchers[matcherCount++] = i;
+			} else if (s.value != null) {
+				String key = comparator == caseSensitiveComparator ? s.value : toCaseInsensitiveKey(s.value);
+				if (!positions.containsKey(key)) {
+					positions.put(key, i);
+				}
+			}
+		}
+
+		matcherPositions = Arrays.copyOf(matchers, matcherCount);
+		valuePositions = positions;
+	}
+
+	/**
+	 * Folds the case of each character the same way {@link String#equalsIgnoreCase(String)} compares them, so that two strings
+	 * produce the same key if, and only if, they are equal ignoring case.
+	 */
+	private static String toCaseInsensitiveKey(String value) {
+		char[] chars = value.toCharArray();
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+		}
+		return new String(chars);
+	}
+
 	private static class Switch<T extends Context> {
 		final Processor<T> processor;
 		final String[] headers;
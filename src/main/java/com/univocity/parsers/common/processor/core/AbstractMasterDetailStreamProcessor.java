@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor.core;
+
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.common.processor.*;
+import com.univocity.parsers.conversions.*;
+
+import java.util.*;
+
+/**
+ *
+ * A {@link Processor} implementation for associating rows extracted from any implementation of {@link AbstractParser} with their
+ * master rows as they are parsed, without collecting all detail rows of a master row in memory.
+ *
+ * <p> For each row processed, a call to {@link AbstractMasterDetailStreamProcessor#isMasterRecord(String[], Context)} will be made to identify whether or not it is a master row.
+ * <p> Each master row is sent to {@link #masterStarted(Object[], Context)}, followed by each one of its detail rows, sent to
+ * {@link #detailProcessed(Object[], Context)}, and finally to {@link #masterEnded(Object[], Context)}.
+ * <p> If the master rows are placed above their detail rows in the input ({@link RowPlacement#TOP}), the detail rows are sent
+ * to the user as soon as they are parsed. Otherwise the detail rows must be held until their master row is parsed. Once the number of
+ * detail rows held reaches the limit given by {@link #setMaxDetailRowsInMemory(int)}, they are written to a temporary file. In this case all
+ * values produced by the detail processor must be {@link java.io.Serializable}.
+ *
+ * <p> <b>Note</b> this class extends {@link AbstractObjectProcessor} and value conversions provided by {@link Conversion} instances are fully supported.
+ *
+ * @see AbstractMasterDetailProcessor
+ * @see RowPlacement
+ * @see AbstractParser
+ * @see ObjectRowListProcessor
+ * @see Processor
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ *
+ */
+public abstract class AbstractMasterDetailStreamProcessor<T extends Context> extends AbstractObjectProcessor<T> {
+
+	private final AbstractObjectListProcessor<T> detailProcessor;
+	private final boolean isMasterRowAboveDetail;
+	private Object[] masterRow;
+	private DetailRowBuffer detailRows;
+	private int maxDetailRowsInMemory = Integer.MAX_VALUE;
+
+	/**
+	 * Creates a MasterDetailStreamProcessor
+	 *
+	 * @param rowPlacement indication whether the master records are placed in relation its detail records in the input.
+	 *
+	 * <hr><blockquote><pre>
+	 *
+	 * Master record (Totals)       Master record (Totals)
+	 *  above detail records         under detail records
+	 *
+	 *    Totals | 100                 Item   | 60
+	 *    Item   | 60                  Item   | 40
+	 *    Item   | 40                  Totals | 100
+	 * </pre></blockquote><hr>
+	 * @param detailProcessor the {@link ObjectRowListProcessor} that processes detail rows.
+	 */
+	public AbstractMasterDetailStreamProcessor(RowPlacement rowPlacement, AbstractObjectListProcessor<T> detailProcessor) {
+		ArgumentUtils.noNulls("Row processor for reading detail rows", (Object) detailProcessor);
+		this.detailProcessor = detailProcessor;
+		this.isMasterRowAboveDetail = rowPlacement == RowPlacement.TOP;
+	}
+
+	/**
+	 * Creates a MasterDetailStreamProcessor assuming master records are positioned above its detail records in the input.
+	 *
+	 * @param detailProcessor the {@link AbstractObjectListProcessor} that processes detail rows.
+	 */
+	public AbstractMasterDetailStreamProcessor(AbstractObjectListProcessor<T> detailProcessor) {
+		this(RowPlacement.TOP, detailProcessor);
+	}
+
+	/**
+	 * Returns the maximum number of detail rows to hold in memory while waiting for their master row, when master rows are
+	 * placed under their detail rows in the input. Further detail rows are written to a temporary file.
+	 *
+	 * Defaults to {@link Integer#MAX_VALUE}
+	 *
+	 * @return the maximum number of detail rows to keep in memory.
+	 */
+	public final int getMaxDetailRowsInMemory() {
+		return maxDetailRowsInMemory;
+	}
+
+	/**
+	 * Defines the maximum number of detail rows to hold in memory while waiting for their master row, when master rows are
+	 * placed under their detail rows in the input. Further detail rows are written to a temporary file.
+	 *
+	 * Defaults to {@link Integer#MAX_VALUE}
+	 *
+	 * @param maxDetailRowsInMemory the maximum number of detail rows to keep in memory.
+	 */
+	public final void setMaxDetailRowsInMemory(int maxDetailRowsInMemory) {
+		if (maxDetailRowsInMemory <= 0) {
+			throw new IllegalArgumentException("Maximum number of detail rows in memory must be positive");
+		}
+		this.maxDetailRowsInMemory = maxDetailRowsInMemory;
+	}
+
+	@Override
+	public void processStarted(T context) {
+		super.processStarted(context);
+		detailProcessor.processStarted(context);
+		masterRow = null;
+		if (!isMasterRowAboveDetail) {
+			detailRows = new DetailRowBuffer(maxDetailRowsInMemory);
+		}
+	}
+
+	/**
+	 * Invoked by the parser after all values of a valid record have been processed.
+	 *
+	 * <p>This method will then try to identify whether the given record is a master record.
+	 * <p>If it is, any conversions applied to the fields of the master record will be executed;
+	 * <p>Otherwise, the parsed row will be delegated to the {@link AbstractMasterDetailStreamProcessor#detailProcessor} given in the constructor,
+	 * and the resulting detail row will either be sent to {@link #detailProcessed(Object[], Context)} or held until its master row is parsed.
+	 *
+	 * @param row the data extracted by the parser for an individual record.
+	 * @param context A contextual object with information and controls over the current state of the parsing process
+	 */
+	@Override
+	public final void rowProcessed(String[] row, T context) {
+		if (isMasterRecord(row, context)) {
+			super.rowProcessed(row, context);
+		} else {
+			if (isMasterRowAboveDetail && masterRow == null) {
+				return;
+			}
+			detailProcessor.rowProcessed(row, context);
+
+			List<Object[]> rows = detailProcessor.getRows();
+			for (int i = 0; i < rows.size(); i++) {
+				if (isMasterRowAboveDetail) {
+					detailProcessed(rows.get(i), context);
+				} else {
+					detailRows.add(rows.get(i));
+				}
+			}
+			rows.clear();
+		}
+	}
+
+	/**
+	 * Invoked by the parser after all values of a valid master record have been processed and any conversions have been executed.
+	 *
+	 * @param row the data extracted by the parser for an individual record.
+	 * @param context A contextual object with information and controls over the current state of the parsing process
+	 */
+	@Override
+	public final void rowProcessed(Object[] row, T context) {
+		if (isMasterRowAboveDetail) {
+			if (masterRow != null) {
+				masterEnded(masterRow, context);
+			}
+			masterRow = row;
+			masterStarted(row, context);
+		} else {
+			masterStarted(row, context);
+			for (Object[] detailRow : detailRows) {
+				detailProcessed(detailRow, context);
+			}
+			detailRows.clear();
+			masterEnded(row, context);
+		}
+	}
+
+	@Override
+	public void processEnded(T context) {
+		try {
+			super.processEnded(context);
+			detailProcessor.processEnded(context);
+
+			if (masterRow != null) {
+				masterEnded(masterRow, context);
+			}
+		} finally {
+			masterRow = null;
+			if (detailRows != null) {
+				detailRows.clear();
+				detailRows = null;
+			}
+		}
+	}
+
+	/**
+	 * Queries whether or not the given row is a master record.
+	 * @param row the data extracted by the parser for an individual record.
+	 * @param context A contextual object with information and controls over the current state of the parsing process
+	 * @return true if the row is a master record, false if it is a detail record.
+	 */
+	protected abstract boolean isMasterRecord(String[] row, T context);
+
+	/**
+	 * Invoked by the processor when a master row is processed, before any of its detail rows.
+	 *
+	 * @param masterRow the master row, after any conversions have been executed.
+	 * @param context A contextual object with information and controls over the current state of the parsing process
+	 */
+	protected abstract void masterStarted(Object[] masterRow, T context);
+
+	/**
+	 * Invoked by the processor for each detail row of the current master row.
+	 *
+	 * @param detailRow the detail row, after any conversions defined in the detail processor have been executed.
+	 * @param context A contextual object with information and controls over the current state of the parsing process
+	 */
+	protected abstract void detailProcessed(Object[] detailRow, T context);
+
+	/**
+	 * Invoked by the processor after all detail rows of a master row have been processed.
+	 *
+	 * @param masterRow the master row, after any conversions have been executed.
+	 * @param context A contextual object with information and controls over the current state of the parsing process
+	 */
+	protected abstract void masterEnded(Object[] masterRow, T context);
+}
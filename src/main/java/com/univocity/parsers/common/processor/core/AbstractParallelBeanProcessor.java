@@ -0,0 +1,278 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor.core;
+
+import com.univocity.parsers.annotations.*;
+import com.univocity.parsers.annotations.helpers.*;
+import com.univocity.parsers.common.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * A {@link Processor} implementation for converting rows extracted from any implementation of {@link AbstractParser} into java objects,
+ * using a pool of worker threads to execute the conversions and validations defined for each field of the java bean.
+ *
+ * <p> Rows are collected by the parsing thread and handed over to the worker threads in batches. Each worker thread keeps its own set of
+ * conversions created from the annotations of the java bean class, as these are generally not thread-safe. Conversions registered
+ * programmatically (e.g. using {@link #convertFields(Conversion...)}) are shared among all worker threads and must be thread-safe.
+ *
+ * <p> The resulting java bean instances are sent to the {@link AbstractParallelBeanProcessor#beanProcessed(Object, Context)} method
+ * in the parsing thread, in the same order of the input rows. If the conversion of a row fails in a worker thread, the row is converted again
+ * in the parsing thread so that errors are reported to the {@link ProcessorErrorHandler} exactly as they would by an
+ * {@link AbstractBeanProcessor}.
+ *
+ * <i>Note: </i> the {@link Context} object passed on to {@link #beanProcessed(Object, Context)} will <b>not</b> reflect the
+ * state of the parser at the time the row was generated, but the current state of the parser instead.
+ *
+ * @param <T> the annotated class type.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see AbstractParser
+ * @see Processor
+ * @see AbstractBeanProcessor
+ */
+public abstract class AbstractParallelBeanProcessor<T, C extends Context> extends BeanConversionProcessor<T> implements Processor<C> {
+
+	private static final int MAX_BATCH_SIZE = 256;
+	private static final Object FAILED = new Object();
+
+	private final int threadCount;
+	private final int limit;
+	private final int batchSize;
+
+	private Converter<T> configuration;
+	private ThreadLocal<Converter<T>> converters;
+	private ExecutorService executor;
+	private Queue<Batch> pending;
+	private Batch batch;
+
+	/**
+	 * Creates a processor for java beans of a given type, converting rows in as many threads as there are processors available.
+	 *
+	 * @param beanType     the class with its attributes mapped to fields of records parsed by an {@link AbstractParser} or written by an {@link AbstractWriter}.
+	 * @param methodFilter filter to apply over annotated methods when the processor is reading data from beans (to write values to an output)
+	 *                     or writing values into beans (when parsing). It is used to choose either a "get" or a "set"
+	 *                     method annotated with {@link Parsed}, when both methods target the same field.
+	 */
+	public AbstractParallelBeanProcessor(Class<T> beanType, MethodFilter methodFilter) {
+		this(beanType, methodFilter, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates a processor for java beans of a given type, converting rows in the given number of threads.
+	 *
+	 * @param beanType     the class with its attributes mapped to fields of records parsed by an {@link AbstractParser} or written by an {@link AbstractWriter}.
+	 * @param methodFilter filter to apply over annotated methods when the processor is reading data from beans (to write values to an output)
+	 *                     or writing values into beans (when parsing). It is used to choose either a "get" or a "set"
+	 *                     method annotated with {@link Parsed}, when both methods target the same field.
+	 * @param threadCount  the number of threads that will convert rows into java beans.
+	 */
+	public AbstractParallelBeanProcessor(Class<T> beanType, MethodFilter methodFilter, int threadCount) {
+		this(beanType, methodFilter, threadCount, threadCount * MAX_BATCH_SIZE * 2);
+	}
+
+	/**
+	 * Creates a processor for java beans of a given type, converting rows in the given number of threads.
+	 *
+	 * @param beanType     the class with its attributes mapped to fields of records parsed by an {@link AbstractParser} or written by an {@link AbstractWriter}.
+	 * @param methodFilter filter to apply over annotated methods when the processor is reading data from beans (to write values to an output)
+	 *                     or writing values into beans (when parsing). It is used to choose either a "get" or a "set"
+	 *                     method annotated with {@link Parsed}, when both methods target the same field.
+	 * @param threadCount  the number of threads that will convert rows into java beans.
+	 * @param limit        the limit of rows to be kept in memory, waiting for conversion or delivery, before the input parsing process is blocked.
+	 */
+	public AbstractParallelBeanProcessor(Class<T> beanType, MethodFilter methodFilter, int threadCount, int limit) {
+		super(beanType, methodFilter);
+		if (threadCount <= 0) {
+			throw new IllegalArgumentException("Number of threads must be positive");
+		}
+		if (limit <= 0) {
+			throw new IllegalArgumentException("Limit of rows in memory must be positive");
+		}
+		this.threadCount = threadCount;
+		this.limit = limit;
+		this.batchSize = Math.max(1, Math.min(MAX_BATCH_SIZE, limit / (threadCount * 2)));
+	}
+
+	/**
+	 * Returns the number of threads used to convert rows into java beans.
+	 *
+	 * @return the number of conversion threads.
+	 */
+	public final int getThreadCount() {
+		return threadCount;
+	}
+
+	/**
+	 * Returns the limit of rows to be kept in memory, waiting for conversion or delivery, before the input parsing process is blocked.
+	 *
+	 * @return the maximum number of rows in memory.
+	 */
+	public final int getLimit() {
+		return limit;
+	}
+
+	@Override
+	public void processStarted(final C context) {
+		if (configuration == null) {
+			configuration = new Converter<T>(this);
+		}
+		super.initialize(NormalizedString.toArray(context.headers()));
+
+		final NormalizedString[] headers = NormalizedString.toArray(context.headers());
+		converters = new ThreadLocal<Converter<T>>() {
+			@Override
+			protected Converter<T> initialValue() {
+				return new Converter<T>(configuration, AbstractParallelBeanProcessor.this, headers);
+			}
+		};
+		executor = Executors.newFixedThreadPool(threadCount, new ThreadFactory() {
+			private final AtomicInteger count = new AtomicInteger();
+
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, "unVocity-parsers bean conversion thread " + count.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		pending = new ArrayDeque<Batch>();
+		batch = null;
+	}
+
+	/**
+	 * Collects a parsed row to be converted into a java object by one of the worker threads, and delivers the java objects
+	 * already converted.
+	 */
+	@Override
+	public final void rowProcessed(String[] row, C context) {
+		if (batch == null) {
+			batch = new Batch(context);
+		}
+		//the parser may reuse the row array (see CommonParserSettings.setRowArrayReuseEnabled), so workers get a copy.
+		batch.rows[batch.size++] = row.clone();
+		if (batch.size == batchSize) {
+			batch.submit();
+			batch = null;
+		}
+
+		while (!pending.isEmpty() && (pending.size() * batchSize > limit || pending.peek().result.isDone())) {
+			deliver(pending.poll(), context);
+		}
+	}
+
+	private void deliver(Batch batch, C context) {
+		Object[] beans;
+		try {
+			beans = batch.result.get();
+		} catch (ExecutionException e) {
+			throw new DataProcessingException("Error converting rows into instances of '" + getBeanClass().getName() + '\'', e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DataProcessingException("Interrupted while waiting for rows to be converted into instances of '" + getBeanClass().getName() + '\'', e);
+		}
+
+		for (int i = 0; i < batch.size; i++) {
+			Object bean = beans[i];
+			if (bean == FAILED) {
+				bean = createBean(batch.rows[i], context);
+			}
+			if (bean != null) {
+				beanProcessed((T) bean, context);
+			}
+		}
+	}
+
+	/**
+	 * Invoked by the processor after all values of a valid record have been processed and converted into a java object.
+	 *
+	 * @param bean    java object created with the information extracted by the parser for an individual record.
+	 * @param context A contextual object with information and controls over the current state of the parsing process
+	 */
+	public abstract void beanProcessed(T bean, C context);
+
+	/**
+	 * Converts any rows still collected and delivers all remaining java objects before stopping the worker threads.
+	 */
+	@Override
+	public void processEnded(C context) {
+		if (executor == null) {
+			return;
+		}
+		try {
+			if (batch != null) {
+				batch.submit();
+				batch = null;
+			}
+			while (!pending.isEmpty()) {
+				deliver(pending.poll(), context);
+			}
+		} finally {
+			executor.shutdownNow();
+			executor = null;
+			converters = null;
+			pending = null;
+		}
+	}
+
+	private final class Batch implements Callable<Object[]> {
+		final String[][] rows = new String[batchSize][];
+		final ThreadLocal<Converter<T>> converters = AbstractParallelBeanProcessor.this.converters;
+		final C context;
+		int size;
+		Future<Object[]> result;
+
+		Batch(C context) {
+			this.context = context;
+		}
+
+		void submit() {
+			result = executor.submit(this);
+			pending.add(this);
+		}
+
+		@Override
+		public Object[] call() {
+			Converter<T> converter = converters.get();
+			Object[] beans = new Object[size];
+			for (int i = 0; i < size; i++) {
+				try {
+					beans[i] = converter.createBean(rows[i], context);
+				} catch (Throwable e) {
+					beans[i] = FAILED;
+				}
+			}
+			return beans;
+		}
+	}
+
+	private static final class Converter<T> extends BeanConversionProcessor<T> {
+
+		Converter(BeanConversionProcessor<T> source) {
+			super(source.getBeanClass(), null, source.methodFilter);
+			copyConversions(source);
+		}
+
+		Converter(Converter<T> configuration, BeanConversionProcessor<T> settings, NormalizedString[] headers) {
+			this(configuration);
+			setColumnMapper(settings.getColumnMapper());
+			setStrictHeaderValidationEnabled(settings.isStrictHeaderValidationEnabled());
+			initialize(headers);
+		}
+	}
+}
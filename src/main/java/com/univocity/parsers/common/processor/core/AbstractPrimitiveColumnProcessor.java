@@ -0,0 +1,488 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor.core;
+
+import com.univocity.parsers.common.*;
+
+import java.util.*;
+
+/**
+ * A {@link Processor} implementation that stores values of selected columns in arrays of primitives, avoiding the boxing of every value
+ * performed by {@link AbstractColumnProcessor} and {@link AbstractObjectColumnProcessor}.
+ *
+ * <p> Each column to be stored must be added with {@link #addColumn(String, ColumnType)} or {@link #addColumn(int, ColumnType)} before the process
+ * starts. Values of each column are parsed as the given {@link ColumnType} directly into a growable array. Null values are stored as
+ * {@code 0} (or {@code false}), and can be identified with {@link #isNull(String, int)}. String values of {@link ColumnType#DICTIONARY} columns are
+ * stored as codes that index the distinct values found in the column.
+ *
+ * <p> Values that can't be parsed as the type of their column produce a {@link DataProcessingException}, which is handled by the
+ * {@link ProcessorErrorHandler} of the parser. Rows that produce errors are not stored.
+ *
+ * <p> If a number of rows per batch is given, the {@link #batchProcessed(int)} method will be invoked after that number of rows has been processed,
+ * and values will be discarded afterwards. The arrays of each column are reused by subsequent batches.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see AbstractColumnProcessor
+ * @see AbstractBatchedColumnProcessor
+ * @see Processor
+ */
+public abstract class AbstractPrimitiveColumnProcessor<T extends Context> implements Processor<T> {
+
+	/**
+	 * The types of values that can be stored by a {@link AbstractPrimitiveColumnProcessor}
+	 */
+	public enum ColumnType {
+		/**
+		 * Values parsed with {@link Integer#parseInt(String)} into an {@code int[]}
+		 */
+		INT,
+		/**
+		 * Values parsed with {@link Long#parseLong(String)} into a {@code long[]}
+		 */
+		LONG,
+		/**
+		 * Values parsed with {@link Double#parseDouble(String)} into a {@code double[]}
+		 */
+		DOUBLE,
+		/**
+		 * Values "true" or "false" (case insensitive) stored in a {@code boolean[]}
+		 */
+		BOOLEAN,
+		/**
+		 * String values stored as {@code int} codes, each code being the position of the value in the dictionary of distinct values of the column.
+		 */
+		DICTIONARY
+	}
+
+	private final int initialCapacity;
+	private final int rowsPerBatch;
+	private final List<PrimitiveColumn> columns = new ArrayList<PrimitiveColumn>();
+	private boolean columnsResolved;
+	private int rowCount;
+	private int batchesProcessed;
+
+	/**
+	 * Constructs a primitive column processor
+	 *
+	 * @param initialCapacity the number of rows each column can hold before its array needs to grow.
+	 * @param rowsPerBatch    the number of rows to process in each batch, or {@code 0} to store the values of all rows.
+	 */
+	protected AbstractPrimitiveColumnProcessor(int initialCapacity, int rowsPerBatch) {
+		if (rowsPerBatch < 0) {
+			throw new IllegalArgumentException("Rows per batch cannot be negative");
+		}
+		this.rowsPerBatch = rowsPerBatch;
+		this.initialCapacity = rowsPerBatch > 0 ? rowsPerBatch : Math.max(16, initialCapacity);
+	}
+
+	/**
+	 * Adds a column to be stored by this processor
+	 *
+	 * @param columnName the name of the column, as found in the headers of the input.
+	 * @param type       the type of values stored for the column
+	 */
+	public final void addColumn(String columnName, ColumnType type) {
+		ArgumentUtils.noNulls("Column name", columnName);
+		addColumn(new PrimitiveColumn(columnName, -1, type));
+	}
+
+	/**
+	 * Adds a column to be stored by this processor
+	 *
+	 * @param columnIndex the position of the column in each row.
+	 * @param type        the type of values stored for the column
+	 */
+	public final void addColumn(int columnIndex, ColumnType type) {
+		if (columnIndex < 0) {
+			throw new IllegalArgumentException("Column index must be positive");
+		}
+		addColumn(new PrimitiveColumn(null, columnIndex, type));
+	}
+
+	private void addColumn(PrimitiveColumn column) {
+		if (column.type == null) {
+			throw new IllegalArgumentException("Column type cannot be null");
+		}
+		columns.add(column);
+		columnsResolved = false;
+	}
+
+	@Override
+	public void processStarted(T context) {
+		rowCount = 0;
+		batchesProcessed = 0;
+		columnsResolved = false;
+		for (PrimitiveColumn column : columns) {
+			column.reset(initialCapacity);
+		}
+	}
+
+	@Override
+	public void rowProcessed(String[] row, T context) {
+		if (!columnsResolved) {
+			for (PrimitiveColumn column : columns) {
+				column.resolve(context);
+			}
+			columnsResolved = true;
+		}
+
+		final int position = rowCount;
+		int i = 0;
+		try {
+			for (; i < columns.size(); i++) {
+				PrimitiveColumn column = columns.get(i);
+				column.store(position, column.index < row.length ? row[column.index] : null);
+			}
+		} catch (NumberFormatException e) {
+			PrimitiveColumn column = columns.get(i);
+			DataProcessingException exception = new DataProcessingException("Cannot parse '{value}' of column '" + column + "' as " + column.type, column.index, row, e);
+			exception.setValue(row[column.index]);
+			exception.markAsNonFatal();
+			throw exception;
+		} catch (DataProcessingException e) {
+			e.setColumnIndex(columns.get(i).index);
+			e.setRow(row);
+			e.markAsNonFatal();
+			throw e;
+		}
+
+		rowCount++;
+		if (rowsPerBatch > 0 && rowCount >= rowsPerBatch) {
+			batchProcessed(rowCount);
+			batchesProcessed++;
+			rowCount = 0;
+			for (PrimitiveColumn column : columns) {
+				column.nulls.clear();
+			}
+		}
+	}
+
+	@Override
+	public void processEnded(T context) {
+		if (rowsPerBatch > 0 && rowCount > 0) {
+			batchProcessed(rowCount);
+			batchesProcessed++;
+		}
+	}
+
+	/**
+	 * Invoked after a batch of rows has been processed, if a number of rows per batch has been defined. Values stored in each column are discarded after
+	 * this method returns.
+	 *
+	 * @param rowsInThisBatch the number of rows stored in each column.
+	 */
+	protected void batchProcessed(int rowsInThisBatch) {
+	}
+
+	/**
+	 * Returns the number of rows stored in each column. Arrays returned by this processor may be longer than the number of rows stored, in which case
+	 * positions after the last row have no meaningful values.
+	 *
+	 * @return the number of rows stored.
+	 */
+	public final int getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * Returns the number of batches processed so far.
+	 *
+	 * @return the number of batches processed.
+	 */
+	public final int getBatchesProcessed() {
+		return batchesProcessed;
+	}
+
+	/**
+	 * Returns the values of a column of type {@link ColumnType#INT} or {@link ColumnType#DICTIONARY}.
+	 *
+	 * @param columnName the name of the column, as given to {@link #addColumn(String, ColumnType)}
+	 *
+	 * @return the array of values stored for the column.
+	 */
+	public final int[] getIntColumn(String columnName) {
+		return getColumn(columnName, ColumnType.INT, ColumnType.DICTIONARY).ints;
+	}
+
+	/**
+	 * Returns the values of a column of type {@link ColumnType#INT} or {@link ColumnType#DICTIONARY}.
+	 *
+	 * @param columnIndex the index of the column, as given to {@link #addColumn(int, ColumnType)}
+	 *
+	 * @return the array of values stored for the column.
+	 */
+	public final int[] getIntColumn(int columnIndex) {
+		return getColumn((Object) columnIndex, ColumnType.INT, ColumnType.DICTIONARY).ints;
+	}
+
+	/**
+	 * Returns the values of a column of type {@link ColumnType#LONG}.
+	 *
+	 * @param columnName the name of the column, as given to {@link #addColumn(String, ColumnType)}
+	 *
+	 * @return the array of values stored for the column.
+	 */
+	public final long[] getLongColumn(String columnName) {
+		return getColumn(columnName, ColumnType.LONG, null).longs;
+	}
+
+	/**
+	 * Returns the values of a column of type {@link ColumnType#LONG}.
+	 *
+	 * @param columnIndex the index of the column, as given to {@link #addColumn(int, ColumnType)}
+	 *
+	 * @return the array of values stored for the column.
+	 */
+	public final long[] getLongColumn(int columnIndex) {
+		return getColumn((Object) columnIndex, ColumnType.LONG, null).longs;
+	}
+
+	/**
+	 * Returns the values of a column of type {@link ColumnType#DOUBLE}.
+	 *
+	 * @param columnName the name of the column, as given to {@link #addColumn(String, ColumnType)}
+	 *
+	 * @return the array of values stored for the column.
+	 */
+	public final double[] getDoubleColumn(String columnName) {
+		return getColumn(columnName, ColumnType.DOUBLE, null).doubles;
+	}
+
+	/**
+	 * Returns the values of a column of type {@link ColumnType#DOUBLE}.
+	 *
+	 * @param columnIndex the index of the column, as given to {@link #addColumn(int, ColumnType)}
+	 *
+	 * @return the array of values stored for the column.
+	 */
+	public final double[] getDoubleColumn(int columnIndex) {
+		return getColumn((Object) columnIndex, ColumnType.DOUBLE, null).doubles;
+	}
+
+	/**
+	 * Returns the values of a column of type {@link ColumnType#BOOLEAN}.
+	 *
+	 * @param columnName the name of the column, as given to {@link #addColumn(String, ColumnType)}
+	 *
+	 * @return the array of values stored for the column.
+	 */
+	public final boolean[] getBooleanColumn(String columnName) {
+		return getColumn(columnName, ColumnType.BOOLEAN, null).booleans;
+	}
+
+	/**
+	 * Returns the values of a column of type {@link ColumnType#BOOLEAN}.
+	 *
+	 * @param columnIndex the index of the column, as given to {@link #addColumn(int, ColumnType)}
+	 *
+	 * @return the array of values stored for the column.
+	 */
+	public final boolean[] getBooleanColumn(int columnIndex) {
+		return getColumn((Object) columnIndex, ColumnType.BOOLEAN, null).booleans;
+	}
+
+	/**
+	 * Returns the distinct values of a column of type {@link ColumnType#DICTIONARY}, indexed by the codes returned by {@link #getIntColumn(String)}.
+	 * The dictionary of a column is kept between batches, so codes identify the same values across all batches.
+	 *
+	 * @param columnName the name of the column, as given to {@link #addColumn(String, ColumnType)}
+	 *
+	 * @return the distinct values of the column.
+	 */
+	public final String[] getDictionary(String columnName) {
+		return getColumn(columnName, ColumnType.DICTIONARY, null).dictionaryValues.toArray(new String[0]);
+	}
+
+	/**
+	 * Returns the distinct values of a column of type {@link ColumnType#DICTIONARY}, indexed by the codes returned by {@link #getIntColumn(String)}.
+	 * The dictionary of a column is kept between batches, so codes identify the same values across all batches.
+	 *
+	 * @param columnIndex the index of the column, as given to {@link #addColumn(int, ColumnType)}
+	 *
+	 * @return the distinct values of the column.
+	 */
+	public final String[] getDictionary(int columnIndex) {
+		return getColumn((Object) columnIndex, ColumnType.DICTIONARY, null).dictionaryValues.toArray(new String[0]);
+	}
+
+	/**
+	 * Tests whether the value of a column in a given row is null.
+	 *
+	 * @param columnName the name of the column, as given to {@link #addColumn(String, ColumnType)}
+	 * @param row        the row whose value will be tested.
+	 *
+	 * @return {@code true} if the value is null, otherwise {@code false}
+	 */
+	public final boolean isNull(String columnName, int row) {
+		return isNull(getColumn(columnName, null, null), row);
+	}
+
+	/**
+	 * Tests whether the value of a column in a given row is null.
+	 *
+	 * @param columnIndex the index of the column, as given to {@link #addColumn(int, ColumnType)}
+	 * @param row         the row whose value will be tested.
+	 *
+	 * @return {@code true} if the value is null, otherwise {@code false}
+	 */
+	public final boolean isNull(int columnIndex, int row) {
+		return isNull(getColumn((Object) columnIndex, null, null), row);
+	}
+
+	private boolean isNull(PrimitiveColumn column, int row) {
+		if (row >= rowCount) {
+			throw new IndexOutOfBoundsException("Row " + row + " not available. Row count: " + rowCount);
+		}
+		return column.nulls.get(row);
+	}
+
+	private PrimitiveColumn getColumn(Object column, ColumnType type, ColumnType alternativeType) {
+		for (PrimitiveColumn c : columns) {
+			if (column instanceof Integer ? c.name == null && c.declaredIndex == (Integer) column : column != null && column.equals(c.name)) {
+				if (type != null && c.type != type && c.type != alternativeType) {
+					throw new IllegalArgumentException("Column '" + column + "' is of type " + c.type);
+				}
+				return c;
+			}
+		}
+		throw new IllegalArgumentException("Column '" + column + "' was not added to this processor");
+	}
+
+	private static final class PrimitiveColumn {
+		final String name;
+		final ColumnType type;
+		final int declaredIndex;
+		int index;
+
+		int[] ints;
+		long[] longs;
+		double[] doubles;
+		boolean[] booleans;
+		final BitSet nulls = new BitSet();
+		Map<String, Integer> dictionary;
+		List<String> dictionaryValues;
+
+		PrimitiveColumn(String name, int index, ColumnType type) {
+			this.name = name;
+			this.declaredIndex = index;
+			this.index = index;
+			this.type = type;
+		}
+
+		void reset(int capacity) {
+			ints = null;
+			longs = null;
+			doubles = null;
+			booleans = null;
+			nulls.clear();
+			switch (type) {
+				case LONG:
+					longs = new long[capacity];
+					break;
+				case DOUBLE:
+					doubles = new double[capacity];
+					break;
+				case BOOLEAN:
+					booleans = new boolean[capacity];
+					break;
+				case DICTIONARY:
+					dictionary = new HashMap<String, Integer>();
+					dictionaryValues = new ArrayList<String>();
+					ints = new int[capacity];
+					break;
+				default:
+					ints = new int[capacity];
+			}
+		}
+
+		void resolve(Context context) {
+			if (name != null) {
+				index = context.indexOf(name);
+				if (index == -1) {
+					throw new DataProcessingException("Column '" + name + "' not found in headers " + Arrays.toString(context.headers()));
+				}
+			} else {
+				index = declaredIndex;
+			}
+		}
+
+		void store(int position, String value) {
+			switch (type) {
+				case INT:
+					if (position == ints.length) {
+						ints = Arrays.copyOf(ints, grow(position));
+					}
+					ints[position] = value == null ? 0 : Integer.parseInt(value);
+					break;
+				case LONG:
+					if (position == longs.length) {
+						longs = Arrays.copyOf(longs, grow(position));
+					}
+					longs[position] = value == null ? 0L : Long.parseLong(value);
+					break;
+				case DOUBLE:
+					if (position == doubles.length) {
+						doubles = Arrays.copyOf(doubles, grow(position));
+					}
+					doubles[position] = value == null ? 0.0 : Double.parseDouble(value);
+					break;
+				case BOOLEAN:
+					if (position == booleans.length) {
+						booleans = Arrays.copyOf(booleans, grow(position));
+					}
+					booleans[position] = value != null && parseBoolean(value);
+					break;
+				case DICTIONARY:
+					if (position == ints.length) {
+						ints = Arrays.copyOf(ints, grow(position));
+					}
+					ints[position] = value == null ? 0 : encode(value);
+					break;
+			}
+			nulls.set(position, value == null);
+		}
+
+		private static int grow(int length) {
+			return length + (length >> 1) + 16;
+		}
+
+		private static boolean parseBoolean(String value) {
+			if ("true".equalsIgnoreCase(value)) {
+				return true;
+			} else if ("false".equalsIgnoreCase(value)) {
+				return false;
+			}
+			DataProcessingException exception = new DataProcessingException("Unable to convert '{value}' to boolean. Allowed Strings are 'true' and 'false'");
+			exception.setValue(value);
+			throw exception;
+		}
+
+		private int encode(String value) {
+			Integer code = dictionary.get(value);
+			if (code == null) {
+				code = dictionaryValues.size();
+				dictionary.put(value, code);
+				dictionaryValues.add(value);
+			}
+			return code;
+		}
+
+		@Override
+		public String toString() {
+			return name != null ? name : String.valueOf(declaredIndex);
+		}
+	}
+}
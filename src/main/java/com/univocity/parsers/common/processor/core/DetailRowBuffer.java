@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor.core;
+
+import com.univocity.parsers.common.*;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Holds the detail rows collected before their master row is found in the input. Once the number of rows held in memory reaches
+ * a given limit, they are serialized into a temporary file, which is read back when the rows are iterated over.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see AbstractMasterDetailStreamProcessor
+ */
+final class DetailRowBuffer implements Iterable<Object[]> {
+
+	private final int maxRowsInMemory;
+	private final List<Object[]> rows = new ArrayList<Object[]>();
+
+	private File file;
+	private ObjectOutputStream out;
+	private ObjectInputStream in;
+	private int rowsInFile;
+
+	DetailRowBuffer(int maxRowsInMemory) {
+		this.maxRowsInMemory = maxRowsInMemory;
+	}
+
+	void add(Object[] row) {
+		if (rows.size() >= maxRowsInMemory) {
+			spill();
+		}
+		rows.add(row);
+	}
+
+	private void spill() {
+		try {
+			if (out == null) {
+				file = File.createTempFile("univocity-detail-rows", ".tmp");
+				file.deleteOnExit();
+				out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+			}
+			for (Object[] row : rows) {
+				out.writeObject(row);
+				out.reset();
+			}
+			rowsInFile += rows.size();
+			rows.clear();
+		} catch (IOException e) {
+			throw new DataProcessingException("Unable to write detail rows to temporary file " + file, e);
+		}
+	}
+
+	@Override
+	public Iterator<Object[]> iterator() {
+		openFile();
+		final Iterator<Object[]> inMemory = rows.iterator();
+
+		return new Iterator<Object[]>() {
+			int read = 0;
+
+			@Override
+			public boolean hasNext() {
+				return read < rowsInFile || inMemory.hasNext();
+			}
+
+			@Override
+			public Object[] next() {
+				if (read < rowsInFile) {
+					read++;
+					try {
+						Object[] row = (Object[]) in.readObject();
+						if (read == rowsInFile) {
+							close(in);
+							in = null;
+						}
+						return row;
+					} catch (Exception e) {
+						throw new DataProcessingException("Unable to read detail rows from temporary file " + file, e);
+					}
+				}
+				return inMemory.next();
+			}
+
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException("Can't remove detail rows");
+			}
+		};
+	}
+
+	private void openFile() {
+		close(in);
+		in = null;
+		if (rowsInFile == 0) {
+			return;
+		}
+		try {
+			out.flush();
+			in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)));
+		} catch (IOException e) {
+			throw new DataProcessingException("Unable to read detail rows from temporary file " + file, e);
+		}
+	}
+
+	/**
+	 * Discards all rows, deleting the temporary file if one has been created.
+	 */
+	void clear() {
+		rows.clear();
+		rowsInFile = 0;
+		close(in);
+		close(out);
+		in = null;
+		out = null;
+		if (file != null) {
+			file.delete();
+			file = null;
+		}
+	}
+
+	private static void close(Closeable closeable) {
+		if (closeable != null) {
+			try {
+				closeable.close();
+			} catch (IOException e) {
+				//ignore
+			}
+		}
+	}
+}
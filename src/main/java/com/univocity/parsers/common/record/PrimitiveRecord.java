@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.univocity.parsers.common.record;
+
+import com.univocity.parsers.conversions.*;
+
+/**
+ * A {@link Record} with accessors that convert values to primitives without boxing them.
+ * The records produced by the parsers of this library implement this interface, e.g.:
+ *
+ * <hr><blockquote><pre>{@code
+ * Record record = parser.parseNextRecord();
+ * int age = ((PrimitiveRecord) record).getIntValue("age", 0);
+ * }</pre></blockquote><hr>
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+public interface PrimitiveRecord extends Record {
+
+	/**
+	 * Converts the {@code String} value in the given column to an {@code int} and returns the result, without boxing it.
+	 * If no conversions were associated with the column, the value is parsed with the same rules of {@link Integer#parseInt(String)}.
+	 * Otherwise, the {@link IntegerConversion} conversion will be used perform the transformation.
+	 *
+	 * @param headerName the column name
+	 * @param defaultValue the value to return if the column is null
+	 *
+	 * @return the {@code int} stored in the given column, the default value specified in {@link RecordMetaData#defaultValueOf(String)},
+	 * or the given default value.
+	 */
+	int getIntValue(String headerName, int defaultValue);
+
+	/**
+	 * Converts the {@code String} value in the given column to an {@code int} and returns the result, without boxing it.
+	 * If no conversions were associated with the column, the value is parsed with the same rules of {@link Integer#parseInt(String)}.
+	 * Otherwise, the {@link IntegerConversion} conversion will be used perform the transformation.
+	 *
+	 * @param column the column
+	 * @param defaultValue the value to return if the column is null
+	 *
+	 * @return the {@code int} stored in the given column, the default value specified in {@link RecordMetaData#defaultValueOf(String)},
+	 * or the given default value.
+	 */
+	int getIntValue(Enum<?> column, int defaultValue);
+
+	/**
+	 * Converts the {@code String} value in the given column to an {@code int} and returns the result, without boxing it.
+	 * If no conversions were associated with the column, the value is parsed with the same rules of {@link Integer#parseInt(String)}.
+	 * Otherwise, the {@link IntegerConversion} conversion will be used perform the transformation.
+	 *
+	 * @param columnIndex the columnIndex
+	 * @param defaultValue the value to return if the column is null
+	 *
+	 * @return the {@code int} stored in the given column, the default value specified in {@link RecordMetaData#defaultValueOf(String)},
+	 * or the given default value.
+	 */
+	int getIntValue(int columnIndex, int defaultValue);
+
+	/**
+	 * Converts the {@code String} value in the given column to a {@code long} and returns the result, without boxing it.
+	 * If no conversions were associated with the column, the value is parsed with the same rules of {@link Long#parseLong(String)}.
+	 * Otherwise, the {@link LongConversion} conversion will be used perform the transformation.
+	 *
+	 * @param headerName the column name
+	 * @param defaultValue the value to return if the column is null
+	 *
+	 * @return the {@code long} stored in the given column, the default value specified in {@link RecordMetaData#defaultValueOf(String)},
+	 * or the given default value.
+	 */
+	long getLongValue(String headerName, long defaultValue);
+
+	/**
+	 * Converts the {@code String} value in the given column to a {@code long} and returns the result, without boxing it.
+	 * If no conversions were associated with the column, the value is parsed with the same rules of {@link Long#parseLong(String)}.
+	 * Otherwise, the {@link LongConversion} conversion will be used perform the transformation.
+	 *
+	 * @param column the column
+	 * @param defaultValue the value to return if the column is null
+	 *
+	 * @return the {@code long} stored in the given column, the default value specified in {@link RecordMetaData#defaultValueOf(String)},
+	 * or the given default value.
+	 */
+	long getLongValue(Enum<?> column, long defaultValue);
+
+	/**
+	 * Converts the {@code String} value in the given column to a {@code long} and returns the result, without boxing it.
+	 * If no conversions were associated with the column, the value is parsed with the same rules of {@link Long#parseLong(String)}.
+	 * Otherwise, the {@link LongConversion} conversion will be used perform the transformation.
+	 *
+	 * @param columnIndex the columnIndex
+	 * @param defaultValue the value to return if the column is null
+	 *
+	 * @return the {@code long} stored in the given column, the default value specified in {@link RecordMetaData#defaultValueOf(String)},
+	 * or the given default value.
+	 */
+	long getLongValue(int columnIndex, long defaultValue);
+
+	/**
+	 * Converts the {@code String} value in the given column to a {@code double} and returns the result, without boxing it.
+	 * If no conversions were associated with the column, the value is parsed with the same rules of {@link Double#parseDouble(String)}.
+	 * Otherwise, the {@link DoubleConversion} conversion will be used perform the transformation.
+	 *
+	 * @param headerName the column name
+	 * @param defaultValue the value to return if the column is null
+	 *
+	 * @return the {@code double} stored in the given column, the default value specified in {@link RecordMetaData#defaultValueOf(String)},
+	 * or the given default value.
+	 */
+	double getDoubleValue(String headerName, double defaultValue);
+
+	/**
+	 * Converts the {@code String} value in the given column to a {@code double} and returns the result, without boxing it.
+	 * If no conversions were associated with the column, the value is parsed with the same rules of {@link Double#parseDouble(String)}.
+	 * Otherwise, the {@link DoubleConversion} conversion will be used perform the transformation.
+	 *
+	 * @param column the column
+	 * @param defaultValue the value to return if the column is null
+	 *
+	 * @return the {@code double} stored in the given column, the default value specified in {@link RecordMetaData#defaultValueOf(String)},
+	 * or the given default value.
+	 */
+	double getDoubleValue(Enum<?> column, double defaultValue);
+
+	/**
+	 * Converts the {@code String} value in the given column to a {@code double} and returns the result, without boxing it.
+	 * If no conversions were associated with the column, the value is parsed with the same rules of {@link Double#parseDouble(String)}.
+	 * Otherwise, the {@link DoubleConversion} conversion will be used perform the transformation.
+	 *
+	 * @param columnIndex the columnIndex
+	 * @param defaultValue the value to return if the column is null
+	 *
+	 * @return the {@code double} stored in the given column, the default value specified in {@link RecordMetaData#defaultValueOf(String)},
+	 * or the given default value.
+	 */
+	double getDoubleValue(int columnIndex, double defaultValue);
+}
@@ -19,7 +19,7 @@ import com.univocity.parsers.conversions.*;
 import java.math.*;
 import java.util.*;
 
-class RecordImpl<C extends Context> implements Record {
+class RecordImpl<C extends Context> implements PrimitiveRecord {
 
 	private final String[] data;
 	private final RecordMetaDataImpl<C> metaData;
@@ -575,6 +575,51 @@ class RecordImpl<C extends Context> implements Record {
 		return metaData.getObjectValue(data, columnIndex, Double.class, null);
 	}
 
+	@Override
+	public int getIntValue(String headerName, int defaultValue) {
+		return metaData.getIntValue(data, headerName, defaultValue);
+	}
+
+	@Override
+	public int getIntValue(Enum<?> column, int defaultValue) {
+		return metaData.getIntValue(data, column, defaultValue);
+	}
+
+	@Override
+	public int getIntValue(int columnIndex, int defaultValue) {
+		return metaData.getIntValue(data, columnIndex, defaultValue);
+	}
+
+	@Override
+	public long getLongValue(String headerName, long defaultValue) {
+		return metaData.getLongValue(data, headerName, defaultValue);
+	}
+
+	@Override
+	public long getLongValue(Enum<?> column, long defaultValue) {
+		return metaData.getLongValue(data, column, defaultValue);
+	}
+
+	@Override
+	public long getLongValue(int columnIndex, long defaultValue) {
+		return metaData.getLongValue(data, columnIndex, defaultValue);
+	}
+
+	@Override
+	public double getDoubleValue(String headerName, double defaultValue) {
+		return metaData.getDoubleValue(data, headerName, defaultValue);
+	}
+
+	@Override
+	public double getDoubleValue(Enum<?> column, double defaultValue) {
+		return metaData.getDoubleValue(data, column, defaultValue);
+	}
+
+	@Override
+	public double getDoubleValue(int columnIndex, double defaultValue) {
+		return metaData.getDoubleValue(data, columnIndex, defaultValue);
+	}
+
 	@Override
 	public Date getDate(String headerName) {
 		return metaData.getObjectValue(data, headerName, Date.class, null);
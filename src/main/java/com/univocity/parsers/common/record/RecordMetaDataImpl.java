@@ -382,6 +382,106 @@ class RecordMetaDataImpl<C extends Context> implements RecordMetaData {
 		return convert(metadataOf(column), data, type, defaultValue, null);
 	}
 
+	int getIntValue(String[] data, String headerName, int defaultValue) {
+		return intValue(metadataOf(headerName), data, defaultValue);
+	}
+
+	int getIntValue(String[] data, Enum<?> column, int defaultValue) {
+		return intValue(metadataOf(column), data, defaultValue);
+	}
+
+	int getIntValue(String[] data, int columnIndex, int defaultValue) {
+		return intValue(metadataOf(columnIndex), data, defaultValue);
+	}
+
+	private int intValue(MetaData md, String[] data, int defaultValue) {
+		Object out = rawValue(md, data);
+		if (out == null) {
+			return defaultValue;
+		}
+		if (out instanceof Integer || out instanceof Short || out instanceof Byte) {
+			return ((Number) out).intValue();
+		}
+		if (out instanceof String) {
+			try {
+				return Integer.parseInt((String) out);
+			} catch (NumberFormatException e) {
+				//let the default conversion report the error
+			}
+		}
+		Integer value = convert(md, data, Integer.class, null, null);
+		return value == null ? defaultValue : value;
+	}
+
+	private Object rawValue(MetaData md, String[] data) {
+		if (conversions == null && md.index < data.length && data[md.index] != null) {
+			return data[md.index];
+		}
+		return convert(md, data, null, null, null);
+	}
+
+	long getLongValue(String[] data, String headerName, long defaultValue) {
+		return longValue(metadataOf(headerName), data, defaultValue);
+	}
+
+	long getLongValue(String[] data, Enum<?> column, long defaultValue) {
+		return longValue(metadataOf(column), data, defaultValue);
+	}
+
+	long getLongValue(String[] data, int columnIndex, long defaultValue) {
+		return longValue(metadataOf(columnIndex), data, defaultValue);
+	}
+
+	private long longValue(MetaData md, String[] data, long defaultValue) {
+		Object out = rawValue(md, data);
+		if (out == null) {
+			return defaultValue;
+		}
+		if (out instanceof Long || out instanceof Integer || out instanceof Short || out instanceof Byte) {
+			return ((Number) out).longValue();
+		}
+		if (out instanceof String) {
+			try {
+				return Long.parseLong((String) out);
+			} catch (NumberFormatException e) {
+				//let the default conversion report the error
+			}
+		}
+		Long value = convert(md, data, Long.class, null, null);
+		return value == null ? defaultValue : value;
+	}
+
+	double getDoubleValue(String[] data, String headerName, double defaultValue) {
+		return doubleValue(metadataOf(headerName), data, defaultValue);
+	}
+
+	double getDoubleValue(String[] data, Enum<?> column, double defaultValue) {
+		return doubleValue(metadataOf(column), data, defaultValue);
+	}
+
+	double getDoubleValue(String[] data, int columnIndex, double defaultValue) {
+		return doubleValue(metadataOf(columnIndex), data, defaultValue);
+	}
+
+	private double doubleValue(MetaData md, String[] data, double defaultValue) {
+		Object out = rawValue(md, data);
+		if (out == null) {
+			return defaultValue;
+		}
+		if (out instanceof Double || out instanceof Float || out instanceof Long || out instanceof Integer || out instanceof Short || out instanceof Byte) {
+			return ((Number) out).doubleValue();
+		}
+		if (out instanceof String) {
+			try {
+				return DoubleConversion.parseDouble((String) out, 0, ((String) out).length());
+			} catch (NumberFormatException e) {
+				//let the default conversion report the error
+			}
+		}
+		Double value = convert(md, data, Double.class, null, null);
+		return value == null ? defaultValue : value;
+	}
+
 	<T> T getObjectValue(String[] data, String headerName, Class<T> type, T defaultValue, String format, String... formatOptions) {
 		if (format == null) {
 			return getObjectValue(data, headerName, type, defaultValue);
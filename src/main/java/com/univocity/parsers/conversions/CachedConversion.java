@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.conversions;
+
+import com.univocity.parsers.common.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Memoizes the results of a sequence of conversions, keyed on the input {@code String}. Use it on columns with a small
+ * number of distinct values, such as codes, flags or dates, to avoid executing the same conversions over and over again.
+ *
+ * <p> The number of cached results is bounded, with entries that haven't been used recently being evicted first
+ * (see {@link StringCache}). The hit rate of the cache is sampled periodically: if it falls below
+ * {@link #getMinimumHitRate()} the cache is bypassed and the conversions are executed directly for a while,
+ * after which caching is attempted again.
+ *
+ * <p> Cached results are shared, so the conversions wrapped by this class should produce immutable values.
+ * {@link Date} and {@link Calendar} results are copied before being returned.
+ *
+ * <p> The reverse conversion (in {@link #revert(Object)}) is not cached and simply executes {@link Conversion#revert(Object)}
+ * of each conversion in reverse order.
+ *
+ * @param <O> the type of the converted values
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+public class CachedConversion<O> implements Conversion<String, O> {
+
+	private static final int DEFAULT_SIZE_LIMIT = 1024;
+	private static final double DEFAULT_MINIMUM_HIT_RATE = 0.25;
+	private static final int BYPASS_FACTOR = 16;
+
+	private final Conversion<?, ?>[] conversions;
+	private final StringCache<Object> cache;
+	private final int sampleSize;
+	private double minimumHitRate = DEFAULT_MINIMUM_HIT_RATE;
+
+	private final AtomicInteger lookups = new AtomicInteger();
+	private final AtomicInteger skipped = new AtomicInteger();
+	private volatile boolean bypassed;
+
+	/**
+	 * Creates a cache for the results of the given sequence of conversions, storing up to 1024 results.
+	 *
+	 * @param conversions the conversions to execute, in order, over each input {@code String}.
+	 */
+	public CachedConversion(Conversion<?, ?>... conversions) {
+		this(DEFAULT_SIZE_LIMIT, conversions);
+	}
+
+	/**
+	 * Creates a cache for the results of the given sequence of conversions.
+	 *
+	 * @param sizeLimit   the maximum number of results to keep in the cache.
+	 * @param conversions the conversions to execute, in order, over each input {@code String}.
+	 */
+	public CachedConversion(int sizeLimit, Conversion<?, ?>... conversions) {
+		ArgumentUtils.noNulls("Conversions to cache", conversions);
+		if (conversions.length == 0) {
+			throw new IllegalArgumentException("Conversions to cache cannot be empty");
+		}
+		if (sizeLimit <= 0) {
+			throw new IllegalArgumentException("Cache size limit must be positive");
+		}
+		this.conversions = conversions.clone();
+		this.sampleSize = Math.max(4096, sizeLimit * 4);
+		this.cache = new StringCache<Object>() {
+			@Override
+			protected Object process(String input) {
+				return convert(input);
+			}
+		};
+		this.cache.setSizeLimit(sizeLimit);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Object convert(Object input) {
+		for (int i = 0; i < conversions.length; i++) {
+			input = ((Conversion<Object, Object>) conversions[i]).execute(input);
+		}
+		return input;
+	}
+
+	/**
+	 * Converts the given {@code String} with the sequence of conversions, reusing a previous result if
+	 * the same input has been converted before.
+	 *
+	 * @param input the {@code String} to be converted
+	 *
+	 * @return the result of the conversions.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public O execute(String input) {
+		if (input == null) {
+			return (O) convert(null);
+		}
+		if (bypassed) {
+			if (skipped.incrementAndGet() >= sampleSize * BYPASS_FACTOR) {
+				skipped.set(0);
+				lookups.set(0);
+				cache.resetStatistics();
+				bypassed = false;
+			}
+			return (O) convert(input);
+		}
+
+		Object out = cache.get(input);
+
+		if (lookups.incrementAndGet() >= sampleSize) {
+			lookups.set(0);
+			long hits = cache.getHitCount();
+			long total = hits + cache.getMissCount();
+			cache.resetStatistics();
+			if (total > 0 && hits < total * minimumHitRate) {
+				bypassed = true;
+			}
+		}
+
+		if (out instanceof Date) {
+			return (O) ((Date) out).clone();
+		} else if (out instanceof Calendar) {
+			return (O) ((Calendar) out).clone();
+		}
+		return (O) out;
+	}
+
+	/**
+	 * Reverts the given value using the sequence of conversions in reverse order. Results are not cached.
+	 *
+	 * @param input the value to be reverted
+	 *
+	 * @return the result of the reverse conversions.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public String revert(O input) {
+		Object out = input;
+		for (int i = conversions.length - 1; i >= 0; i--) {
+			out = ((Conversion<Object, Object>) conversions[i]).revert(out);
+		}
+		return (String) out;
+	}
+
+	/**
+	 * Returns the minimum ratio of cache hits to lookups required to keep the cache in use. Defaults to {@code 0.25}.
+	 *
+	 * @return the minimum hit rate, between {@code 0.0} and {@code 1.0}
+	 */
+	public double getMinimumHitRate() {
+		return minimumHitRate;
+	}
+
+	/**
+	 * Defines the minimum ratio of cache hits to lookups required to keep the cache in use. If the hit rate observed
+	 * over a sample of lookups is lower than this, the cache is bypassed for a while. Use {@code 0.0} to always use the cache.
+	 *
+	 * @param minimumHitRate the minimum hit rate, between {@code 0.0} and {@code 1.0}
+	 */
+	public void setMinimumHitRate(double minimumHitRate) {
+		if (minimumHitRate < 0.0 || minimumHitRate > 1.0) {
+			throw new IllegalArgumentException("Minimum hit rate must be between 0.0 and 1.0");
+		}
+		this.minimumHitRate = minimumHitRate;
+	}
+
+	/**
+	 * Indicates whether the cache is currently being bypassed due to a low hit rate.
+	 *
+	 * @return {@code true} if conversions are currently executed without using the cache.
+	 */
+	public boolean isBypassed() {
+		return bypassed;
+	}
+
+	/**
+	 * Returns the number of results currently cached.
+	 *
+	 * @return the size of the cache.
+	 */
+	public int size() {
+		return cache.size();
+	}
+}
@@ -729,4 +729,31 @@ public class Conversions {
 	public static ValidatedConversion noneOf(String... noneOf) {
 		return new ValidatedConversion(false, false, null, noneOf, null);
 	}
+
+	/**
+	 * Returns a new instance of {@link CachedConversion} to reuse the results of the given conversions
+	 * when the same input {@code String} is converted again.
+	 *
+	 * @param conversions the sequence of conversions whose results will be cached
+	 * @param <T>         the type of the converted values
+	 *
+	 * @return new instance of {@link CachedConversion} wrapping the given conversions
+	 */
+	public static <T> CachedConversion<T> cached(Conversion<?, ?>... conversions) {
+		return new CachedConversion<T>(conversions);
+	}
+
+	/**
+	 * Returns a new instance of {@link CachedConversion} to reuse the results of the given conversions
+	 * when the same input {@code String} is converted again.
+	 *
+	 * @param sizeLimit   the maximum number of results to keep in the cache.
+	 * @param conversions the sequence of conversions whose results will be cached
+	 * @param <T>         the type of the converted values
+	 *
+	 * @return new instance of {@link CachedConversion} wrapping the given conversions
+	 */
+	public static <T> CachedConversion<T> cached(int sizeLimit, Conversion<?, ?>... conversions) {
+		return new CachedConversion<T>(sizeLimit, conversions);
+	}
 }
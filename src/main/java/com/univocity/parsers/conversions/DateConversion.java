@@ -27,6 +27,9 @@ import java.util.*;
  *
  * <p> The reverse conversion from a Date to String (in {@link DateConversion#revert(Date)} will return a formatted String using the date pattern provided in this class constructor
  * <p> The date patterns must follows the pattern rules of {@link java.text.SimpleDateFormat}
+ * <p> Patterns made only of fixed-width numeric fields and literals, such as {@code yyyy-MM-dd}, {@code yyyyMMdd} or
+ * {@code yyyy-MM-dd'T'HH:mm:ss.SSS}, are processed without a {@link java.text.SimpleDateFormat} whenever the result is
+ * guaranteed to be the same. Instances of this class can be safely shared among threads.
  *
  * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
  * @see java.text.SimpleDateFormat
@@ -37,6 +40,7 @@ public class DateConversion extends ObjectConversion<Date> implements FormattedC
 	private final TimeZone timeZone;
 	private final SimpleDateFormat[] parsers;
 	private final String[] formats;
+	private volatile FixedDateFormat[] fixedFormats;
 
 	/**
 	 * Defines a conversion from String to {@link java.util.Date} using a sequence of acceptable date patterns.
@@ -122,7 +126,14 @@ public class DateConversion extends ObjectConversion<Date> implements FormattedC
 		if (input == null) {
 			return super.revert(null);
 		}
-		return parsers[0].format(input);
+		FixedDateFormat fixedFormat = fixedFormats()[0];
+		String out = fixedFormat == null ? null : fixedFormat.format(input);
+		if (out == null) {
+			synchronized (parsers[0]) {
+				out = parsers[0].format(input);
+			}
+		}
+		return out;
 	}
 
 	/**
@@ -135,7 +146,15 @@ public class DateConversion extends ObjectConversion<Date> implements FormattedC
 	 */
 	@Override
 	protected Date fromString(String input) {
-		for (SimpleDateFormat formatter : parsers) {
+		FixedDateFormat[] fixedFormats = fixedFormats();
+		for (int i = 0; i < parsers.length; i++) {
+			if (fixedFormats[i] != null) {
+				Date date = fixedFormats[i].parse(input);
+				if (date != null) {
+					return date;
+				}
+			}
+			SimpleDateFormat formatter = parsers[i];
 			try {
 				synchronized (formatter) {
 					return formatter.parse(input);
@@ -149,6 +168,26 @@ public class DateConversion extends ObjectConversion<Date> implements FormattedC
 		throw exception;
 	}
 
+	private FixedDateFormat[] fixedFormats() {
+		FixedDateFormat[] out = fixedFormats;
+		if (out == null) {
+			out = new FixedDateFormat[parsers.length];
+			for (int i = 0; i < parsers.length; i++) {
+				synchronized (parsers[i]) {
+					out[i] = FixedDateFormat.forFormatter(parsers[i]);
+				}
+			}
+			fixedFormats = out;
+		}
+		return out;
+	}
+
+	/**
+	 * Returns the {@link SimpleDateFormat} instances used by this conversion. Changes to their settings must be made
+	 * before this conversion is first used.
+	 *
+	 * @return the date formatters used by this conversion.
+	 */
 	@Override
 	public SimpleDateFormat[] getFormatterObjects() {
 		return parsers;
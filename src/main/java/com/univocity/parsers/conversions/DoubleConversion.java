@@ -22,6 +22,8 @@ package com.univocity.parsers.conversions;
  */
 public class DoubleConversion extends ObjectConversion<Double> {
 
+	private boolean fastParsingEnabled = false;
+
 	/**
 	 * Creates a Conversion from String to Double with default values to return when the input is null.
 	 * This default constructor assumes the output of a conversion should be null when input is null
@@ -44,7 +46,61 @@ public class DoubleConversion extends ObjectConversion<Double> {
 	 */
 	@Override
 	protected Double fromString(String input) {
+		if (fastParsingEnabled) {
+			return FastDoubleParser.parseDouble(input, null, 0, input.length());
+		}
 		return Double.valueOf(input);
 	}
 
+	/**
+	 * Indicates whether Strings are converted with a built-in parser that is faster than {@link Double#valueOf(String)}
+	 * on plain decimal numbers. Both produce bit-identical results. Defaults to {@code false}.
+	 *
+	 * @return a flag indicating whether the fast parser is used.
+	 */
+	public boolean isFastParsingEnabled() {
+		return fastParsingEnabled;
+	}
+
+	/**
+	 * Defines whether Strings should be converted with a built-in parser that is faster than {@link Double#valueOf(String)}
+	 * on plain decimal numbers. Both produce bit-identical results. Inputs the fast parser doesn't handle, such as
+	 * hexadecimal numbers or values with more than 19 significant digits, are delegated to {@link Double#valueOf(String)}.
+	 *
+	 * @param fastParsingEnabled flag indicating whether the fast parser should be used.
+	 */
+	public void setFastParsingEnabled(boolean fastParsingEnabled) {
+		this.fastParsingEnabled = fastParsingEnabled;
+	}
+
+	/**
+	 * Parses a double from a sequence of characters. Accepts the same input as {@link Double#parseDouble(String)}.
+	 *
+	 * @param input the characters to parse
+	 * @param from  the position of the first character to parse
+	 * @param to    the end of the characters to parse (exclusive)
+	 *
+	 * @return the parsed value
+	 *
+	 * @throws NumberFormatException if the characters don't represent a double
+	 */
+	public static double parseDouble(CharSequence input, int from, int to) {
+		return FastDoubleParser.parseDouble(input, null, from, to);
+	}
+
+	/**
+	 * Parses a double from a range of a {@code char[]} (such as the buffer of a parser).
+	 * Accepts the same input as {@link Double#parseDouble(String)}.
+	 *
+	 * @param input the array with the characters to parse
+	 * @param from  the position of the first character to parse
+	 * @param to    the end of the characters to parse (exclusive)
+	 *
+	 * @return the parsed value
+	 *
+	 * @throws NumberFormatException if the characters don't represent a double
+	 */
+	public static double parseDouble(char[] input, int from, int to) {
+		return FastDoubleParser.parseDouble(null, input, from, to);
+	}
 }
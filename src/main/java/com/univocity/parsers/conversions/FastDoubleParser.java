@@ -0,0 +1,309 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.conversions;
+
+import java.math.*;
+
+/**
+ * Parses decimal numbers into {@code double} and {@code float} values directly from sequences of characters.
+ *
+ * Simple decimals (up to 19 significant digits and a reasonable exponent) are converted using Clinger's fast path
+ * and the Eisel-Lemire algorithm, which rely on a table of 128-bit approximations of powers of ten. Whenever the
+ * result can't be determined with certainty, or the input uses any other syntax accepted by the JDK (such as
+ * hexadecimal notation, "NaN" or "Infinity"), the input is handed over to {@link Double#parseDouble(String)} or
+ * {@link Float#parseFloat(String)}. The values produced are therefore always bit-identical to the JDK's.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+final class FastDoubleParser {
+
+	private static final int SMALLEST_POWER = -325;
+	private static final int LARGEST_POWER = 308;
+	private static final int MAX_DIGITS = 19;
+	private static final long MAX_EXACT_DOUBLE = 1L << 53;
+	private static final long MAX_EXACT_FLOAT = 1L << 24;
+
+	private static final double[] POWERS_OF_TEN = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+
+	private static final float[] FLOAT_POWERS_OF_TEN = {
+			1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+	};
+
+	/**
+	 * Most significant 64 bits of the normalized 128-bit approximation of each power of ten
+	 * from {@link #SMALLEST_POWER} to {@link #LARGEST_POWER}
+	 */
+	private static final long[] MANTISSA_HIGH = new long[LARGEST_POWER - SMALLEST_POWER + 1];
+
+	/**
+	 * Least significant 64 bits of the normalized 128-bit approximation of each power of ten
+	 * from {@link #SMALLEST_POWER} to {@link #LARGEST_POWER}
+	 */
+	private static final long[] MANTISSA_LOW = new long[LARGEST_POWER - SMALLEST_POWER + 1];
+
+	static {
+		BigInteger five = BigInteger.valueOf(5);
+		for (int q = SMALLEST_POWER; q <= LARGEST_POWER; q++) {
+			BigInteger value;
+			if (q >= 0) {
+				value = five.pow(q);
+				value = value.bitLength() < 128 ? value.shiftLeft(128 - value.bitLength()) : value.shiftRight(value.bitLength() - 128);
+			} else {
+				BigInteger power = five.pow(-q);
+				int z = power.bitLength();
+				int b = q >= -27 ? z + 127 : 2 * z + 128;
+				value = BigInteger.ONE.shiftLeft(b).divide(power).add(BigInteger.ONE);
+				if (value.bitLength() > 128) {
+					value = value.shiftRight(value.bitLength() - 128);
+				}
+			}
+			MANTISSA_HIGH[q - SMALLEST_POWER] = value.shiftRight(64).longValue();
+			MANTISSA_LOW[q - SMALLEST_POWER] = value.longValue();
+		}
+	}
+
+	private FastDoubleParser() {
+	}
+
+	/**
+	 * Parses a {@code double} with the same rules of {@link Double#parseDouble(String)}.
+	 * Characters are read from {@code chars} if it is not {@code null}, otherwise from {@code sequence}.
+	 *
+	 * @param sequence a sequence with the characters to parse
+	 * @param chars    an array with the characters to parse
+	 * @param from     the position of the first character to parse
+	 * @param to       the end of the characters to parse (exclusive)
+	 *
+	 * @return the parsed value
+	 *
+	 * @throws NumberFormatException if the characters don't represent a double
+	 */
+	static double parseDouble(CharSequence sequence, char[] chars, int from, int to) {
+		double out = parseDecimal(sequence, chars, from, to, false);
+		if (out != out) {
+			return Double.parseDouble(toString(sequence, chars, from, to));
+		}
+		return out;
+	}
+
+	/**
+	 * Parses a {@code float} with the same rules of {@link Float#parseFloat(String)}.
+	 * Characters are read from {@code chars} if it is not {@code null}, otherwise from {@code sequence}.
+	 *
+	 * @param sequence a sequence with the characters to parse
+	 * @param chars    an array with the characters to parse
+	 * @param from     the position of the first character to parse
+	 * @param to       the end of the characters to parse (exclusive)
+	 *
+	 * @return the parsed value
+	 *
+	 * @throws NumberFormatException if the characters don't represent a float
+	 */
+	static float parseFloat(CharSequence sequence, char[] chars, int from, int to) {
+		double out = parseDecimal(sequence, chars, from, to, true);
+		if (out != out) {
+			return Float.parseFloat(toString(sequence, chars, from, to));
+		}
+		return (float) out;
+	}
+
+	private static String toString(CharSequence sequence, char[] chars, int from, int to) {
+		return chars != null ? new String(chars, from, to - from) : sequence.subSequence(from, to).toString();
+	}
+
+	/**
+	 * Reads a plain decimal number in the format {@code [+-]digits[.digits][(e|E)[+-]digits]} and converts it.
+	 *
+	 * @return the converted value (exactly representable as a {@code float} if {@code toFloat} is set), or
+	 * {@code NaN} if the input must be processed by the JDK.
+	 */
+	private static double parseDecimal(CharSequence sequence, char[] chars, int from, int to, boolean toFloat) {
+		if (from >= to) {
+			return Double.NaN;
+		}
+		int i = from;
+		char ch = chars != null ? chars[i] : sequence.charAt(i);
+
+		boolean negative = false;
+		if (ch == '-' || ch == '+') {
+			negative = ch == '-';
+			if (++i == to) {
+				return Double.NaN;
+			}
+			ch = chars != null ? chars[i] : sequence.charAt(i);
+		}
+
+		long significand = 0; // unsigned: 19 digits may not fit in a signed long
+		int digits = 0;
+		int power = 0;
+		boolean digitFound = false;
+		boolean dotFound = false;
+
+		while (true) {
+			if (ch >= '0' && ch <= '9') {
+				digitFound = true;
+				if (significand != 0 || ch != '0') {
+					if (digits == MAX_DIGITS) {
+						return Double.NaN;
+					}
+					significand = significand * 10 + (ch - '0');
+					digits++;
+				}
+				if (dotFound) {
+					power--;
+				}
+			} else if (ch == '.' && !dotFound) {
+				dotFound = true;
+			} else {
+				break;
+			}
+			if (++i == to) {
+				break;
+			}
+			ch = chars != null ? chars[i] : sequence.charAt(i);
+		}
+
+		if (!digitFound) {
+			return Double.NaN;
+		}
+
+		if (i < to) {
+			if (ch != 'e' && ch != 'E' || ++i == to) {
+				return Double.NaN;
+			}
+			ch = chars != null ? chars[i] : sequence.charAt(i);
+			boolean negativeExponent = false;
+			if (ch == '-' || ch == '+') {
+				negativeExponent = ch == '-';
+				if (++i == to) {
+					return Double.NaN;
+				}
+			}
+			int exponent = 0;
+			while (i < to) {
+				ch = chars != null ? chars[i] : sequence.charAt(i);
+				if (ch < '0' || ch > '9') {
+					return Double.NaN;
+				}
+				if (exponent < 10000) {
+					exponent = exponent * 10 + (ch - '0');
+				}
+				i++;
+			}
+			power += negativeExponent ? -exponent : exponent;
+		}
+
+		if (significand == 0) {
+			return negative ? -0.0 : 0.0;
+		}
+
+		if (toFloat) {
+			if (significand > 0 && significand <= MAX_EXACT_FLOAT && power >= -10 && power <= 10) {
+				float out = (float) significand;
+				out = power < 0 ? out / FLOAT_POWERS_OF_TEN[-power] : out * FLOAT_POWERS_OF_TEN[power];
+				return negative ? -out : out;
+			}
+			return Double.NaN;
+		}
+
+		if (significand > 0 && significand <= MAX_EXACT_DOUBLE && power >= -22 && power <= 22) {
+			double out = (double) significand;
+			out = power < 0 ? out / POWERS_OF_TEN[-power] : out * POWERS_OF_TEN[power];
+			return negative ? -out : out;
+		}
+
+		return eiselLemire(negative, significand, power);
+	}
+
+	/**
+	 * Computes the {@code double} nearest to {@code significand * 10^power}, as described in
+	 * "Number Parsing at a Gigabyte per Second" (Daniel Lemire, 2021).
+	 *
+	 * @return the converted value, or {@code NaN} if the result can't be determined with this algorithm.
+	 */
+	private static double eiselLemire(boolean negative, long significand, int power) {
+		if (power < SMALLEST_POWER || power > LARGEST_POWER) {
+			return Double.NaN;
+		}
+
+		long factorHigh = MANTISSA_HIGH[power - SMALLEST_POWER];
+		long exponent = (((152170L + 65536L) * power) >> 16) + 1024 + 63;
+		int leadingZeros = Long.numberOfLeadingZeros(significand);
+		long w = significand << leadingZeros;
+
+		long lower = w * factorHigh;
+		long upper = multiplyHigh(w, factorHigh);
+
+		if ((upper & 0x1FF) == 0x1FF && unsignedLessThan(lower + w, lower)) {
+			long factorLow = MANTISSA_LOW[power - SMALLEST_POWER];
+			long productLow = w * factorLow;
+			long productMiddle = lower + multiplyHigh(w, factorLow);
+			if (unsignedLessThan(productMiddle, lower)) {
+				upper++;
+			}
+			if (productMiddle + 1 == 0 && (upper & 0x1FF) == 0x1FF && unsignedLessThan(productLow + w, productLow)) {
+				return Double.NaN;
+			}
+			lower = productMiddle;
+		}
+
+		long upperBit = upper >>> 63;
+		long mantissa = upper >>> (upperBit + 9);
+		leadingZeros += (int) (1 ^ upperBit);
+
+		if (lower == 0 && (upper & 0x1FF) == 0 && (mantissa & 3) == 1) {
+			return Double.NaN;
+		}
+
+		mantissa += mantissa & 1;
+		mantissa >>>= 1;
+		if (mantissa >= MAX_EXACT_DOUBLE) {
+			mantissa = 1L << 52;
+			leadingZeros--;
+		}
+		mantissa &= ~(1L << 52);
+
+		long realExponent = exponent - leadingZeros;
+		if (realExponent < 1 || realExponent > 2046) {
+			return Double.NaN;
+		}
+
+		long bits = mantissa | realExponent << 52;
+		if (negative) {
+			bits |= 1L << 63;
+		}
+		return Double.longBitsToDouble(bits);
+	}
+
+	private static long multiplyHigh(long a, long b) {
+		long a0 = a & 0xFFFFFFFFL;
+		long a1 = a >>> 32;
+		long b0 = b & 0xFFFFFFFFL;
+		long b1 = b >>> 32;
+
+		long p01 = a0 * b1;
+		long p10 = a1 * b0;
+		long middle = ((a0 * b0) >>> 32) + (p01 & 0xFFFFFFFFL) + (p10 & 0xFFFFFFFFL);
+		return a1 * b1 + (p01 >>> 32) + (p10 >>> 32) + (middle >>> 32);
+	}
+
+	private static boolean unsignedLessThan(long a, long b) {
+		return (a ^ Long.MIN_VALUE) < (b ^ Long.MIN_VALUE);
+	}
+}
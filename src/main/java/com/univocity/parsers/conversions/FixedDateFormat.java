@@ -0,0 +1,277 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.conversions;
+
+import java.text.*;
+import java.util.*;
+
+/**
+ * A fast, thread-safe alternative to a {@link SimpleDateFormat} whose pattern only contains fixed-width numeric
+ * fields ({@code yyyy}, {@code MM}, {@code dd}, {@code HH}, {@code mm}, {@code ss} and {@code SSS}) separated by
+ * literals, such as {@code yyyy-MM-dd}, {@code yyyyMMdd}, {@code yyyy-MM-dd HH:mm:ss} or
+ * {@code yyyy-MM-dd'T'HH:mm:ss.SSS}.
+ *
+ * Digits are read directly from the input and the resulting instant is computed arithmetically. Whenever the
+ * outcome could differ from what the original {@link SimpleDateFormat} would produce (input with a different length,
+ * out-of-range fields that a lenient format would roll over, dates before the Gregorian cutover or close
+ * to a daylight saving transition), the methods of this class return {@code null} and the caller must fall back
+ * to the {@link SimpleDateFormat}.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+final class FixedDateFormat {
+
+	private static final long DAY = 24L * 60L * 60L * 1000L;
+	private static final long DEFAULT_GREGORIAN_CHANGE = -12219292800000L;
+	private static final int MIN_YEAR = 1583;
+
+	private static final int YEAR = 0;
+	private static final int MONTH = 1;
+	private static final int DAY_OF_MONTH = 2;
+	private static final int HOUR = 3;
+	private static final int MINUTE = 4;
+	private static final int SECOND = 5;
+	private static final int MILLISECOND = 6;
+
+	private static final String FIELD_LETTERS = "yMdHmsS";
+	private static final int[] FIELD_WIDTHS = {4, 2, 2, 2, 2, 2, 3};
+
+	private final char[] template;
+	private final boolean[] digits;
+	private final int[] positions;
+	private final TimeZone timeZone;
+
+	private FixedDateFormat(char[] template, boolean[] digits, int[] positions, TimeZone timeZone) {
+		this.template = template;
+		this.digits = digits;
+		this.positions = positions;
+		this.timeZone = timeZone;
+	}
+
+	/**
+	 * Creates a {@code FixedDateFormat} equivalent to the given {@link SimpleDateFormat}, using a snapshot of its
+	 * current settings. Must be invoked while holding the lock of the formatter if it's shared among threads.
+	 *
+	 * @param formatter the formatter to replicate
+	 *
+	 * @return an equivalent {@code FixedDateFormat}, or {@code null} if the pattern or settings of the
+	 * formatter are not supported.
+	 */
+	static FixedDateFormat forFormatter(SimpleDateFormat formatter) {
+		Calendar calendar = formatter.getCalendar();
+		if (calendar.getClass() != GregorianCalendar.class || ((GregorianCalendar) calendar).getGregorianChange().getTime() != DEFAULT_GREGORIAN_CHANGE) {
+			return null;
+		}
+		NumberFormat numberFormat = formatter.getNumberFormat();
+		if (!(numberFormat instanceof DecimalFormat) || ((DecimalFormat) numberFormat).getDecimalFormatSymbols().getZeroDigit() != '0') {
+			return null;
+		}
+		return forPattern(formatter.toPattern(), (TimeZone) formatter.getTimeZone().clone());
+	}
+
+	static FixedDateFormat forPattern(String pattern, TimeZone timeZone) {
+		StringBuilder template = new StringBuilder(pattern.length());
+		List<Boolean> digits = new ArrayList<Boolean>(pattern.length());
+		int[] positions = new int[FIELD_WIDTHS.length];
+		Arrays.fill(positions, -1);
+
+		int i = 0;
+		while (i < pattern.length()) {
+			char ch = pattern.charAt(i);
+			if (ch == '\'') {
+				if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+					template.append('\'');
+					digits.add(Boolean.FALSE);
+					i += 2;
+					continue;
+				}
+				i++;
+				while (true) {
+					if (i == pattern.length()) {
+						return null;
+					}
+					ch = pattern.charAt(i++);
+					if (ch == '\'') {
+						if (i < pattern.length() && pattern.charAt(i) == '\'') {
+							i++;
+						} else {
+							break;
+						}
+					}
+					if (ch >= '0' && ch <= '9') {
+						return null;
+					}
+					template.append(ch);
+					digits.add(Boolean.FALSE);
+				}
+			} else if ((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z')) {
+				int field = FIELD_LETTERS.indexOf(ch);
+				int count = 1;
+				while (i + count < pattern.length() && pattern.charAt(i + count) == ch) {
+					count++;
+				}
+				if (field == -1 || count != FIELD_WIDTHS[field] || positions[field] != -1) {
+					return null;
+				}
+				positions[field] = template.length();
+				for (int j = 0; j < count; j++) {
+					template.append('0');
+					digits.add(Boolean.TRUE);
+				}
+				i += count;
+			} else if (ch >= '0' && ch <= '9') {
+				return null;
+			} else {
+				template.append(ch);
+				digits.add(Boolean.FALSE);
+				i++;
+			}
+		}
+
+		if (positions[YEAR] == -1 || positions[MONTH] == -1 || positions[DAY_OF_MONTH] == -1) {
+			return null;
+		}
+
+		boolean[] digitMask = new boolean[digits.size()];
+		for (int j = 0; j < digitMask.length; j++) {
+			digitMask[j] = digits.get(j);
+		}
+		return new FixedDateFormat(template.toString().toCharArray(), digitMask, positions, timeZone);
+	}
+
+	/**
+	 * Parses a date.
+	 *
+	 * @param input the text to parse
+	 *
+	 * @return the parsed date, or {@code null} if the input must be handled by a {@link SimpleDateFormat}.
+	 */
+	Date parse(String input) {
+		if (input.length() != template.length) {
+			return null;
+		}
+		for (int i = 0; i < template.length; i++) {
+			char ch = input.charAt(i);
+			if (digits[i] ? (ch < '0' || ch > '9') : ch != template[i]) {
+				return null;
+			}
+		}
+
+		int year = field(input, YEAR);
+		int month = field(input, MONTH);
+		int day = field(input, DAY_OF_MONTH);
+		int hour = field(input, HOUR);
+		int minute = field(input, MINUTE);
+		int second = field(input, SECOND);
+		int millisecond = field(input, MILLISECOND);
+
+		if (year < MIN_YEAR || month < 1 || month > 12 || day < 1 || day > daysInMonth(year, month) || hour > 23 || minute > 59 || second > 59) {
+			return null;
+		}
+
+		long local = daysFromCivil(year, month, day) * DAY + ((hour * 60L + minute) * 60L + second) * 1000L + millisecond;
+
+		int offset = timeZone.getOffset(local - timeZone.getRawOffset());
+		long time = local - offset;
+		// within a day of an offset transition a local time may be ambiguous or not exist: let the calendar decide.
+		if (timeZone.getOffset(time) != offset || timeZone.getOffset(time - DAY) != offset || timeZone.getOffset(time + DAY) != offset) {
+			return null;
+		}
+		return new Date(time);
+	}
+
+	/**
+	 * Formats a date.
+	 *
+	 * @param date the date to format
+	 *
+	 * @return the formatted date, or {@code null} if the date must be handled by a {@link SimpleDateFormat}.
+	 */
+	String format(Date date) {
+		long time = date.getTime();
+		long local = time + timeZone.getOffset(time);
+		long days = local / DAY;
+		long millisOfDay = local % DAY;
+		if (millisOfDay < 0) {
+			days--;
+			millisOfDay += DAY;
+		}
+
+		long z = days + 719468L;
+		long era = (z >= 0 ? z : z - 146096L) / 146097L;
+		int dayOfEra = (int) (z - era * 146097L);
+		int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+		int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		int mp = (5 * dayOfYear + 2) / 153;
+		int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+		int month = mp < 10 ? mp + 3 : mp - 9;
+		long year = yearOfEra + era * 400L + (month <= 2 ? 1 : 0);
+
+		if (year < MIN_YEAR || year > 9999) {
+			return null;
+		}
+
+		char[] out = template.clone();
+		write(out, YEAR, (int) year);
+		write(out, MONTH, month);
+		write(out, DAY_OF_MONTH, day);
+		write(out, HOUR, (int) (millisOfDay / 3600000L));
+		write(out, MINUTE, (int) (millisOfDay / 60000L % 60L));
+		write(out, SECOND, (int) (millisOfDay / 1000L % 60L));
+		write(out, MILLISECOND, (int) (millisOfDay % 1000L));
+		return new String(out);
+	}
+
+	private int field(String input, int field) {
+		int position = positions[field];
+		if (position == -1) {
+			return 0;
+		}
+		int out = 0;
+		for (int i = position, end = position + FIELD_WIDTHS[field]; i < end; i++) {
+			out = out * 10 + (input.charAt(i) - '0');
+		}
+		return out;
+	}
+
+	private void write(char[] out, int field, int value) {
+		int position = positions[field];
+		if (position != -1) {
+			for (int i = position + FIELD_WIDTHS[field] - 1; i >= position; i--) {
+				out[i] = (char) ('0' + value % 10);
+				value /= 10;
+			}
+		}
+	}
+
+	private static int daysInMonth(int year, int month) {
+		if (month == 2) {
+			return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+		}
+		return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+	}
+
+	private static long daysFromCivil(int year, int month, int day) {
+		if (month <= 2) {
+			year--;
+		}
+		int era = year / 400;
+		int yearOfEra = year - era * 400;
+		int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		return era * 146097L + dayOfEra - 719468L;
+	}
+}
@@ -21,6 +21,9 @@ package com.univocity.parsers.conversions;
  *
  */
 public class FloatConversion extends ObjectConversion<Float> {
+
+	private boolean fastParsingEnabled = false;
+
 	/**
 	 * Creates a Conversion from String to Float with default values to return when the input is null.
 	 * This default constructor assumes the output of a conversion should be null when input is null
@@ -43,7 +46,62 @@ public class FloatConversion extends ObjectConversion<Float> {
 	 */
 	@Override
 	protected Float fromString(String input) {
+		if (fastParsingEnabled) {
+			return FastDoubleParser.parseFloat(input, null, 0, input.length());
+		}
 		return Float.valueOf(input);
 	}
 
+	/**
+	 * Indicates whether Strings are converted with a built-in parser that is faster than {@link Float#valueOf(String)}
+	 * on short decimal numbers. Both produce bit-identical results. Defaults to {@code false}.
+	 *
+	 * @return a flag indicating whether the fast parser is used.
+	 */
+	public boolean isFastParsingEnabled() {
+		return fastParsingEnabled;
+	}
+
+	/**
+	 * Defines whether Strings should be converted with a built-in parser that is faster than {@link Float#valueOf(String)}
+	 * on short decimal numbers. Both produce bit-identical results. Inputs the fast parser doesn't handle
+	 * are delegated to {@link Float#valueOf(String)}.
+	 *
+	 * @param fastParsingEnabled flag indicating whether the fast parser should be used.
+	 */
+	public void setFastParsingEnabled(boolean fastParsingEnabled) {
+		this.fastParsingEnabled = fastParsingEnabled;
+	}
+
+	/**
+	 * Parses a float from a sequence of characters. Accepts the same input as {@link Float#parseFloat(String)}.
+	 *
+	 * @param input the characters to parse
+	 * @param from  the position of the first character to parse
+	 * @param to    the end of the characters to parse (exclusive)
+	 *
+	 * @return the parsed value
+	 *
+	 * @throws NumberFormatException if the characters don't represent a float
+	 */
+	public static float parseFloat(CharSequence input, int from, int to) {
+		return FastDoubleParser.parseFloat(input, null, from, to);
+	}
+
+	/**
+	 * Parses a float from a range of a {@code char[]} (such as the buffer of a parser).
+	 * Accepts the same input as {@link Float#parseFloat(String)}.
+	 *
+	 * @param input the array with the characters to parse
+	 * @param from  the position of the first character to parse
+	 * @param to    the end of the characters to parse (exclusive)
+	 *
+	 * @return the parsed value
+	 *
+	 * @throws NumberFormatException if the characters don't represent a float
+	 */
+	public static float parseFloat(char[] input, int from, int to) {
+		return FastDoubleParser.parseFloat(null, input, from, to);
+	}
+
 }
@@ -46,4 +46,34 @@ public class IntegerConversion extends ObjectConversion<Integer> {
 		return Integer.valueOf(input);
 	}
 
+	/**
+	 * Parses an int from a sequence of characters without creating a {@code String}. Accepts the same input as {@link Integer#parseInt(String)}.
+	 *
+	 * @param input the characters to parse
+	 * @param from  the position of the first character to parse
+	 * @param to    the end of the characters to parse (exclusive)
+	 *
+	 * @return the parsed value
+	 *
+	 * @throws NumberFormatException if the characters don't represent an int
+	 */
+	public static int parseInt(CharSequence input, int from, int to) {
+		return (int) NumberParsing.parseLong(input, null, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Parses an int from a range of a {@code char[]} (such as the buffer of a parser) without creating a {@code String}.
+	 * Accepts the same input as {@link Integer#parseInt(String)}.
+	 *
+	 * @param input the array with the characters to parse
+	 * @param from  the position of the first character to parse
+	 * @param to    the end of the characters to parse (exclusive)
+	 *
+	 * @return the parsed value
+	 *
+	 * @throws NumberFormatException if the characters don't represent an int
+	 */
+	public static int parseInt(char[] input, int from, int to) {
+		return (int) NumberParsing.parseLong(null, input, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+	}
 }
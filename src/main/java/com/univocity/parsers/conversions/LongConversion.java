@@ -46,4 +46,34 @@ public class LongConversion extends ObjectConversion<Long> {
 		return Long.valueOf(input);
 	}
 
+	/**
+	 * Parses a long from a sequence of characters without creating a {@code String}. Accepts the same input as {@link Long#parseLong(String)}.
+	 *
+	 * @param input the characters to parse
+	 * @param from  the position of the first character to parse
+	 * @param to    the end of the characters to parse (exclusive)
+	 *
+	 * @return the parsed value
+	 *
+	 * @throws NumberFormatException if the characters don't represent a long
+	 */
+	public static long parseLong(CharSequence input, int from, int to) {
+		return NumberParsing.parseLong(input, null, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Parses a long from a range of a {@code char[]} (such as the buffer of a parser) without creating a {@code String}.
+	 * Accepts the same input as {@link Long#parseLong(String)}.
+	 *
+	 * @param input the array with the characters to parse
+	 * @param from  the position of the first character to parse
+	 * @param to    the end of the characters to parse (exclusive)
+	 *
+	 * @return the parsed value
+	 *
+	 * @throws NumberFormatException if the characters don't represent a long
+	 */
+	public static long parseLong(char[] input, int from, int to) {
+		return NumberParsing.parseLong(null, input, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+	}
 }
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.conversions;
+
+/**
+ * Parses numbers directly from sequences of characters, without creating intermediate {@code String}s.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ */
+final class NumberParsing {
+
+	private NumberParsing() {
+	}
+
+	/**
+	 * Parses a signed decimal integer from a range of characters, with the same rules of {@link Long#parseLong(String)}.
+	 * Characters are read from {@code chars} if it is not {@code null}, otherwise from {@code sequence}.
+	 *
+	 * @param sequence a sequence with the characters to parse
+	 * @param chars    an array with the characters to parse
+	 * @param from     the position of the first character to parse
+	 * @param to       the end of the characters to parse (exclusive)
+	 * @param min      the smallest value accepted
+	 * @param max      the largest value accepted
+	 *
+	 * @return the parsed value
+	 *
+	 * @throws NumberFormatException if the characters don't represent a number between {@code min} and {@code max}
+	 */
+	static long parseLong(CharSequence sequence, char[] chars, int from, int to, long min, long max) {
+		if (from >= to) {
+			throw invalidNumber(sequence, chars, from, to);
+		}
+		int i = from;
+		boolean negative = false;
+		long limit = -max;
+
+		char first = chars != null ? chars[i] : sequence.charAt(i);
+		if (first < '0') {
+			if (first == '-') {
+				negative = true;
+				limit = min;
+			} else if (first != '+') {
+				throw invalidNumber(sequence, chars, from, to);
+			}
+			if (to - from == 1) {
+				throw invalidNumber(sequence, chars, from, to);
+			}
+			i++;
+		}
+
+		final long multiplicationLimit = limit / 10;
+		long result = 0;
+		while (i < to) {
+			int digit = (chars != null ? chars[i] : sequence.charAt(i)) - '0';
+			i++;
+			if (digit < 0 || digit > 9 || result < multiplicationLimit) {
+				throw invalidNumber(sequence, chars, from, to);
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				throw invalidNumber(sequence, chars, from, to);
+			}
+			result -= digit;
+		}
+		return negative ? result : -result;
+	}
+
+	static NumberFormatException invalidNumber(CharSequence sequence, char[] chars, int from, int to) {
+		String input = chars != null ? new String(chars, from, to - from) : sequence.subSequence(from, to).toString();
+		return new NumberFormatException("For input string: \"" + input + "\"");
+	}
+}
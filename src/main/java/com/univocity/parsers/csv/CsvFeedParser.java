@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.csv;
+
+import com.univocity.parsers.common.*;
+
+import java.nio.charset.*;
+
+/**
+ * A CSV parser that receives its input in chunks pushed by the caller through the {@code feed} methods, and delivers records to the
+ * {@link com.univocity.parsers.common.processor.core.Processor} of its settings as soon as they are complete.
+ *
+ * <p> Records are considered complete at line separators found outside of quoted values. Unescaped quotes in unquoted values, or unbalanced quotes
+ * in comment lines, prevent records from being identified correctly. Use the regular {@link CsvParser} to process inputs with such content.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see CsvParser
+ * @see CsvParserSettings
+ * @see AbstractFeedParser
+ */
+public class CsvFeedParser extends AbstractFeedParser<CsvParserSettings> {
+
+	private char quote;
+	private char quoteEscape;
+	private boolean quoted;
+	private boolean escaping;
+	private char previous;
+
+	/**
+	 * Creates a CSV feed parser with the given configuration. Bytes received through {@link #feed(java.nio.ByteBuffer)} are decoded using UTF-8.
+	 *
+	 * @param settings the parser configuration. The {@link com.univocity.parsers.common.processor.core.Processor} of this configuration
+	 *                 receives the records parsed from the input.
+	 */
+	public CsvFeedParser(CsvParserSettings settings) {
+		this(settings, null);
+	}
+
+	/**
+	 * Creates a CSV feed parser with the given configuration.
+	 *
+	 * @param settings the parser configuration. The {@link com.univocity.parsers.common.processor.core.Processor} of this configuration
+	 *                 receives the records parsed from the input.
+	 * @param encoding the encoding used to decode bytes received through {@link #feed(java.nio.ByteBuffer)}. If {@code null}, UTF-8 will be used.
+	 */
+	public CsvFeedParser(CsvParserSettings settings, Charset encoding) {
+		super(settings, encoding);
+		quote = settings.getFormat().getQuote();
+		quoteEscape = settings.getFormat().getQuoteEscape();
+	}
+
+	@Override
+	protected AbstractParser<CsvParserSettings> createParser(CsvParserSettings settings) {
+		return new CsvParser(settings);
+	}
+
+	@Override
+	protected void prepareSegmentSettings(CsvParserSettings segmentSettings, AbstractParser<CsvParserSettings> firstParser) {
+		super.prepareSegmentSettings(segmentSettings, firstParser);
+		if (segmentSettings.isDelimiterDetectionEnabled() || segmentSettings.isQuoteDetectionEnabled()) {
+			CsvFormat detected = ((CsvParser) firstParser).getDetectedFormat();
+			if (detected != null) {
+				segmentSettings.getFormat().setDelimiter(detected.getDelimiterString());
+				segmentSettings.getFormat().setQuote(detected.getQuote());
+				segmentSettings.getFormat().setQuoteEscape(detected.getQuoteEscape());
+			}
+			segmentSettings.setDelimiterDetectionEnabled(false);
+			segmentSettings.setQuoteDetectionEnabled(false);
+		}
+		quote = segmentSettings.getFormat().getQuote();
+		quoteEscape = segmentSettings.getFormat().getQuoteEscape();
+	}
+
+	@Override
+	protected int findRecordEnd(char[] chars, int from, int to, char[] lineSeparator) {
+		final char newLine = lineSeparator == null ? '\n' : lineSeparator[lineSeparator.length - 1];
+		final char newLinePrefix = lineSeparator != null && lineSeparator.length == 2 ? lineSeparator[0] : '\0';
+		final char quote = this.quote;
+		final char quoteEscape = this.quoteEscape;
+
+		int end = -1;
+		for (int i = from; i < to; i++) {
+			char ch = chars[i];
+			if (escaping) {
+				escaping = false;
+			} else if (ch == quote) {
+				quoted = !quoted;
+			} else if (quoted) {
+				escaping = ch == quoteEscape;
+			} else if (ch == newLine && (newLinePrefix == '\0' || previous == newLinePrefix)) {
+				end = i + 1;
+			}
+			previous = ch;
+		}
+		return end;
+	}
+}
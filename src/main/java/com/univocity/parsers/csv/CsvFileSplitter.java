@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.csv;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Finds positions in a CSV file where records start, so that sections of the file can be parsed independently.
+ *
+ * <p> Only files whose encoding represents the quote and the line separator characters with single bytes that never occur inside
+ * multi-byte sequences (such as UTF-8, US-ASCII and ISO-8859-1) can be split. The quote escape must be the quote character itself
+ * (i.e. quotes inside values are escaped as {@code ""}), which makes every quoted value contain an even number of quotes.
+ *
+ * <p> A line separator is only the end of a record if an even number of quotes occurs before it. The quote parity at the start of
+ * each section is determined by a pre-pass that counts the quotes of all sections in parallel. Each section records the position of
+ * the first line separator under both possible parities, so the pre-pass reads every byte only once.
+ *
+ * <p> Unescaped quotes in unquoted values, and unbalanced quotes in comment lines, make the quote parity unreliable. The sections
+ * found are then only candidates, which {@link ParallelCsvParser} verifies while parsing them.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see ParallelCsvParser
+ */
+final class CsvFileSplitter {
+
+	private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+	private final File file;
+	private final byte quote;
+	private final byte newLine;
+	private final byte newLinePrefix;
+	private final boolean twoByteNewLine;
+
+	/**
+	 * Summary of a section of the file after it has been scanned.
+	 */
+	static final class Section {
+		long quotes;
+		/**
+		 * Position after the first line separator preceded by an even number of quotes within the section, or -1.
+		 */
+		long evenBoundary = -1;
+		/**
+		 * Position after the first line separator preceded by an odd number of quotes within the section, or -1.
+		 */
+		long oddBoundary = -1;
+
+		long boundary(boolean oddQuotesBefore) {
+			return oddQuotesBefore ? oddBoundary : evenBoundary;
+		}
+	}
+
+	/**
+	 * Creates a splitter for a given file
+	 *
+	 * @param file          the file to split
+	 * @param quote         the quote character used in the file
+	 * @param lineSeparator the line separator used in the file (one or two characters)
+	 */
+	CsvFileSplitter(File file, char quote, char[] lineSeparator) {
+		this.file = file;
+		this.quote = (byte) quote;
+		this.newLine = (byte) lineSeparator[lineSeparator.length - 1];
+		this.twoByteNewLine = lineSeparator.length == 2;
+		this.newLinePrefix = (byte) lineSeparator[0];
+	}
+
+	/**
+	 * Tests whether files with the given format and encoding can be split into independently parseable sections.
+	 *
+	 * @param format   the format of the file
+	 * @param encoding the encoding of the file
+	 *
+	 * @return {@code true} if the file can be split with a {@code CsvFileSplitter}
+	 */
+	static boolean isSplittable(CsvFormat format, Charset encoding) {
+		if (format.getQuote() != format.getQuoteEscape() || format.getQuote() > 127) {
+			return false;
+		}
+		char[] lineSeparator = format.getLineSeparator();
+		if (lineSeparator == null || lineSeparator.length == 0 || lineSeparator.length > 2) {
+			return false;
+		}
+		for (char ch : lineSeparator) {
+			if (ch > 127) {
+				return false;
+			}
+		}
+		String name = encoding.name();
+		return name.equals("UTF-8") || name.equals("US-ASCII") || name.startsWith("ISO-8859-") || name.startsWith("windows-125");
+	}
+
+	/**
+	 * Splits a range of the file into sections of approximately the given size, each starting at the beginning of a record.
+	 *
+	 * @param start       the position of the first record in the file
+	 * @param end         the end of the range to split (exclusive)
+	 * @param sectionSize the approximate number of bytes in each section
+	 * @param executor    the executor used to scan the file in parallel
+	 *
+	 * @return the start of each section, followed by the end of the range.
+	 */
+	long[] split(long start, long end, long sectionSize, ExecutorService executor) {
+		List<Future<Section>> scans = new ArrayList<Future<Section>>();
+		for (long from = start; from < end; from += sectionSize) {
+			final long sectionStart = from;
+			final long sectionEnd = Math.min(end, from + sectionSize);
+			scans.add(executor.submit(new Callable<Section>() {
+				@Override
+				public Section call() throws IOException {
+					return scan(sectionStart, sectionEnd, false);
+				}
+			}));
+		}
+
+		List<Long> boundaries = new ArrayList<Long>(scans.size() + 1);
+		boundaries.add(start);
+		boolean odd = false;
+		long last = start;
+		try {
+			for (int i = 0; i < scans.size(); i++) {
+				Section section = scans.get(i).get();
+				if (i > 0) {
+					long boundary = section.boundary(odd);
+					if (boundary > last && boundary < end) {
+						boundaries.add(boundary);
+						last = boundary;
+					}
+				}
+				odd ^= (section.quotes & 1) == 1;
+			}
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Error scanning file " + file.getAbsolutePath(), e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while scanning file " + file.getAbsolutePath(), e);
+		} finally {
+			for (Future<Section> scan : scans) {
+				scan.cancel(true);
+			}
+		}
+		boundaries.add(end);
+
+		long[] out = new long[boundaries.size()];
+		for (int i = 0; i < out.length; i++) {
+			out[i] = boundaries.get(i);
+		}
+		return out;
+	}
+
+	/**
+	 * Finds the start of the first record that begins after a given position.
+	 *
+	 * @param recordStart a position known to be the start of a record
+	 * @param from        the position after which to look for the start of a record ({@code >= recordStart})
+	 * @param end         the end of the range to look into (exclusive)
+	 *
+	 * @return the start of the first record found after {@code from}, or -1 if there's none before {@code end}.
+	 */
+	long nextRecordStart(long recordStart, long from, long end) {
+		try {
+			boolean odd = from > recordStart && (scan(recordStart, from, true).quotes & 1) == 1;
+			return scan(from, end, false).boundary(odd);
+		} catch (IOException e) {
+			throw new IllegalStateException("Error scanning file " + file.getAbsolutePath(), e);
+		}
+	}
+
+	/**
+	 * Scans a section of the file, counting quotes and finding the first line separators under each quote parity.
+	 *
+	 * @param start       the start of the section
+	 * @param end         the end of the section (exclusive)
+	 * @param countQuotes {@code true} if only quotes should be counted
+	 *
+	 * @return the summary of the section
+	 *
+	 * @throws IOException if the file can't be read
+	 */
+	Section scan(long start, long end, boolean countQuotes) throws IOException {
+		Section out = new Section();
+		if (start >= end) {
+			return out;
+		}
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = raf.getChannel();
+			byte[] bytes = new byte[(int) Math.min(SCAN_BUFFER_SIZE, end - start + 1)];
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+
+			final byte quote = this.quote;
+			final byte newLine = this.newLine;
+			long quotes = 0;
+			byte previous = 0;
+			long position = start;
+			boolean lookForBoundaries = !countQuotes;
+
+			if (start > 0) { //reads the byte before the section to match two-byte line separators.
+				buffer.limit(1);
+				if (channel.read(buffer, start - 1) == 1) {
+					previous = bytes[0];
+				}
+			}
+
+			while (position < end) {
+				buffer.clear();
+				buffer.limit((int) Math.min(bytes.length, end - position));
+				int length = channel.read(buffer, position);
+				if (length <= 0) {
+					break;
+				}
+
+				if (!lookForBoundaries) {
+					for (int i = 0; i < length; i++) {
+						if (bytes[i] == quote) {
+							quotes++;
+						}
+					}
+				} else {
+					for (int i = 0; i < length; i++) {
+						byte b = bytes[i];
+						if (b == quote) {
+							quotes++;
+						} else if (b == newLine && (!twoByteNewLine || (i > 0 ? bytes[i - 1] : previous) == newLinePrefix)) {
+							if ((quotes & 1) == 0) {
+								if (out.evenBoundary == -1) {
+									out.evenBoundary = position + i + 1;
+								}
+							} else if (out.oddBoundary == -1) {
+								out.oddBoundary = position + i + 1;
+							}
+							if (out.evenBoundary != -1 && out.oddBoundary != -1) {
+								lookForBoundaries = false;
+								for (i++; i < length; i++) {
+									if (bytes[i] == quote) {
+										quotes++;
+									}
+								}
+							}
+						}
+					}
+				}
+				previous = bytes[length - 1];
+				position += length;
+			}
+			out.quotes = quotes;
+		} finally {
+			raf.close();
+		}
+		return out;
+	}
+}
@@ -116,6 +116,8 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 		if (ch <= ' ' && ignoreLeadingWhitespace && whitespaceRangeStart < ch) {
 			ch = input.skipWhitespace(ch, delimiter, quote);
 		}
+		//values of dictionary columns and values collected as views can only be read in bulk from the buffer of an AbstractCharInputReader.
+		final AbstractCharInputReader bufferedInput = input instanceof AbstractCharInputReader ? (AbstractCharInputReader) input : null;
 
 		while (ch != newLine) {
 			if (ch <= ' ' && ignoreLeadingWhitespace && whitespaceRangeStart < ch) {
@@ -131,9 +133,27 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 					input.enableNormalizeLineEndings(normalizeLineEndingsInQuotes);
 					int len = output.appender.length();
 					if (len == 0) {
-						String value = input.getQuotedString(quote, quoteEscape, escapeEscape, maxColumnLength, delimiter, newLine, keepQuotes, keepEscape, trimQuotedLeading, trimQuotedTrailing);
-						if (value != null) {
-							output.valueParsed(value == "" ? emptyValue : value);
+						boolean parsed = false;
+						if (bufferedInput != null && output.isDictionaryColumn()) {
+							parsed = bufferedInput.parseQuotedString(quote, quoteEscape, escapeEscape, maxColumnLength, delimiter, newLine, keepQuotes, keepEscape, trimQuotedLeading, trimQuotedTrailing, emptyValue, output);
+						} else if (bufferedInput != null && output.isViewEnabled()) {
+							if (bufferedInput.appendQuotedString(quote, quoteEscape, escapeEscape, maxColumnLength, delimiter, newLine, keepQuotes, keepEscape, trimQuotedLeading, trimQuotedTrailing, output.appender)) {
+								if (output.appender.length() == 0) {
+									output.valueParsed(emptyValue);
+								} else {
+									output.trim = false;
+									output.valueParsed();
+								}
+								parsed = true;
+							}
+						} else {
+							String value = input.getQuotedString(quote, quoteEscape, escapeEscape, maxColumnLength, delimiter, newLine, keepQuotes, keepEscape, trimQuotedLeading, trimQuotedTrailing);
+							if (value != null) {
+								output.valueParsed(value == "" ? emptyValue : value);
+								parsed = true;
+							}
+						}
+						if (parsed) {
 							input.enableNormalizeLineEndings(true);
 							try {
 								ch = input.nextChar();
@@ -180,13 +200,31 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 						output.valueParsed();
 					}
 				} else if (doNotEscapeUnquotedValues) {
-					String value = null;
 					int len = output.appender.length();
+					boolean parsed = false;
 					if (len == 0) {
-						value = input.getString(ch, delimiter, ignoreTrailingWhitespace, nullValue, maxColumnLength);
+						if (bufferedInput != null && output.isDictionaryColumn()) {
+							parsed = bufferedInput.parseString(ch, delimiter, ignoreTrailingWhitespace, nullValue, maxColumnLength, output);
+						} else if (bufferedInput != null && output.isViewEnabled()) {
+							if (bufferedInput.appendString(ch, delimiter, ignoreTrailingWhitespace, maxColumnLength, output.appender)) {
+								if (output.appender.length() == 0) {
+									output.valueParsed(nullValue);
+								} else {
+									output.trim = false;
+									output.valueParsed();
+								}
+								parsed = true;
+							}
+						} else {
+							//an empty String is returned for values without content so they can be told apart from a null nullValue.
+							String value = input.getString(ch, delimiter, ignoreTrailingWhitespace, "", maxColumnLength);
+							if (value != null) {
+								output.valueParsed(value == "" ? nullValue : value);
+								parsed = true;
+							}
+						}
 					}
-					if (value != null) {
-						output.valueParsed(value);
+					if (parsed) {
 						ch = input.getChar();
 					} else {
 						if (len != -1) {
@@ -283,7 +321,8 @@ public final class CsvParser extends AbstractParser<CsvParserSettings> {
 					}
 					output.valueParsed(value);
 					if (output.appender.charAt(pos) == newLine) {
-						output.pendingRecords.add(output.rowParsed());
+						String[] row = output.rowParsed();
+						output.pendingRecords.add(row == null ? null : row.clone()); //the row array might be reused by the output.
 						output.appender.remove(0, pos + 1);
 						continue;
 					}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.csv;
+
+import com.univocity.parsers.common.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.concurrent.*;
+
+/**
+ * A CSV parser that splits a large file into chunks and parses them in parallel.
+ *
+ * <p> Chunks are split at line separators preceded by an even number of quotes, so records with quoted values spanning multiple lines are
+ * never broken apart. This requires the quote escape to be the quote character itself, and the file encoding to represent quotes and
+ * line separators with single bytes (e.g. UTF-8, US-ASCII or ISO-8859-1). Files that don't meet these requirements are parsed sequentially.
+ *
+ * <p> Unescaped quotes in unquoted values, or unbalanced quotes in comment lines, make the quote parity unreliable. The parser of the chunk
+ * preceding a wrong boundary reaches its end in the middle of a record, and the rest of the file is then parsed sequentially
+ * (see {@link AbstractParallelParser}).
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see CsvParser
+ * @see CsvParserSettings
+ * @see AbstractParallelParser
+ */
+public class ParallelCsvParser extends AbstractParallelParser<CsvParserSettings> {
+
+	/**
+	 * Creates a parallel CSV parser with the given configuration
+	 *
+	 * @param settings the parser configuration. The {@link com.univocity.parsers.common.processor.core.Processor} of this configuration
+	 *                 receives the records parsed from the input.
+	 */
+	public ParallelCsvParser(CsvParserSettings settings) {
+		super(settings);
+	}
+
+	@Override
+	protected AbstractParser<CsvParserSettings> createParser(CsvParserSettings settings) {
+		return new CsvParser(settings);
+	}
+
+	@Override
+	protected void prepareChunkSettings(CsvParserSettings chunkSettings, AbstractParser<CsvParserSettings> firstParser) {
+		super.prepareChunkSettings(chunkSettings, firstParser);
+		if (chunkSettings.isDelimiterDetectionEnabled() || chunkSettings.isQuoteDetectionEnabled()) {
+			CsvFormat detected = ((CsvParser) firstParser).getDetectedFormat();
+			if (detected != null) {
+				chunkSettings.getFormat().setDelimiter(detected.getDelimiterString());
+				chunkSettings.getFormat().setQuote(detected.getQuote());
+				chunkSettings.getFormat().setQuoteEscape(detected.getQuoteEscape());
+			}
+			chunkSettings.setDelimiterDetectionEnabled(false);
+			chunkSettings.setQuoteDetectionEnabled(false);
+		}
+	}
+
+	@Override
+	protected long[] split(File file, long start, CsvParserSettings chunkSettings, Charset encoding, ExecutorService executor) {
+		CsvFormat format = chunkSettings.getFormat();
+		if (!CsvFileSplitter.isSplittable(format, encoding)) {
+			return null;
+		}
+		long length = file.length();
+		if (length - start <= getChunkSize()) {
+			return null;
+		}
+		CsvFileSplitter splitter = new CsvFileSplitter(file, format.getQuote(), format.getLineSeparator());
+		return splitter.split(start, length, getChunkSize(), executor);
+	}
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.tsv;
+
+import com.univocity.parsers.common.*;
+
+import java.nio.charset.*;
+
+/**
+ * A TSV parser that receives its input in chunks pushed by the caller through the {@code feed} methods, and delivers records to the
+ * {@link com.univocity.parsers.common.processor.core.Processor} of its settings as soon as they are complete.
+ *
+ * <p> Records are considered complete at line separators. If line joining is enabled (see {@link TsvParserSettings#isLineJoiningEnabled()}),
+ * line separators preceded by the escape character are part of the value being parsed.
+ *
+ * @author Univocity Software Pty Ltd - <a href="mailto:parsers@univocity.com">parsers@univocity.com</a>
+ * @see TsvParser
+ * @see TsvParserSettings
+ * @see AbstractFeedParser
+ */
+public class TsvFeedParser extends AbstractFeedParser<TsvParserSettings> {
+
+	private final boolean lineJoining;
+	private final char escapeChar;
+	private boolean escaping;
+	private char previous;
+
+	/**
+	 * Creates a TSV feed parser with the given configuration. Bytes received through {@link #feed(java.nio.ByteBuffer)} are decoded using UTF-8.
+	 *
+	 * @param settings the parser configuration. The {@link com.univocity.parsers.common.processor.core.Processor} of this configuration
+	 *                 receives the records parsed from the input.
+	 */
+	public TsvFeedParser(TsvParserSettings settings) {
+		this(settings, null);
+	}
+
+	/**
+	 * Creates a TSV feed parser with the given configuration.
+	 *
+	 * @param settings the parser configuration. The {@link com.univocity.parsers.common.processor.core.Processor} of this configuration
+	 *                 receives the records parsed from the input.
+	 * @param encoding the encoding used to decode bytes received through {@link #feed(java.nio.ByteBuffer)}. If {@code null}, UTF-8 will be used.
+	 */
+	public TsvFeedParser(TsvParserSettings settings, Charset encoding) {
+		super(settings, encoding);
+		lineJoining = settings.isLineJoiningEnabled();
+		escapeChar = settings.getFormat().getEscapeChar();
+	}
+
+	@Override
+	protected AbstractParser<TsvParserSettings> createParser(TsvParserSettings settings) {
+		return new TsvParser(settings);
+	}
+
+	@Override
+	protected int findRecordEnd(char[] chars, int from, int to, char[] lineSeparator) {
+		final char newLine = lineSeparator == null ? '\n' : lineSeparator[lineSeparator.length - 1];
+		final char newLinePrefix = lineSeparator != null && lineSeparator.length == 2 ? lineSeparator[0] : '\0';
+
+		int end = -1;
+		for (int i = from; i < to; i++) {
+			char ch = chars[i];
+			if (escaping) {
+				//an escaped two-character line separator is only complete after its second character.
+				escaping = newLinePrefix != '\0' && ch == newLinePrefix;
+			} else if (lineJoining && ch == escapeChar) {
+				escaping = true;
+			} else if (ch == newLine && (newLinePrefix == '\0' || previous == newLinePrefix)) {
+				end = i + 1;
+			}
+			previous = ch;
+		}
+		return end;
+	}
+}
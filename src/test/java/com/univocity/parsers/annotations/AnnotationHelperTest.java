@@ -16,10 +16,15 @@
 package com.univocity.parsers.annotations;
 
 import com.univocity.parsers.annotations.helpers.AnnotationHelper;
+import com.univocity.parsers.annotations.helpers.MethodFilter;
+import com.univocity.parsers.common.beans.*;
 
 import java.io.*;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.*;
 
 import com.univocity.parsers.annotations.meta.*;
 import com.univocity.parsers.common.processor.*;
@@ -62,4 +67,53 @@ public class AnnotationHelperTest {
 				"thisisctest;;\n");
 	}
 
+	@Test
+	public void testReflectiveMetadataIsCopiedFromCache() {
+		Map<Field, PropertyWrapper> fields = AnnotationHelper.getAllFields(CleanBeanTest.class);
+		int fieldCount = fields.size();
+		assertTrue(fieldCount > 0);
+		fields.clear();
+		assertEquals(AnnotationHelper.getAllFields(CleanBeanTest.class).size(), fieldCount);
+
+		List<Method> methods = AnnotationHelper.getAllMethods(CleanBeanTest.class, MethodFilter.ONLY_GETTERS);
+		int methodCount = methods.size();
+		methods.clear();
+		assertEquals(AnnotationHelper.getAllMethods(CleanBeanTest.class, MethodFilter.ONLY_GETTERS).size(), methodCount);
+
+		for (Field field : AnnotationHelper.getAllFields(CleanBeanTest.class).keySet()) {
+			assertSame(AnnotationHelper.findAnnotation(field, Parsed.class), AnnotationHelper.findAnnotation(field, Parsed.class));
+		}
+	}
+
+	@Test
+	public void testConcurrentProcessorCreation() throws Exception {
+		final List<CleanBeanTest> beans = new ArrayList<CleanBeanTest>();
+		beans.add(new CleanBeanTest("this;is;a;test", ";and;another;test;", 1));
+		beans.add(new CleanBeanTest("this;is;c;test", ";;", 3));
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<String>> results = new ArrayList<Future<String>>();
+			for (int i = 0; i < 32; i++) {
+				results.add(executor.submit(new Callable<String>() {
+					@Override
+					public String call() {
+						CsvWriterSettings settings = new CsvWriterSettings();
+						settings.getFormat().setDelimiter(';');
+						settings.getFormat().setLineSeparator("\n");
+						settings.setRowWriterProcessor(new BeanWriterProcessor<CleanBeanTest>(CleanBeanTest.class));
+
+						StringWriter out = new StringWriter();
+						new CsvWriter(out, settings).processRecordsAndClose(beans);
+						return out.toString();
+					}
+				}));
+			}
+			for (Future<String> result : results) {
+				assertEquals(result.get(), "thisistest;andanothertest;1\nthisisctest;;\n");
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
 }
@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import com.univocity.parsers.annotations.*;
+import com.univocity.parsers.common.record.Record;
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.testng.Assert.*;
+
+public class ResultPublisherTest {
+
+	private static final String INPUT = "a,b\n1,x\n2,y\n3,z\n4,w\n5,v\n";
+
+	private static class TestSubscriber<T> implements ResultPublisher.Subscriber<T> {
+		final List<T> items = new ArrayList<T>();
+		ResultPublisher.Subscription subscription;
+		Throwable error;
+		int completions;
+
+		@Override
+		public void onSubscribe(ResultPublisher.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(T item) {
+			items.add(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			completions++;
+		}
+	}
+
+	public static class Bean {
+		@Parsed
+		int a;
+		@Parsed
+		String b;
+	}
+
+	private CsvParser newParser() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(true);
+		return new CsvParser(settings);
+	}
+
+	@Test
+	public void testPublishesOnDemand() {
+		ResultPublisher<String[], ParsingContext> publisher = new ResultPublisher<String[], ParsingContext>(newParser().iterate(new StringReader(INPUT)));
+		TestSubscriber<String[]> subscriber = new TestSubscriber<String[]>();
+		publisher.subscribe(subscriber);
+		assertTrue(subscriber.items.isEmpty());
+
+		subscriber.subscription.request(2);
+		assertEquals(subscriber.items.size(), 2);
+		assertEquals(subscriber.items.get(1), new String[]{"2", "y"});
+
+		subscriber.subscription.request(1);
+		subscriber.subscription.request(1);
+		assertEquals(subscriber.items.size(), 4);
+		assertEquals(subscriber.completions, 0);
+
+		subscriber.subscription.request(10);
+		assertEquals(subscriber.items.size(), 5);
+		assertEquals(subscriber.completions, 1);
+		assertNull(subscriber.error);
+	}
+
+	@Test
+	public void testRequestFromOnNext() {
+		ResultPublisher<Record, ParsingContext> publisher = new ResultPublisher<Record, ParsingContext>(newParser().iterateRecords(new StringReader(INPUT)));
+		final List<Integer> depth = new ArrayList<Integer>();
+		TestSubscriber<Record> subscriber = new TestSubscriber<Record>() {
+			int active;
+
+			@Override
+			public void onNext(Record item) {
+				depth.add(++active);
+				super.onNext(item);
+				subscription.request(1);
+				active--;
+			}
+		};
+		publisher.subscribe(subscriber);
+		subscriber.subscription.request(1);
+
+		assertEquals(subscriber.items.size(), 5);
+		assertEquals(subscriber.items.get(4).getString("b"), "v");
+		assertEquals(subscriber.completions, 1);
+		assertEquals(depth, Arrays.asList(1, 1, 1, 1, 1));
+	}
+
+	@Test
+	public void testCancel() {
+		CsvParser parser = newParser();
+		ResultPublisher<String[], ParsingContext> publisher = new ResultPublisher<String[], ParsingContext>(parser.iterate(new StringReader(INPUT)));
+		TestSubscriber<String[]> subscriber = new TestSubscriber<String[]>() {
+			@Override
+			public void onNext(String[] item) {
+				super.onNext(item);
+				if (items.size() == 2) {
+					subscription.cancel();
+				}
+			}
+		};
+		publisher.subscribe(subscriber);
+		subscriber.subscription.request(Long.MAX_VALUE);
+
+		assertEquals(subscriber.items.size(), 2);
+		assertEquals(subscriber.completions, 0);
+		assertTrue(parser.getContext().isStopped());
+
+		subscriber.subscription.request(1);
+		assertEquals(subscriber.items.size(), 2);
+	}
+
+	@Test
+	public void testInvalidRequestAndSecondSubscriber() {
+		ResultPublisher<String[], ParsingContext> publisher = new ResultPublisher<String[], ParsingContext>(newParser().iterate(new StringReader(INPUT)));
+		TestSubscriber<String[]> subscriber = new TestSubscriber<String[]>();
+		publisher.subscribe(subscriber);
+		subscriber.subscription.request(0);
+		assertTrue(subscriber.error instanceof IllegalArgumentException);
+
+		TestSubscriber<String[]> other = new TestSubscriber<String[]>();
+		publisher.subscribe(other);
+		assertTrue(other.error instanceof IllegalStateException);
+	}
+
+	@Test
+	public void testPublishBeansOnExecutor() throws Exception {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		IterableResult<Bean, ParsingContext> beans = new CsvRoutines(settings).iterate(Bean.class, new StringReader(INPUT));
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final CountDownLatch finished = new CountDownLatch(1);
+			TestSubscriber<Bean> subscriber = new TestSubscriber<Bean>() {
+				@Override
+				public void onComplete() {
+					super.onComplete();
+					finished.countDown();
+				}
+			};
+			new ResultPublisher<Bean, ParsingContext>(beans, executor).subscribe(subscriber);
+			subscriber.subscription.request(3);
+			subscriber.subscription.request(3);
+			assertTrue(finished.await(10, TimeUnit.SECONDS));
+
+			assertEquals(subscriber.items.size(), 5);
+			assertEquals(subscriber.items.get(2).a, 3);
+			assertEquals(subscriber.items.get(2).b, "z");
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testExceptionInOnNextCancelsSubscription() {
+		CsvParser parser = newParser();
+		ResultPublisher<String[], ParsingContext> publisher = new ResultPublisher<String[], ParsingContext>(parser.iterate(new StringReader(INPUT)));
+		TestSubscriber<String[]> subscriber = new TestSubscriber<String[]>() {
+			@Override
+			public void onNext(String[] item) {
+				super.onNext(item);
+				if (items.size() == 2) {
+					throw new IllegalStateException("boom");
+				}
+			}
+		};
+		publisher.subscribe(subscriber);
+		try {
+			subscriber.subscription.request(10);
+			fail("Expecting exception thrown by subscriber");
+		} catch (IllegalStateException e) {
+			assertEquals(e.getMessage(), "boom");
+		}
+
+		assertEquals(subscriber.items.size(), 2);
+		assertNull(subscriber.error);
+		assertEquals(subscriber.completions, 0);
+		assertTrue(parser.getContext().isStopped());
+	}
+
+	@Test
+	public void testExceptionInOnCompleteIsNotSentToOnError() {
+		ResultPublisher<String[], ParsingContext> publisher = new ResultPublisher<String[], ParsingContext>(newParser().iterate(new StringReader(INPUT)));
+		TestSubscriber<String[]> subscriber = new TestSubscriber<String[]>() {
+			@Override
+			public void onComplete() {
+				super.onComplete();
+				throw new IllegalStateException("boom");
+			}
+		};
+		publisher.subscribe(subscriber);
+		try {
+			subscriber.subscription.request(10);
+			fail("Expecting exception thrown by subscriber");
+		} catch (IllegalStateException e) {
+			assertEquals(e.getMessage(), "boom");
+		}
+
+		assertEquals(subscriber.items.size(), 5);
+		assertEquals(subscriber.completions, 1);
+		assertNull(subscriber.error);
+	}
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import org.testng.annotations.*;
+
+import static org.testng.Assert.*;
+
+public class StringCacheTest {
+
+	private static class LengthCache extends StringCache<Integer> {
+		int processed;
+
+		@Override
+		protected Integer process(String input) {
+			processed++;
+			return input.length();
+		}
+	}
+
+	@Test
+	public void testEvictsEntriesNotReadRecently() {
+		LengthCache cache = new LengthCache();
+		cache.setSizeLimit(4);
+
+		cache.get("a");
+		cache.get("bb");
+		cache.get("ccc");
+		cache.get("dddd");
+		assertEquals(cache.size(), 4);
+
+		cache.get("a");
+		cache.get("ccc");
+
+		cache.get("eeeee");
+		assertEquals(cache.size(), 4);
+		assertEquals(cache.getEvictionCount(), 1);
+		assertTrue(cache.containsKey("a"));
+		assertFalse(cache.containsKey("bb"));
+		assertTrue(cache.containsKey("ccc"));
+		assertTrue(cache.containsKey("dddd"));
+		assertTrue(cache.containsKey("eeeee"));
+
+		cache.get("ffffff");
+		assertEquals(cache.getEvictionCount(), 2);
+		assertFalse(cache.containsKey("dddd"));
+		assertTrue(cache.containsKey("a"));
+		assertTrue(cache.containsKey("ccc"));
+	}
+
+	@Test
+	public void testStatistics() {
+		LengthCache cache = new LengthCache();
+		for (int i = 0; i < 3; i++) {
+			assertEquals(cache.get("abc"), Integer.valueOf(3));
+			assertEquals(cache.get("xy"), Integer.valueOf(2));
+		}
+		assertEquals(cache.processed, 2);
+		assertEquals(cache.getMissCount(), 2);
+		assertEquals(cache.getHitCount(), 4);
+		assertEquals(cache.getEvictionCount(), 0);
+
+		cache.resetStatistics();
+		assertEquals(cache.getHitCount(), 0);
+		assertEquals(cache.getMissCount(), 0);
+
+		cache.clear();
+		assertEquals(cache.size(), 0);
+		cache.get("abc");
+		assertEquals(cache.getMissCount(), 1);
+		assertEquals(cache.processed, 3);
+	}
+
+	@Test
+	public void testSizeLimitIsRespectedAcrossStripes() {
+		LengthCache cache = new LengthCache();
+		cache.setSizeLimit(1000);
+		for (int i = 0; i < 5000; i++) {
+			cache.get(String.valueOf(i));
+		}
+		assertEquals(cache.size(), 1000);
+		assertEquals(cache.getEvictionCount(), 4000);
+		assertEquals(cache.getMissCount(), 5000);
+	}
+
+	@Test
+	public void testChangingSizeLimitKeepsEntries() {
+		LengthCache cache = new LengthCache();
+		for (int i = 0; i < 500; i++) {
+			cache.get(String.valueOf(i));
+		}
+		cache.get("1");
+
+		cache.setSizeLimit(Integer.MAX_VALUE);
+		assertEquals(cache.size(), 500);
+		assertEquals(cache.getMissCount(), 500);
+		assertEquals(cache.getHitCount(), 1);
+		for (int i = 500; i < 5000; i++) {
+			cache.get(String.valueOf(i));
+		}
+		assertEquals(cache.size(), 5000);
+		assertEquals(cache.getEvictionCount(), 0);
+
+		cache.setSizeLimit(100);
+		assertEquals(cache.size(), 100);
+		assertEquals(cache.getEvictionCount(), 4900);
+
+		int kept = 0;
+		for (int i = 0; i < 5000; i++) {
+			if (cache.containsKey(String.valueOf(i))) {
+				assertEquals(cache.get(String.valueOf(i)), Integer.valueOf(String.valueOf(i).length()));
+				kept++;
+			}
+		}
+		assertEquals(kept, 100);
+		assertEquals(cache.processed, 5000);
+	}
+}
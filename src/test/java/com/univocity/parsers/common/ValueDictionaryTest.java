@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common;
+
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class ValueDictionaryTest {
+
+	@Test
+	public void testDictionaryLookup() {
+		ValueDictionary dictionary = new ValueDictionary(3);
+		String a = dictionary.get("abc".toCharArray(), 0, 3);
+		assertEquals(a, "abc");
+		assertSame(dictionary.get("xabcd".toCharArray(), 1, 3), a);
+		assertSame(dictionary.get(new String("abc")), a);
+
+		String b = dictionary.get(new String("b"));
+		assertSame(dictionary.get(new char[]{'b', 'x'}, 0, 1), b);
+		assertEquals(dictionary.get(new char[0], 0, 0), "");
+		assertEquals(dictionary.size(), 3);
+
+		assertNull(dictionary.get("new".toCharArray(), 0, 3));
+		assertNull(dictionary.get("other"));
+		assertSame(dictionary.get("abc"), a);
+	}
+
+	private String input(int rows, int cardinality) {
+		StringBuilder out = new StringBuilder("id,country,status\n");
+		for (int i = 0; i < rows; i++) {
+			out.append(i).append(',').append("C").append(i % cardinality).append(",\" st ").append(i % 2).append("\"\n");
+		}
+		return out.toString();
+	}
+
+	private CsvParserSettings newSettings() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(true);
+		settings.setInputBufferSize(64);
+		settings.setReadInputOnSeparateThread(false);
+		return settings;
+	}
+
+	@Test
+	public void testDictionaryFieldsByName() {
+		CsvParserSettings settings = newSettings();
+		settings.setDictionaryFields("country", "status");
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader(input(1000, 10)));
+		List<String[]> expected = new CsvParser(newSettings()).parseAll(new StringReader(input(1000, 10)));
+
+		assertEquals(rows.size(), expected.size());
+		for (int i = 0; i < rows.size(); i++) {
+			assertEquals(rows.get(i), expected.get(i));
+		}
+		assertSame(rows.get(3)[1], rows.get(13)[1]);
+		assertSame(rows.get(3)[2], rows.get(5)[2]);
+		assertNotSame(rows.get(3)[0], rows.get(13)[0]);
+	}
+
+	@Test
+	public void testDictionaryFieldsByIndexWithSelection() {
+		CsvParserSettings settings = newSettings();
+		settings.setDictionaryIndexes(1);
+		settings.selectFields("country", "id");
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader(input(200, 7)));
+		assertEquals(rows.get(8)[0], "C1");
+		assertEquals(rows.get(8)[1], "8");
+		assertSame(rows.get(1)[0], rows.get(8)[0]);
+	}
+
+	@Test
+	public void testDictionaryDisabledAboveCardinalityLimit() {
+		CsvParserSettings settings = newSettings();
+		settings.setDictionaryFields("country");
+		settings.setDictionaryCardinalityLimit(5);
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader(input(100, 50)));
+		assertEquals(rows.size(), 100);
+		for (int i = 0; i < rows.size(); i++) {
+			assertEquals(rows.get(i)[1], "C" + (i % 50));
+		}
+		//dictionary discarded after the 6th distinct value.
+		assertNotSame(rows.get(0)[1], rows.get(50)[1]);
+	}
+
+	private void assertSameRowsWithDictionaries(CsvParserSettings settings, String input, int cardinalityLimit) {
+		List<String[]> expected = new CsvParser(settings).parseAll(new StringReader(input));
+
+		CsvParserSettings dictionarySettings = settings.clone();
+		dictionarySettings.setDictionaryIndexes(0, 1, 2, 3);
+		dictionarySettings.setDictionaryCardinalityLimit(cardinalityLimit);
+		List<String[]> rows = new CsvParser(dictionarySettings).parseAll(new StringReader(input));
+
+		assertEquals(rows.size(), expected.size(), input);
+		for (int i = 0; i < rows.size(); i++) {
+			assertEquals(rows.get(i), expected.get(i), input);
+		}
+	}
+
+	private CsvParserSettings newSettings(boolean ignoreLeading, boolean ignoreTrailing) {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setReadInputOnSeparateThread(false);
+		settings.setIgnoreLeadingWhitespaces(ignoreLeading);
+		settings.setIgnoreTrailingWhitespaces(ignoreTrailing);
+		settings.setNullValue("NULL");
+		settings.setEmptyValue("EMPTY");
+		return settings;
+	}
+
+	@Test
+	public void testEmptyValuesWithDictionaries() {
+		String[] inputs = {
+				"x,p\ny,q\n ,r\n",
+				"x,p\n\"\",q\n  ,\" \"\n",
+		};
+		for (String input : inputs) {
+			for (int limit = 1; limit <= 3; limit++) {
+				assertSameRowsWithDictionaries(newSettings(false, true), input, limit);
+				assertSameRowsWithDictionaries(newSettings(true, true), input, limit);
+				assertSameRowsWithDictionaries(newSettings(false, false), input, limit);
+			}
+		}
+	}
+
+	@Test
+	public void testDictionariesDoNotChangeValues() {
+		char[] alphabet = {'a', 'b', 'c', ' ', ',', ',', '"', '\n'};
+		Random random = new Random(17);
+		for (int i = 0; i < 2000; i++) {
+			char[] input = new char[1 + random.nextInt(30)];
+			for (int j = 0; j < input.length; j++) {
+				input[j] = alphabet[random.nextInt(alphabet.length)];
+			}
+			CsvParserSettings settings = newSettings(random.nextBoolean(), random.nextBoolean());
+			if (random.nextBoolean()) {
+				settings.setInputBufferSize(4 + random.nextInt(8));
+			}
+			assertSameRowsWithDictionaries(settings, new String(input), 1 + random.nextInt(4));
+		}
+	}
+}
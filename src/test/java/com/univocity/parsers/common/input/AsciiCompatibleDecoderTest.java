@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input;
+
+import org.testng.annotations.*;
+
+import java.nio.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class AsciiCompatibleDecoderTest {
+
+	private String jdkDecode(byte[] bytes, Charset charset) throws Exception {
+		CharsetDecoder decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+		return decoder.decode(ByteBuffer.wrap(bytes)).toString();
+	}
+
+	private ByteBuffer window(byte[] bytes, int start, int windowSize) {
+		int length = Math.min(windowSize, bytes.length - start);
+		ByteBuffer window = ByteBuffer.allocateDirect(length);
+		window.put(bytes, start, length);
+		window.flip();
+		return window;
+	}
+
+	private String decode(byte[] bytes, Charset charset, int windowSize, int outputSize) {
+		AsciiCompatibleDecoder decoder = AsciiCompatibleDecoder.newDecoder(charset);
+		StringBuilder out = new StringBuilder();
+		CharBuffer chars = CharBuffer.allocate(outputSize);
+
+		int offset = 0;
+		ByteBuffer window = window(bytes, offset, windowSize);
+		while (true) {
+			boolean last = offset + window.limit() >= bytes.length;
+			chars.clear();
+			boolean overflow = decoder.decode(window, chars, last);
+			chars.flip();
+			out.append(chars);
+			if (overflow) {
+				assertTrue(chars.length() > 0);
+				continue;
+			}
+			if (last) {
+				assertFalse(window.hasRemaining());
+				break;
+			}
+			offset += window.position();
+			window = window(bytes, offset, windowSize);
+		}
+		return out.toString();
+	}
+
+	@DataProvider
+	public Object[][] sizes() {
+		return new Object[][]{
+				{4, 2},
+				{4, 2},
+				{5, 3},
+				{7, 16},
+				{64, 5},
+				{1024, 1024},
+		};
+	}
+
+	@Test(dataProvider = "sizes")
+	public void testValidUtf8(int windowSize, int outputSize) throws Exception {
+		Charset utf8 = Charset.forName("UTF-8");
+		String text = "a,ção,日本語\n€,x,😀z\"q\"\r\n\u0080߿ࠀ￿";
+		byte[] bytes = text.getBytes(utf8);
+		assertEquals(decode(bytes, utf8, windowSize, outputSize), text);
+	}
+
+	@Test(dataProvider = "sizes")
+	public void testRandomInputMatchesJdk(int windowSize, int outputSize) throws Exception {
+		Random random = new Random(windowSize * 31 + outputSize);
+		byte[] interesting = new byte[]{'a', ',', '\n', (byte) 0xC0, (byte) 0xC3, (byte) 0xA7, (byte) 0xE0, (byte) 0xED, (byte) 0xA0, (byte) 0x80,
+				(byte) 0xBF, (byte) 0xF0, (byte) 0x9F, (byte) 0xF4, (byte) 0x90, (byte) 0xF5, (byte) 0xFF, (byte) 0xE2, (byte) 0x82, (byte) 0xAC};
+
+		for (String name : new String[]{"UTF-8", "US-ASCII", "ISO-8859-1"}) {
+			Charset charset = Charset.forName(name);
+			for (int i = 0; i < 200; i++) {
+				byte[] bytes = new byte[random.nextInt(40)];
+				for (int j = 0; j < bytes.length; j++) {
+					bytes[j] = random.nextBoolean() ? interesting[random.nextInt(interesting.length)] : (byte) random.nextInt(256);
+				}
+				assertEquals(decode(bytes, charset, windowSize, outputSize), jdkDecode(bytes, charset), name + " " + Arrays.toString(bytes));
+			}
+		}
+	}
+
+	@Test
+	public void testUnsupportedEncoding() {
+		assertNull(AsciiCompatibleDecoder.newDecoder(Charset.forName("UTF-16")));
+		assertNotNull(AsciiCompatibleDecoder.newDecoder(Charset.forName("UTF-8")));
+	}
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input;
+
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class MappedCharInputReaderTest {
+
+	private File createFile(String content, String encoding) throws IOException {
+		File tmp = File.createTempFile("mapped_input", ".csv");
+		tmp.deleteOnExit();
+		OutputStream out = new FileOutputStream(tmp);
+		try {
+			out.write(content.getBytes(encoding));
+		} finally {
+			out.close();
+		}
+		return tmp;
+	}
+
+	private String readAll(Reader reader, int bufferSize) throws IOException {
+		StringBuilder out = new StringBuilder();
+		char[] buffer = new char[bufferSize];
+		int length;
+		while ((length = reader.read(buffer, 0, buffer.length)) != -1) {
+			out.append(buffer, 0, length);
+		}
+		reader.close();
+		return out.toString();
+	}
+
+	@DataProvider
+	public Object[][] windowSizes() {
+		return new Object[][]{
+				{4},
+				{5},
+				{7},
+				{MappedFileReader.DEFAULT_WINDOW_SIZE}
+		};
+	}
+
+	@Test(dataProvider = "windowSizes")
+	public void testDecodeAcrossWindows(int windowSize) throws Exception {
+		String content = "a,ção,日本語\n€,x,😀z\n";
+		File file = createFile(content, "UTF-8");
+
+		assertEquals(readAll(new MappedFileReader(file, Charset.forName("UTF-8"), windowSize), 1), content);
+		assertEquals(readAll(new MappedFileReader(file, Charset.forName("UTF-8"), windowSize), 3), content);
+		assertEquals(readAll(new MappedFileReader(file, Charset.forName("UTF-16"), windowSize), 3), new String(content.getBytes("UTF-8"), "UTF-16"));
+		assertEquals(readAll(new MappedFileReader(file, Charset.forName("UTF-8"), windowSize), 1024), content);
+	}
+
+	@Test
+	public void testBomDetection() throws Exception {
+		String content = "a,b\n1,2";
+
+		File file = createFile("\uFEFF" + content, "UTF-8");
+		MappedFileReader reader = new MappedFileReader(file, null);
+		assertEquals(reader.getCharset(), Charset.forName("UTF-8"));
+		assertEquals(readAll(reader, 1024), content);
+
+		file = createFile("\uFEFF" + content, "UTF-16LE");
+		reader = new MappedFileReader(file, null);
+		assertEquals(reader.getCharset(), Charset.forName("UTF-16LE"));
+		assertEquals(readAll(reader, 1024), content);
+
+		file = createFile("\uFEFF" + content, "UTF-16BE");
+		reader = new MappedFileReader(file, null);
+		assertEquals(reader.getCharset(), Charset.forName("UTF-16BE"));
+		assertEquals(readAll(reader, 1024), content);
+	}
+
+	@Test
+	public void testEmptyFile() throws Exception {
+		File file = createFile("", "UTF-8");
+		assertEquals(readAll(new MappedFileReader(file, null), 16), "");
+	}
+
+	@Test
+	public void testInputReading() throws Exception {
+		MappedCharInputReader reader = new MappedCharInputReader("\n".toCharArray(), '\n', 2, -1, true);
+
+		reader.start(new MappedFileReader(createFile("ab\nç", "UTF-8"), Charset.forName("UTF-8"), 4));
+		assertEquals(reader.nextChar(), 'a');
+		assertEquals(reader.nextChar(), 'b');
+		assertEquals(reader.nextChar(), '\n');
+		assertEquals(reader.nextChar(), 'ç');
+		try {
+			reader.nextChar();
+			fail("Expected EOFException");
+		} catch (EOFException ex) {
+			//pass
+		}
+		assertEquals(reader.lineCount(), 2);
+	}
+
+	@Test
+	public void testParseMappedFile() throws Exception {
+		StringBuilder content = new StringBuilder("id,name,description\n");
+		for (int i = 0; i < 1000; i++) {
+			content.append(i).append(",náme ").append(i).append(",\"multi\nline, ").append(i).append("\"\n");
+		}
+		File file = createFile(content.toString(), "UTF-8");
+
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(true);
+		settings.setInputBufferSize(100);
+		List<String[]> expected = new CsvParser(settings).parseAll(file, "UTF-8");
+
+		settings.setMemoryMappingEnabled(true);
+		List<String[]> mapped = new CsvParser(settings).parseAll(file, "UTF-8");
+
+		assertEquals(mapped.size(), 1000);
+		assertEquals(mapped.size(), expected.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(mapped.get(i), expected.get(i));
+		}
+		assertEquals(mapped.get(999), new String[]{"999", "náme 999", "multi\nline, 999"});
+	}
+}
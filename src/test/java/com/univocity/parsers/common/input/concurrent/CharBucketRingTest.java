@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input.concurrent;
+
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class CharBucketRingTest {
+
+	@DataProvider
+	public Object[][] waitStrategies() {
+		return new Object[][]{
+				{0, 0L},
+				{0, 1000L},
+				{1000, 0L},
+				{1000, 50000L},
+		};
+	}
+
+	@Test(dataProvider = "waitStrategies", timeOut = 30000)
+	public void testBucketsDeliveredInOrder(int spinCount, long parkNanos) throws Exception {
+		final int total = 20000;
+		final CharBucketRing ring = new CharBucketRing(4, 3, spinCount, parkNanos);
+
+		Thread producer = new Thread() {
+			@Override
+			public void run() {
+				for (int i = 0; i < total; i++) {
+					CharBucket bucket = ring.claim();
+					bucket.data[0] = (char) i;
+					bucket.data[3] = (char) i;
+					bucket.length = 4;
+					ring.publish();
+				}
+				ring.finish();
+			}
+		};
+		producer.start();
+
+		int count = 0;
+		CharBucket bucket;
+		while ((bucket = ring.next()) != null) {
+			assertEquals(bucket.data[0], (char) count);
+			//the producer must not touch a bucket while it is held by the consumer
+			Thread.yield();
+			assertEquals(bucket.data[3], (char) count);
+			count++;
+		}
+		producer.join();
+
+		assertEquals(count, total);
+		assertNull(ring.next());
+	}
+
+	@Test(timeOut = 10000)
+	public void testStopReleasesWaitingProducer() throws Exception {
+		final CharBucketRing ring = new CharBucketRing(4, 2, 10, 1000L);
+		ring.claim();
+		ring.publish();
+		ring.claim();
+		ring.publish();
+
+		final CharBucket[] claimed = new CharBucket[]{new CharBucket(1)};
+		Thread producer = new Thread() {
+			@Override
+			public void run() {
+				claimed[0] = ring.claim();
+			}
+		};
+		producer.start();
+		Thread.sleep(50);
+		assertTrue(producer.isAlive());
+
+		ring.stop();
+		producer.join();
+		assertNull(claimed[0]);
+	}
+
+	@Test(dataProvider = "waitStrategies", timeOut = 30000)
+	public void testParseWithWaitStrategy(int spinCount, long parkNanos) {
+		StringBuilder input = new StringBuilder();
+		for (int i = 0; i < 5000; i++) {
+			input.append(i).append(",value ").append(i).append('\n');
+		}
+
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setReadInputOnSeparateThread(true);
+		settings.setInputBufferSize(16);
+		settings.setInputWaitSpinCount(spinCount);
+		settings.setInputWaitParkNanos(parkNanos);
+
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader(input.toString()));
+		assertEquals(rows.size(), 5000);
+		for (int i = 0; i < rows.size(); i++) {
+			assertEquals(rows.get(i), new String[]{String.valueOf(i), "value " + i});
+		}
+	}
+}
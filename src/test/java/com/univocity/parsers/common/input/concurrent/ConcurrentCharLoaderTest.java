@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.input.concurrent;
+
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.testng.Assert.*;
+
+public class ConcurrentCharLoaderTest {
+
+	private CsvParserSettings newSettings() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setReadInputOnSeparateThread(true);
+		settings.setInputBufferSize(8);
+		return settings;
+	}
+
+	private void assertParsed(CsvParserSettings settings, int rowCount) {
+		StringBuilder input = new StringBuilder();
+		for (int i = 0; i < rowCount; i++) {
+			input.append(i).append(",row ").append(i).append('\n');
+		}
+
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader(input.toString()));
+		assertEquals(rows.size(), rowCount);
+		for (int i = 0; i < rowCount; i++) {
+			assertEquals(rows.get(i), new String[]{String.valueOf(i), "row " + i});
+		}
+	}
+
+	@Test(timeOut = 30000)
+	public void testInputReadWithExecutor() throws Exception {
+		final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+		ExecutorService pool = Executors.newCachedThreadPool(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r);
+				threads.add(thread);
+				return thread;
+			}
+		});
+
+		try {
+			CsvParserSettings settings = newSettings();
+			settings.setInputReadingExecutor(pool);
+			for (int i = 0; i < 50; i++) {
+				assertParsed(settings, 200);
+			}
+		} finally {
+			pool.shutdown();
+		}
+		assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+		assertTrue(threads.size() < 50, "Threads were not reused: " + threads.size());
+	}
+
+	@Test(timeOut = 30000)
+	public void testPooledThreadNotInterruptedAfterStop() throws Exception {
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+		try {
+			CsvParserSettings settings = newSettings();
+			settings.setInputReadingExecutor(pool);
+
+			StringBuilder input = new StringBuilder();
+			for (int i = 0; i < 1000; i++) {
+				input.append(i).append('\n');
+			}
+			CsvParser parser = new CsvParser(settings);
+			parser.beginParsing(new StringReader(input.toString()));
+			parser.parseNext();
+			parser.stopParsing();
+
+			Future<Boolean> interrupted = pool.submit(new Callable<Boolean>() {
+				@Override
+				public Boolean call() {
+					return Thread.currentThread().isInterrupted();
+				}
+			});
+			assertFalse(interrupted.get());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test(timeOut = 30000)
+	public void testInputReadWithThreadFactory() {
+		final AtomicInteger created = new AtomicInteger();
+		CsvParserSettings settings = newSettings();
+		settings.setInputReadingThreadFactory(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				created.incrementAndGet();
+				return new Thread(r, "custom input reader");
+			}
+		});
+
+		assertParsed(settings, 500);
+		assertEquals(created.get(), 1);
+	}
+
+	@Test(timeOut = 30000)
+	public void testInputReadWithVirtualThreads() {
+		ThreadFactory factory;
+		try {
+			factory = ConcurrentCharInputReader.newVirtualThreadFactory();
+		} catch (UnsupportedOperationException e) {
+			//virtual threads not available in this JVM.
+			return;
+		}
+
+		CsvParserSettings settings = newSettings();
+		settings.setInputReadingThreadFactory(factory);
+		assertParsed(settings, 500);
+	}
+}
@@ -196,4 +196,45 @@ public class AnnotatedBeanProcessorTest {
 			assertEquals(bean.metaData.title, "b" + i);
 		}
 	}
+
+	static class NonPublicBean {
+		@Parsed
+		private String name;
+
+		@Parsed
+		private int age;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name.toUpperCase();
+		}
+
+		public int getAge() {
+			return age;
+		}
+
+		public void setAge(int age) {
+			this.age = age + 1;
+		}
+	}
+
+	@Test
+	public void testSettersOfNonPublicBean() {
+		BeanListProcessor<NonPublicBean> rowProcessor = new BeanListProcessor<NonPublicBean>(NonPublicBean.class);
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.setHeaderExtractionEnabled(true);
+		settings.setProcessor(rowProcessor);
+
+		new CsvParser(settings).parse(new StringReader("name,age\njoe,30\nann,40"));
+
+		List<NonPublicBean> beans = rowProcessor.getBeans();
+		assertEquals(beans.size(), 2);
+		assertEquals(beans.get(0).name, "JOE");
+		assertEquals(beans.get(0).age, 31);
+		assertEquals(beans.get(1).name, "ANN");
+		assertEquals(beans.get(1).age, 41);
+	}
 }
@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor;
+
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class CharSequenceRowProcessorTest {
+
+	private static final String INPUT = "a,b,c\n" +
+			"1, two ,\"three, \"\"3\"\"\"\n" +
+			"\"multi\nline\",,\"\"\n" +
+			"\n" +
+			"4,5\n" +
+			"last, value ,x";
+
+	private static class ViewCollector extends AbstractCharSequenceRowProcessor {
+		final List<String[]> rows = new ArrayList<String[]>();
+		final List<CharSequence[]> arrays = new ArrayList<CharSequence[]>();
+
+		@Override
+		public void rowProcessed(CharSequence[] row, ParsingContext context) {
+			arrays.add(row);
+			String[] values = new String[row.length];
+			for (int i = 0; i < row.length; i++) {
+				if (row[i] != null) {
+					values[i] = row[i].toString();
+					assertEquals(row[i].hashCode(), values[i].hashCode());
+					assertEquals(row[i].length(), values[i].length());
+				}
+			}
+			rows.add(values);
+		}
+	}
+
+	private CsvParserSettings newSettings() {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setReadInputOnSeparateThread(false);
+		settings.setSkipEmptyLines(false);
+		settings.setEmptyValue("<empty>");
+		return settings;
+	}
+
+	private void assertSameAsStrings(CsvParserSettings settings) {
+		assertSameAsStrings(settings, INPUT);
+	}
+
+	private void assertSameAsStrings(CsvParserSettings settings, String input) {
+		settings.setProcessor(NoopRowProcessor.instance);
+		List<String[]> expected = new CsvParser(settings).parseAll(new StringReader(input));
+
+		ViewCollector collector = new ViewCollector();
+		settings.setProcessor(collector);
+		new CsvParser(settings).parse(new StringReader(input));
+
+		assertEquals(collector.rows.size(), expected.size(), input);
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(collector.rows.get(i), expected.get(i), input);
+		}
+	}
+
+	@DataProvider
+	public Object[][] whitespaceSettings() {
+		return new Object[][]{
+				{false, false, false},
+				{false, true, false},
+				{true, false, false},
+				{true, true, false},
+				{false, true, true},
+				{true, true, true},
+		};
+	}
+
+	private CsvParserSettings newSettings(boolean ignoreLeading, boolean ignoreTrailing, boolean nullAndEmptyValues) {
+		CsvParserSettings settings = newSettings();
+		settings.setIgnoreLeadingWhitespaces(ignoreLeading);
+		settings.setIgnoreTrailingWhitespaces(ignoreTrailing);
+		if (nullAndEmptyValues) {
+			settings.setNullValue("NULL");
+			settings.setEmptyValue("EMPTY");
+		} else {
+			settings.setEmptyValue(null);
+		}
+		return settings;
+	}
+
+	@Test(dataProvider = "whitespaceSettings")
+	public void testWhitespaceOnlyValues(boolean ignoreLeading, boolean ignoreTrailing, boolean nullAndEmptyValues) {
+		String[] inputs = {
+				"a, ,b\n",
+				"a,  \n\"x,y\"\n",
+				"a,  ,\"l1\nl2\",b\n",
+				" ,  , \" \" ,\n",
+		};
+		for (String input : inputs) {
+			assertSameAsStrings(newSettings(ignoreLeading, ignoreTrailing, nullAndEmptyValues), input);
+		}
+	}
+
+	@Test(dataProvider = "whitespaceSettings")
+	public void testViewsMatchStringsWithRandomInput(boolean ignoreLeading, boolean ignoreTrailing, boolean nullAndEmptyValues) {
+		char[] alphabet = {'a', 'b', ' ', ' ', ',', ',', '"', '\n'};
+		Random random = new Random(31 + (ignoreLeading ? 1 : 0) + (ignoreTrailing ? 2 : 0) + (nullAndEmptyValues ? 4 : 0));
+		for (int i = 0; i < 500; i++) {
+			char[] input = new char[1 + random.nextInt(20)];
+			for (int j = 0; j < input.length; j++) {
+				input[j] = alphabet[random.nextInt(alphabet.length)];
+			}
+			CsvParserSettings settings = newSettings(ignoreLeading, ignoreTrailing, nullAndEmptyValues);
+			if (random.nextBoolean()) {
+				settings.setInputBufferSize(4 + random.nextInt(8));
+			}
+			assertSameAsStrings(settings, new String(input));
+		}
+	}
+
+	@Test
+	public void testViewsMatchStrings() {
+		assertSameAsStrings(newSettings());
+	}
+
+	@Test
+	public void testViewsWithHeadersAndSelection() {
+		CsvParserSettings settings = newSettings();
+		settings.setHeaderExtractionEnabled(true);
+		settings.selectFields("c", "a");
+		assertSameAsStrings(settings);
+
+		settings = newSettings();
+		settings.setHeaderExtractionEnabled(true);
+		settings.setColumnReorderingEnabled(false);
+		settings.selectIndexes(2);
+		assertSameAsStrings(settings);
+	}
+
+	@Test
+	public void testViewsWithTrimmingAndSmallBuffer() {
+		CsvParserSettings settings = newSettings();
+		settings.setIgnoreLeadingWhitespaces(false);
+		settings.setIgnoreTrailingWhitespaces(false);
+		settings.setInputBufferSize(4);
+		assertSameAsStrings(settings);
+
+		settings = newSettings();
+		settings.getFormat().setQuoteEscape('\\');
+		settings.setKeepQuotes(true);
+		assertSameAsStrings(settings);
+	}
+
+	@Test
+	public void testRowArrayReusedAcrossRecords() {
+		CsvParserSettings settings = newSettings();
+		ViewCollector collector = new ViewCollector();
+		settings.setProcessor(collector);
+		new CsvParser(settings).parse(new StringReader("a,b\n1,2\n3,4\n"));
+
+		assertEquals(collector.rows.size(), 3);
+		assertSame(collector.arrays.get(1), collector.arrays.get(2));
+		assertEquals(collector.rows.get(1), new String[]{"1", "2"});
+		assertEquals(collector.rows.get(2), new String[]{"3", "4"});
+	}
+
+	@Test
+	public void testParseNextDeliversStrings() {
+		CsvParserSettings settings = newSettings();
+		ViewCollector collector = new ViewCollector();
+		settings.setProcessor(collector);
+		CsvParser parser = new CsvParser(settings);
+		parser.beginParsing(new StringReader("a,b\n1,2\n"));
+		assertEquals(parser.parseNext(), new String[]{"a", "b"});
+		assertEquals(parser.parseNext(), new String[]{"1", "2"});
+		assertNull(parser.parseNext());
+		assertTrue(collector.arrays.get(1) instanceof String[]);
+	}
+
+	@Test
+	public void testErrorHandlerReceivesStrings() {
+		final List<String> handled = new ArrayList<String>();
+		CsvParserSettings settings = newSettings();
+		settings.setProcessorErrorHandler(new RowProcessorErrorHandler() {
+			@Override
+			public void handleError(DataProcessingException error, Object[] inputRow, ParsingContext context) {
+				handled.add(Arrays.toString(inputRow));
+			}
+		});
+		settings.setProcessor(new AbstractCharSequenceRowProcessor() {
+			@Override
+			public void rowProcessed(CharSequence[] row, ParsingContext context) {
+				if (row[0].charAt(0) == '3') {
+					DataProcessingException error = new DataProcessingException("bad row");
+					error.markAsNonFatal();
+					throw error;
+				}
+			}
+		});
+		new CsvParser(settings).parse(new StringReader("a,b\n1,2\n3,4\n5,6"));
+		assertEquals(handled, Collections.singletonList("[3, 4]"));
+	}
+}
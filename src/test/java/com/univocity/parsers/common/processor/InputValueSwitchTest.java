@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor;
+
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class InputValueSwitchTest {
+
+	private static final class Collector extends AbstractRowProcessor {
+		final String name;
+		final List<String> out;
+
+		Collector(String name, List<String> out) {
+			this.name = name;
+			this.out = out;
+		}
+
+		@Override
+		public void rowProcessed(String[] row, ParsingContext context) {
+			out.add(name + ":" + row[1]);
+		}
+	}
+
+	private void parse(String input, InputValueSwitch valueSwitch) {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setProcessor(valueSwitch);
+		new CsvParser(settings).parse(new StringReader(input));
+	}
+
+	@Test
+	public void testCaseInsensitiveMatch() {
+		List<String> out = new ArrayList<String>();
+		InputValueSwitch valueSwitch = new InputValueSwitch();
+		for (int i = 0; i < 100; i++) {
+			valueSwitch.addSwitchForValue("TYPE" + i, new Collector("t" + i, out));
+		}
+		valueSwitch.addSwitchForValue("type5", new Collector("duplicate", out));
+		valueSwitch.setDefaultSwitch(new Collector("default", out));
+
+		parse("type5,a\nType5,b\nTYPE99,c\nTYPE99,d\ntype5,e\nunknown,f\nTYPEİ,g\n", valueSwitch);
+		assertEquals(out, Arrays.asList("t5:a", "t5:b", "t99:c", "t99:d", "t5:e", "default:f", "default:g"));
+	}
+
+	@Test
+	public void testCaseSensitiveMatch() {
+		List<String> out = new ArrayList<String>();
+		InputValueSwitch valueSwitch = new InputValueSwitch();
+		valueSwitch.setCaseSensitive(true);
+		valueSwitch.addSwitchForValue("A", new Collector("upper", out));
+		valueSwitch.addSwitchForValue("a", new Collector("lower", out));
+		valueSwitch.setDefaultSwitch(new Collector("default", out));
+
+		parse("a,1\nA,2\nA,3\nb,4\na,5\n", valueSwitch);
+		assertEquals(out, Arrays.asList("lower:1", "upper:2", "upper:3", "default:4", "lower:5"));
+	}
+
+	@Test
+	public void testCustomMatchersKeepPrecedence() {
+		List<String> out = new ArrayList<String>();
+		InputValueSwitch valueSwitch = new InputValueSwitch();
+		valueSwitch.addSwitchForValue(new CustomMatcher() {
+			@Override
+			public boolean matches(String value) {
+				return value.startsWith("x");
+			}
+		}, new Collector("startsWithX", out));
+		valueSwitch.addSwitchForValue("x1", new Collector("x1", out));
+		valueSwitch.addSwitchForValue("y1", new Collector("y1", out));
+		valueSwitch.addSwitchForValue(new CustomMatcher() {
+			@Override
+			public boolean matches(String value) {
+				return value.startsWith("y");
+			}
+		}, new Collector("startsWithY", out));
+
+		parse("x1,1\nx1,2\ny1,3\ny2,4\ny1,5\n", valueSwitch);
+		assertEquals(out, Arrays.asList("startsWithX:1", "startsWithX:2", "y1:3", "startsWithY:4", "y1:5"));
+	}
+
+	@Test
+	public void testCustomComparator() {
+		List<String> out = new ArrayList<String>();
+		InputValueSwitch valueSwitch = new InputValueSwitch();
+		valueSwitch.addSwitchForValue("abc", new Collector("abc", out));
+		valueSwitch.addSwitchForValue("x", new Collector("x", out));
+		valueSwitch.setComparator(new Comparator<String>() {
+			@Override
+			public int compare(String o1, String o2) {
+				return o1.length() == o2.length() ? 0 : 1;
+			}
+		});
+
+		parse("xyz,1\nz,2\nabc,3\n", valueSwitch);
+		assertEquals(out, Arrays.asList("abc:1", "x:2", "abc:3"));
+	}
+
+	@Test
+	public void testSwitchesAddedAfterParsing() {
+		List<String> out = new ArrayList<String>();
+		InputValueSwitch valueSwitch = new InputValueSwitch();
+		valueSwitch.addSwitchForValue("a", new Collector("a", out));
+		valueSwitch.setDefaultSwitch(new Collector("default", out));
+
+		parse("a,1\nb,2\n", valueSwitch);
+		valueSwitch.addSwitchForValue("b", new Collector("b", out));
+		parse("a,3\nb,4\n", valueSwitch);
+		assertEquals(out, Arrays.asList("a:1", "default:2", "a:3", "b:4"));
+	}
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor;
+
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.conversions.*;
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.math.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class MasterDetailStreamProcessorTest {
+
+	private static final int DETAILS = 5000;
+
+	private String totalsOnTop = "type,amount\n"
+		+ "T,100\n"
+		+ "50\n"
+		+ "40\n"
+		+ "10\n"
+		+ "T,200\n"
+		+ "170\n"
+		+ "30";
+
+	private String totalsAtBottom = "type,amount\n"
+		+ "50\n"
+		+ "40\n"
+		+ "10\n"
+		+ "T,100\n"
+		+ "170\n"
+		+ "30\n"
+		+ "T,200";
+
+	@DataProvider(name = "inputs")
+	private Object[][] getInputs() {
+		return new Object[][]{
+			{totalsOnTop, true, Integer.MAX_VALUE},
+			{totalsAtBottom, false, Integer.MAX_VALUE},
+			{totalsAtBottom, false, 1},
+			{totalsAtBottom, false, 2},
+		};
+	}
+
+	@Test(dataProvider = "inputs")
+	public void testMasterDetailStream(String input, boolean totalsOnTop, int maxDetailRowsInMemory) {
+		List<String> events = parse(input, totalsOnTop, maxDetailRowsInMemory);
+		assertEquals(events, Arrays.asList(
+			"start 100", "50", "40", "10", "end 100 = 100",
+			"start 200", "170", "30", "end 200 = 200"
+		));
+	}
+
+	@Test
+	public void testDetailRowsSpilledToFile() {
+		StringBuilder input = new StringBuilder("type,amount\n");
+		for (int i = 0; i < DETAILS; i++) {
+			input.append(i).append('\n');
+		}
+		input.append("T,").append(DETAILS * (DETAILS - 1) / 2).append('\n');
+
+		int filesBefore = countTemporaryFiles();
+
+		List<String> events = parse(input.toString(), false, 100);
+		assertEquals(events.size(), DETAILS + 2);
+		assertEquals(events.get(1), "0");
+		assertEquals(events.get(DETAILS), String.valueOf(DETAILS - 1));
+		assertEquals(events.get(DETAILS + 1), "end " + (DETAILS * (DETAILS - 1) / 2) + " = " + (DETAILS * (DETAILS - 1) / 2));
+
+		assertEquals(countTemporaryFiles(), filesBefore);
+	}
+
+	private int countTemporaryFiles() {
+		String[] files = new File(System.getProperty("java.io.tmpdir")).list(new FilenameFilter() {
+			@Override
+			public boolean accept(File dir, String name) {
+				return name.startsWith("univocity-detail-rows");
+			}
+		});
+		return files == null ? 0 : files.length;
+	}
+
+	private List<String> parse(String input, boolean totalsOnTop, int maxDetailRowsInMemory) {
+		final List<String> events = new ArrayList<String>();
+
+		final ObjectRowListProcessor items = new ObjectRowListProcessor();
+		MasterDetailStreamProcessor totals = new MasterDetailStreamProcessor(totalsOnTop ? RowPlacement.TOP : RowPlacement.BOTTOM, items) {
+			private int sum;
+
+			@Override
+			protected boolean isMasterRecord(String[] row, ParsingContext context) {
+				return "T".equals(row[0]);
+			}
+
+			@Override
+			protected void masterStarted(Object[] masterRow, ParsingContext context) {
+				sum = 0;
+				events.add("start " + masterRow[1]);
+			}
+
+			@Override
+			protected void detailProcessed(Object[] detailRow, ParsingContext context) {
+				sum += (Integer) detailRow[0];
+				events.add(String.valueOf(detailRow[0]));
+			}
+
+			@Override
+			protected void masterEnded(Object[] masterRow, ParsingContext context) {
+				events.add("end " + masterRow[1] + " = " + sum);
+				assertEquals(((BigInteger) masterRow[1]).intValue(), sum);
+			}
+		};
+		totals.setMaxDetailRowsInMemory(maxDetailRowsInMemory);
+
+		totals.convertIndexes(Conversions.toBigInteger()).set(1);
+		items.convertIndexes(Conversions.toInteger()).set(0);
+
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(true);
+		settings.setProcessor(totals);
+
+		new CsvParser(settings).parse(new StringReader(input));
+		return events;
+	}
+}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor;
+
+import com.univocity.parsers.annotations.*;
+import com.univocity.parsers.annotations.Format;
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.math.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class ParallelBeanProcessorTest {
+
+	private static final int LINES = 5000;
+	private String input;
+
+	public static class Item {
+		@Parsed
+		private int id;
+
+		@Parsed
+		@Validate(matches = "^[a-z]+\\d+$")
+		private String code;
+
+		@Parsed
+		@Format(formats = "#,##0.00", options = "locale=en")
+		private BigDecimal amount;
+
+		@Parsed
+		@Format(formats = "yyyy-MM-dd")
+		private Date date;
+
+		@Override
+		public String toString() {
+			return id + ";" + code + ";" + amount + ";" + date.getTime();
+		}
+	}
+
+	@BeforeClass
+	public void init() {
+		StringBuilder bigInput = new StringBuilder("id,code,amount,date\n");
+		for (int i = 0; i < LINES; i++) {
+			bigInput.append(i);
+			bigInput.append(",code").append(i);
+			bigInput.append(",\"").append(i * 1000).append(".").append(i % 100 < 10 ? "0" : "").append(i % 100).append('"');
+			bigInput.append(",20").append(10 + i % 10).append("-0").append(1 + i % 9).append("-1").append(i % 9);
+			bigInput.append('\n');
+		}
+		input = bigInput.toString();
+	}
+
+	private List<String> parseSerially(String input, ProcessorErrorHandler<ParsingContext> errorHandler) {
+		final List<String> out = new ArrayList<String>();
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.setHeaderExtractionEnabled(true);
+		settings.setProcessorErrorHandler(errorHandler);
+		settings.setProcessor(new BeanProcessor<Item>(Item.class) {
+			@Override
+			public void beanProcessed(Item bean, ParsingContext context) {
+				out.add(bean.toString());
+			}
+		});
+		new CsvParser(settings).parse(new StringReader(input));
+		return out;
+	}
+
+	private List<String> parseInParallel(String input, ProcessorErrorHandler<ParsingContext> errorHandler, int threads, int limit) {
+		return parseInParallel(input, errorHandler, threads, limit, false);
+	}
+
+	private List<String> parseInParallel(String input, ProcessorErrorHandler<ParsingContext> errorHandler, int threads, int limit, boolean reuseRows) {
+		final List<String> out = new ArrayList<String>();
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.setRowArrayReuseEnabled(reuseRows);
+		settings.setHeaderExtractionEnabled(true);
+		settings.setProcessorErrorHandler(errorHandler);
+		settings.setProcessor(new ParallelBeanProcessor<Item>(Item.class, threads, limit) {
+			@Override
+			public void beanProcessed(Item bean, ParsingContext context) {
+				out.add(bean.toString());
+			}
+		});
+		new CsvParser(settings).parse(new StringReader(input));
+		return out;
+	}
+
+	@DataProvider
+	private Object[][] getLimits() {
+		return new Object[][]{
+				{1, 1},
+				{2, 3},
+				{4, 100},
+				{4, 10000},
+		};
+	}
+
+	@Test(dataProvider = "getLimits")
+	public void testBeansDeliveredInOrder(int threads, int limit) {
+		List<String> expected = parseSerially(input, null);
+		assertEquals(expected.size(), LINES);
+		assertEquals(parseInParallel(input, null, threads, limit), expected);
+	}
+
+	@Test
+	public void testRowArrayReuse() {
+		assertEquals(parseInParallel(input, null, 4, 1000, true), parseSerially(input, null));
+	}
+
+	@Test
+	public void testErrorsHandledInParsingThread() {
+		String input = "id,code,amount,date\n" +
+				"1,a1,\"1,000.50\",2018-01-01\n" +
+				"2,2b,\"2.00\",2018-01-02\n" +
+				"x,a3,\"3.00\",2018-01-03\n" +
+				"4,a4,\"4.00\",2018-01-04\n";
+
+		final List<String> errors = new ArrayList<String>();
+		final List<String> threads = new ArrayList<String>();
+		RowProcessorErrorHandler errorHandler = new RowProcessorErrorHandler() {
+			@Override
+			public void handleError(DataProcessingException error, Object[] inputRow, ParsingContext context) {
+				errors.add(String.valueOf(inputRow[0]));
+				threads.add(Thread.currentThread().getName());
+			}
+		};
+
+		List<String> beans = parseInParallel(input, errorHandler, 2, 2);
+		assertEquals(beans.size(), 2);
+		assertTrue(beans.get(0).startsWith("1;a1;1000.50;"));
+		assertTrue(beans.get(1).startsWith("4;a4;4.00;"));
+		assertEquals(errors, Arrays.asList("2", "x"));
+		for (String thread : threads) {
+			assertEquals(thread, Thread.currentThread().getName());
+		}
+	}
+
+	@Test
+	public void testRetryableErrorHandler() {
+		String input = "id,code,amount,date\n" +
+				"1,a1,\"1.00\",2018-01-01\n" +
+				"x,a2,\"2.00\",2018-01-02\n" +
+				"3,a3,\"3.00\",2018-01-03\n";
+
+		RetryableErrorHandler<ParsingContext> errorHandler = new RetryableErrorHandler<ParsingContext>() {
+			@Override
+			public void handleError(DataProcessingException error, Object[] inputRow, ParsingContext context) {
+				setDefaultValue(0);
+				keepRecord();
+			}
+		};
+
+		List<String> beans = parseInParallel(input, errorHandler, 2, 100);
+		assertEquals(beans, parseSerially(input, errorHandler));
+		assertEquals(beans.size(), 3);
+		assertTrue(beans.get(1).startsWith("0;a2;2.00;"));
+	}
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.common.processor;
+
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.util.*;
+
+import static com.univocity.parsers.common.processor.core.AbstractPrimitiveColumnProcessor.ColumnType.*;
+import static org.testng.Assert.*;
+
+public class PrimitiveColumnProcessorTest {
+
+	private static final String INPUT = "id,amount,price,active,category\n" +
+			"1,10000000000,1.5,true,A\n" +
+			"2,,2.25,false,B\n" +
+			"3,30,,TRUE,A\n" +
+			"4,40,4.0,,\n" +
+			"5,50,5.5,false,C\n";
+
+	private CsvParserSettings newSettings(RowProcessor processor) {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(true);
+		settings.setProcessor(processor);
+		return settings;
+	}
+
+	@Test
+	public void testPrimitiveColumns() {
+		PrimitiveColumnProcessor processor = new PrimitiveColumnProcessor(2);
+		processor.addColumn("id", INT);
+		processor.addColumn("amount", LONG);
+		processor.addColumn(2, DOUBLE);
+		processor.addColumn("active", BOOLEAN);
+		processor.addColumn("category", DICTIONARY);
+
+		new CsvParser(newSettings(processor)).parse(new StringReader(INPUT));
+
+		assertEquals(processor.getRowCount(), 5);
+		assertEquals(Arrays.copyOf(processor.getIntColumn("id"), 5), new int[]{1, 2, 3, 4, 5});
+		assertEquals(processor.getLongColumn("amount")[0], 10000000000L);
+		assertEquals(processor.getLongColumn("amount")[1], 0L);
+		assertTrue(processor.isNull("amount", 1));
+		assertFalse(processor.isNull("amount", 2));
+		assertEquals(processor.getDoubleColumn(2)[1], 2.25);
+		assertTrue(processor.isNull(2, 2));
+
+		boolean[] active = processor.getBooleanColumn("active");
+		assertTrue(active[0]);
+		assertFalse(active[1]);
+		assertTrue(active[2]);
+		assertTrue(processor.isNull("active", 3));
+
+		assertEquals(processor.getDictionary("category"), new String[]{"A", "B", "C"});
+		assertEquals(Arrays.copyOf(processor.getIntColumn("category"), 5), new int[]{0, 1, 0, 0, 2});
+		assertTrue(processor.isNull("category", 3));
+	}
+
+	@Test
+	public void testBatches() {
+		final List<String> batches = new ArrayList<String>();
+		BatchedPrimitiveColumnProcessor processor = new BatchedPrimitiveColumnProcessor(2) {
+			@Override
+			protected void batchProcessed(int rowsInThisBatch) {
+				int[] ids = getIntColumn("id");
+				int[] categories = getIntColumn("category");
+				String[] dictionary = getDictionary("category");
+				StringBuilder batch = new StringBuilder();
+				for (int i = 0; i < rowsInThisBatch; i++) {
+					batch.append(ids[i]).append(isNull("category", i) ? "-" : dictionary[categories[i]]);
+				}
+				batches.add(batch.toString());
+			}
+		};
+		processor.addColumn("id", INT);
+		processor.addColumn("category", DICTIONARY);
+
+		new CsvParser(newSettings(processor)).parse(new StringReader(INPUT));
+
+		assertEquals(batches, Arrays.asList("1A2B", "3A4-", "5C"));
+		assertEquals(processor.getBatchesProcessed(), 3);
+	}
+
+	@Test
+	public void testInvalidValue() {
+		PrimitiveColumnProcessor processor = new PrimitiveColumnProcessor();
+		processor.addColumn("id", INT);
+		processor.addColumn("price", INT);
+
+		final List<Integer> errorColumns = new ArrayList<Integer>();
+		CsvParserSettings settings = newSettings(processor);
+		settings.setProcessorErrorHandler(new RowProcessorErrorHandler() {
+			@Override
+			public void handleError(DataProcessingException error, Object[] inputRow, ParsingContext context) {
+				errorColumns.add(error.getColumnIndex());
+			}
+		});
+		new CsvParser(settings).parse(new StringReader("id,price\n1,2\n2,2.5\n3,\n"));
+
+		assertEquals(errorColumns, Arrays.asList(1));
+		assertEquals(processor.getRowCount(), 2);
+		assertEquals(processor.getIntColumn("id")[1], 3);
+		assertTrue(processor.isNull("price", 1));
+	}
+}
@@ -28,14 +28,14 @@ import static org.testng.Assert.*;
 
 public class RecordImplTest {
 
-	private Record record;
+	private PrimitiveRecord record;
 
 	@BeforeClass
 	public void setup() {
 		TsvParserSettings settings = new TsvParserSettings();
 		settings.setHeaders("boolean,byte,short,int,long,bigint,float,double,bigdec,char,string,date,calendar".split(","));
 		TsvParser parser = new TsvParser(settings);
-		record = parser.parseRecord("Y	1	2		4	5	6.6	7.7	$8.888	B	blah	10/10/10	11/11/11");
+		record = (PrimitiveRecord) parser.parseRecord("Y	1	2		4	5	6.6	7.7	$8.888	B	blah	10/10/10	11/11/11");
 		assertNotNull(record);
 
 		RecordMetaData md = record.getMetaData();
@@ -271,4 +271,22 @@ public class RecordImplTest {
 		return records.get(0);
 	}
 
+	@Test
+	public void testPrimitiveValues() {
+		assertEquals(record.getIntValue("short", -1), 2);
+		assertEquals(record.getIntValue("int", -1), -1);
+		assertEquals(record.getIntValue(1, -1), 1);
+		assertEquals(record.getLongValue("long", -1L), 4L);
+		assertEquals(record.getDoubleValue("float", -1.0), 6.6, 0.0001);
+		assertEquals(record.getDoubleValue("double", -1.0), 7.7);
+		assertEquals(record.getDoubleValue(6, -1.0), 6.6, 0.0001);
+
+		try {
+			record.getIntValue("string", 0);
+			fail("Expected error converting 'blah' to int");
+		} catch (Exception e) {
+			//expected
+		}
+	}
+
 }
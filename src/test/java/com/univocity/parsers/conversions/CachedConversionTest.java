@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.conversions;
+
+import com.univocity.parsers.common.processor.*;
+import com.univocity.parsers.csv.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class CachedConversionTest {
+
+	private static class CountingConversion extends ObjectConversion<Integer> {
+		int executions;
+
+		@Override
+		protected Integer fromString(String input) {
+			executions++;
+			return Integer.valueOf(input.trim());
+		}
+	}
+
+	@Test
+	public void testRepeatedValuesConvertedOnce() {
+		CountingConversion counter = new CountingConversion();
+		CachedConversion<Integer> conversion = Conversions.cached(counter);
+
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(conversion.execute(String.valueOf(i % 10)), Integer.valueOf(i % 10));
+		}
+		assertEquals(counter.executions, 10);
+		assertEquals(conversion.size(), 10);
+		assertNull(conversion.execute(null));
+		assertEquals(conversion.revert(5), "5");
+	}
+
+	@Test
+	public void testLowHitRateBypassesCache() {
+		CountingConversion counter = new CountingConversion();
+		CachedConversion<Integer> conversion = new CachedConversion<Integer>(64, counter);
+
+		for (int i = 0; i < 5000; i++) {
+			conversion.execute(String.valueOf(i));
+		}
+		assertTrue(conversion.isBypassed());
+		assertEquals(counter.executions, 5000);
+
+		conversion.setMinimumHitRate(0.0);
+		for (int i = 0; i < 5000 * 16; i++) {
+			conversion.execute("1");
+		}
+		assertFalse(conversion.isBypassed());
+	}
+
+	@Test
+	public void testMutableResultsAreCopied() {
+		CachedConversion<Date> conversion = Conversions.cached(new DateConversion(Locale.ENGLISH, "yyyy-MM-dd"));
+		Date first = conversion.execute("2019-05-01");
+		first.setTime(0L);
+		assertEquals(conversion.execute("2019-05-01"), new DateConversion(Locale.ENGLISH, "yyyy-MM-dd").execute("2019-05-01"));
+	}
+
+	@Test
+	public void testCachedChainInProcessor() {
+		ObjectRowListProcessor processor = new ObjectRowListProcessor();
+		processor.convertFields(Conversions.cached(Conversions.trim(), Conversions.toBoolean("Y", "N"))).set("flag");
+
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.setHeaderExtractionEnabled(true);
+		settings.setIgnoreLeadingWhitespaces(false);
+		settings.setProcessor(processor);
+		new CsvParser(settings).parse(new StringReader("id,flag\n1, Y\n2,N\n3, Y\n"));
+
+		List<Object[]> rows = processor.getRows();
+		assertEquals(rows.get(0)[1], Boolean.TRUE);
+		assertEquals(rows.get(1)[1], Boolean.FALSE);
+		assertEquals(rows.get(2)[1], Boolean.TRUE);
+	}
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.conversions;
+
+import com.univocity.parsers.common.*;
+import org.testng.annotations.*;
+
+import java.text.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.testng.Assert.*;
+
+public class DateConversionTest {
+
+	private static final String[] PATTERNS = {
+			"yyyy-MM-dd", "yyyyMMdd", "dd/MM/yyyy", "yyyy-MM-dd HH:mm:ss", "yyyy-MM-dd'T'HH:mm:ss.SSS", "yyyyMMddHHmmss"
+	};
+
+	private static final String[] TIME_ZONES = {
+			"UTC", "America/New_York", "Europe/London", "Australia/Lord_Howe", "Asia/Kolkata", "America/Sao_Paulo"
+	};
+
+	@Test
+	public void testSameResultsAsSimpleDateFormat() throws Exception {
+		Random random = new Random(7);
+		for (String zone : TIME_ZONES) {
+			TimeZone timeZone = TimeZone.getTimeZone(zone);
+			for (String pattern : PATTERNS) {
+				DateConversion conversion = new DateConversion(timeZone, Locale.ENGLISH, null, null, pattern);
+				SimpleDateFormat expected = new SimpleDateFormat(pattern, Locale.ENGLISH);
+				expected.setTimeZone(timeZone);
+
+				for (int i = 0; i < 5000; i++) {
+					Date date = new Date(-12000000000000L + (long) (random.nextDouble() * 20000000000000L));
+					String text = expected.format(date);
+					assertEquals(conversion.revert(date), text, zone + " " + pattern);
+					assertEquals(conversion.execute(text), expected.parse(text), zone + " " + pattern + " " + text);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testLenientValues() throws Exception {
+		DateConversion conversion = new DateConversion(TimeZone.getTimeZone("UTC"), Locale.ENGLISH, null, null, "yyyy-MM-dd HH:mm:ss");
+		SimpleDateFormat expected = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.ENGLISH);
+		expected.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+		for (String text : new String[]{"2019-02-29 10:00:00", "2019-13-01 00:00:00", "2019-01-01 24:60:60", "2019-1-5 1:2:3", "1500-03-01 00:00:00", "2019-01-01 00:00:00 trailing"}) {
+			assertEquals(conversion.execute(text), expected.parse(text), text);
+		}
+	}
+
+	@Test
+	public void testDaylightSavingTransitions() throws Exception {
+		TimeZone timeZone = TimeZone.getTimeZone("America/New_York");
+		DateConversion conversion = new DateConversion(timeZone, Locale.ENGLISH, null, null, "yyyy-MM-dd HH:mm");
+		SimpleDateFormat expected = new SimpleDateFormat("yyyy-MM-dd HH:mm", Locale.ENGLISH);
+		expected.setTimeZone(timeZone);
+
+		for (String text : new String[]{"2019-03-10 02:30", "2019-03-10 01:59", "2019-03-10 03:00", "2019-11-03 01:30", "2019-11-03 00:59", "2019-11-03 02:00"}) {
+			assertEquals(conversion.execute(text), expected.parse(text), text);
+		}
+	}
+
+	@Test
+	public void testFormatterSettingsRespected() {
+		DateConversion conversion = new DateConversion(Locale.ENGLISH, "yyyy-MM-dd");
+		conversion.getFormatterObjects()[0].setLenient(false);
+		conversion.getFormatterObjects()[0].setTimeZone(TimeZone.getTimeZone("GMT+10"));
+
+		assertEquals(conversion.execute("1970-01-02").getTime(), 14L * 60L * 60L * 1000L);
+		try {
+			conversion.execute("2019-02-29");
+			fail("Expected invalid date to be rejected");
+		} catch (DataProcessingException e) {
+			//expected
+		}
+	}
+
+	@Test
+	public void testSharedAmongThreads() throws Exception {
+		final DateConversion conversion = new DateConversion(TimeZone.getTimeZone("UTC"), Locale.ENGLISH, null, null, "dd/MM/yyyy", "yyyy-MM-dd HH:mm:ss");
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+			for (int t = 0; t < 4; t++) {
+				final int thread = t;
+				results.add(executor.submit(new Callable<Boolean>() {
+					@Override
+					public Boolean call() {
+						for (int i = 0; i < 10000; i++) {
+							int day = 1 + (i + thread) % 28;
+							String text = (day < 10 ? "0" : "") + day + "/07/2019";
+							Date date = conversion.execute(text);
+							if (!text.equals(conversion.revert(date))) {
+								return false;
+							}
+							if (!conversion.revert(conversion.execute("2019-07-" + text.substring(0, 2) + " 13:14:15")).equals(text)) {
+								return false;
+							}
+						}
+						return true;
+					}
+				}));
+			}
+			for (Future<Boolean> result : results) {
+				assertTrue(result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.conversions;
+
+import org.testng.annotations.*;
+
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class FastDoubleParserTest {
+
+	@DataProvider
+	public Object[][] inputs() {
+		return new Object[][]{
+				{"0"}, {"-0"}, {"+0.0"}, {"0e999999"}, {"1"}, {"-1"}, {"1."}, {".5"}, {"0.1"}, {"0.3"},
+				{"3.141592653589793"}, {"2.718281828459045235360287"}, {"9007199254740993"},
+				{"9223372036854775807"}, {"18446744073709551615"}, {"1234567890123456789"},
+				{"1e22"}, {"1e23"}, {"8.41e21"}, {"5e-324"}, {"4.9e-324"}, {"2.4703282292062327e-324"},
+				{"2.2250738585072011e-308"}, {"2.2250738585072014E-308"}, {"1.7976931348623157e308"},
+				{"1.7976931348623158e308"}, {"1.7976931348623159e308"}, {"1e309"}, {"1e-400"},
+				{"7.0420557077594588669468784357561207962098443483187940792729600000e+59"},
+				{"123.456e-2"}, {"1E+2"}, {"-1.5e-7"}, {"0.000000000000000000000000001"},
+				{"NaN"}, {"-Infinity"}, {"0x1.8p1"}, {" 1.5 "}, {"1.5d"}, {"2f"},
+		};
+	}
+
+	@Test(dataProvider = "inputs")
+	public void testSameAsJdk(String input) {
+		assertSameDouble(input);
+		assertSameFloat(input);
+	}
+
+	@DataProvider
+	public Object[][] invalidInputs() {
+		return new Object[][]{
+				{""}, {"-"}, {"+"}, {"."}, {"e5"}, {"1e"}, {"1e+"}, {"1..2"}, {"1.2.3"}, {"--1"}, {"1x"}, {"1e5.5"},
+		};
+	}
+
+	@Test(dataProvider = "invalidInputs")
+	public void testInvalidInput(String input) {
+		try {
+			DoubleConversion.parseDouble(input, 0, input.length());
+			fail("Expected NumberFormatException parsing '" + input + "'");
+		} catch (NumberFormatException e) {
+			//expected
+		}
+		try {
+			FloatConversion.parseFloat(input.toCharArray(), 0, input.length());
+			fail("Expected NumberFormatException parsing '" + input + "'");
+		} catch (NumberFormatException e) {
+			//expected
+		}
+	}
+
+	@Test
+	public void testRandomValues() {
+		Random random = new Random(42);
+		for (int i = 0; i < 200000; i++) {
+			assertSameDouble(String.valueOf(Double.longBitsToDouble(random.nextLong())));
+			assertSameDouble(String.valueOf(random.nextDouble()));
+			assertSameFloat(String.valueOf(random.nextFloat()));
+
+			StringBuilder decimal = new StringBuilder();
+			if (random.nextBoolean()) {
+				decimal.append('-');
+			}
+			int digits = 1 + random.nextInt(19);
+			int dot = random.nextInt(digits + 1);
+			for (int d = 0; d < digits; d++) {
+				if (d == dot) {
+					decimal.append('.');
+				}
+				decimal.append((char) ('0' + random.nextInt(10)));
+			}
+			decimal.append('e').append(random.nextInt(700) - 350);
+			assertSameDouble(decimal.toString());
+			assertSameFloat(decimal.toString());
+		}
+	}
+
+	@Test
+	public void testCharRange() {
+		char[] buffer = "x,12.75,-3e-2,y".toCharArray();
+		assertEquals(DoubleConversion.parseDouble(buffer, 2, 7), 12.75);
+		assertEquals(DoubleConversion.parseDouble(buffer, 8, 13), -0.03);
+		assertEquals(FloatConversion.parseFloat(buffer, 8, 13), -0.03f);
+	}
+
+	@Test
+	public void testConversionOption() {
+		DoubleConversion doubles = new DoubleConversion();
+		assertFalse(doubles.isFastParsingEnabled());
+		doubles.setFastParsingEnabled(true);
+		assertEquals(doubles.execute("1.25e2"), Double.valueOf(125.0));
+		assertEquals(doubles.execute("NaN"), Double.valueOf(Double.NaN));
+
+		FloatConversion floats = new FloatConversion();
+		floats.setFastParsingEnabled(true);
+		assertEquals(floats.execute("-0.5"), Float.valueOf(-0.5f));
+	}
+
+	private void assertSameDouble(String input) {
+		long expected = Double.doubleToRawLongBits(Double.parseDouble(input));
+		assertEquals(Double.doubleToRawLongBits(DoubleConversion.parseDouble(input, 0, input.length())), expected, input);
+		char[] chars = ("[" + input + "]").toCharArray();
+		assertEquals(Double.doubleToRawLongBits(DoubleConversion.parseDouble(chars, 1, chars.length - 1)), expected, input);
+	}
+
+	private void assertSameFloat(String input) {
+		int expected = Float.floatToRawIntBits(Float.parseFloat(input));
+		assertEquals(Float.floatToRawIntBits(FloatConversion.parseFloat(input, 0, input.length())), expected, input);
+	}
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.conversions;
+
+import org.testng.annotations.*;
+
+import static org.testng.Assert.*;
+
+public class NumberParsingTest {
+
+	@Test
+	public void testParseIntFromRange() {
+		char[] chars = "a,-123,+45,2147483647,b".toCharArray();
+		assertEquals(IntegerConversion.parseInt(chars, 2, 6), -123);
+		assertEquals(IntegerConversion.parseInt(chars, 7, 10), 45);
+		assertEquals(IntegerConversion.parseInt(chars, 11, 21), Integer.MAX_VALUE);
+		assertEquals(IntegerConversion.parseInt("x-2147483648x", 1, 12), Integer.MIN_VALUE);
+	}
+
+	@Test
+	public void testParseLongFromRange() {
+		StringBuilder value = new StringBuilder("[-9223372036854775808]");
+		assertEquals(LongConversion.parseLong(value, 1, value.length() - 1), Long.MIN_VALUE);
+		assertEquals(LongConversion.parseLong("0009".toCharArray(), 0, 4), 9L);
+	}
+
+	@Test
+	public void testParseDoubleFromRange() {
+		assertEquals(DoubleConversion.parseDouble("a=1.5e3;".toCharArray(), 2, 7), 1500.0);
+		assertEquals(DoubleConversion.parseDouble("-0.25", 0, 5), -0.25);
+	}
+
+	@DataProvider
+	public Object[][] invalidIntegers() {
+		return new Object[][]{
+				{""},
+				{"-"},
+				{"+"},
+				{"1a"},
+				{"2147483648"},
+				{"-2147483649"},
+		};
+	}
+
+	@Test(dataProvider = "invalidIntegers", expectedExceptions = NumberFormatException.class)
+	public void testInvalidIntegers(String input) {
+		IntegerConversion.parseInt(input, 0, input.length());
+	}
+}
@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.csv;
+
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.common.processor.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class CsvFeedParserTest {
+
+	private static final String INPUT;
+
+	static {
+		StringBuilder tmp = new StringBuilder("id,name,comment\r\n");
+		for (int i = 0; i < 200; i++) {
+			tmp.append(i).append(",\"name, ").append(i).append("\",");
+			if (i % 7 == 0) {
+				tmp.append("\"multi\r\nline \"\"quoted\"\"\nvalue ção\"");
+			} else if (i % 5 == 0) {
+				tmp.append("\"\"\"\"");
+			} else {
+				tmp.append("plain ").append(i);
+			}
+			tmp.append("\r\n");
+		}
+		INPUT = tmp.toString();
+	}
+
+	private CsvParserSettings newSettings(RowListProcessor processor) {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.setLineSeparatorDetectionEnabled(true);
+		settings.setHeaderExtractionEnabled(true);
+		settings.setProcessor(processor);
+		return settings;
+	}
+
+	private void assertParsedAsSequential(RowListProcessor processor) {
+		RowListProcessor expected = new RowListProcessor();
+		new CsvParser(newSettings(expected)).parse(new StringReader(INPUT));
+
+		assertEquals(processor.getHeaders(), new String[]{"id", "name", "comment"});
+		assertEquals(processor.getRows().size(), 200);
+		for (int i = 0; i < expected.getRows().size(); i++) {
+			assertEquals(processor.getRows().get(i), expected.getRows().get(i));
+		}
+	}
+
+	@DataProvider
+	public Object[][] chunkSizes() {
+		return new Object[][]{{1}, {2}, {3}, {17}, {1000}, {100000}};
+	}
+
+	@Test(dataProvider = "chunkSizes")
+	public void testFeedChars(int chunkSize) {
+		RowListProcessor processor = new RowListProcessor();
+		CsvFeedParser parser = new CsvFeedParser(newSettings(processor));
+
+		char[] chars = INPUT.toCharArray();
+		for (int i = 0; i < chars.length; i += chunkSize) {
+			parser.feed(chars, i, Math.min(chunkSize, chars.length - i));
+		}
+		parser.endOfInput();
+
+		assertParsedAsSequential(processor);
+	}
+
+	@Test(dataProvider = "chunkSizes")
+	public void testFeedBytes(int chunkSize) throws Exception {
+		RowListProcessor processor = new RowListProcessor();
+		CsvFeedParser parser = new CsvFeedParser(newSettings(processor));
+
+		byte[] bytes = INPUT.getBytes("UTF-8");
+		for (int i = 0; i < bytes.length; i += chunkSize) {
+			parser.feed(ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i)));
+		}
+		parser.endOfInput();
+
+		assertParsedAsSequential(processor);
+	}
+
+	@Test
+	public void testRecordsDeliveredWhenComplete() {
+		final List<String> events = new ArrayList<String>();
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setProcessor(new AbstractRowProcessor() {
+			@Override
+			public void rowProcessed(String[] row, ParsingContext context) {
+				events.add(context.currentRecord() + ":" + Arrays.toString(row));
+			}
+
+			@Override
+			public void processEnded(ParsingContext context) {
+				events.add("end");
+			}
+		});
+
+		CsvFeedParser parser = new CsvFeedParser(settings);
+		parser.feed("a,b\nc,\"d".toCharArray());
+		assertEquals(events, Arrays.asList("1:[a, b]"));
+
+		parser.feed("\ne\"\n".toCharArray());
+		assertEquals(events, Arrays.asList("1:[a, b]", "2:[c, d\ne]"));
+
+		parser.feed("f,g".toCharArray());
+		assertEquals(events.size(), 2);
+
+		parser.endOfInput();
+		assertEquals(events, Arrays.asList("1:[a, b]", "2:[c, d\ne]", "3:[f, g]", "end"));
+
+		try {
+			parser.feed("x".toCharArray());
+			fail("Expecting input to be closed");
+		} catch (IllegalStateException e) {
+			//expected
+		}
+	}
+
+	@Test
+	public void testRecordLimit() {
+		RowListProcessor processor = new RowListProcessor();
+		CsvParserSettings settings = newSettings(processor);
+		settings.setNumberOfRecordsToRead(15);
+
+		CsvFeedParser parser = new CsvFeedParser(settings);
+		char[] chars = INPUT.toCharArray();
+		for (int i = 0; i < chars.length; i += 10) {
+			parser.feed(chars, i, Math.min(10, chars.length - i));
+		}
+		parser.endOfInput();
+
+		assertEquals(processor.getRows().size(), 15);
+		assertEquals(processor.getRows().get(14)[0], "14");
+		assertTrue(parser.getContext().isStopped());
+	}
+
+	@DataProvider
+	public Object[][] fieldSelections() {
+		return new Object[][]{
+				{"none", false},
+				{"exclude", false},
+				{"select", false},
+				{"select", true},
+				{"names", false},
+				{"names", true},
+		};
+	}
+
+	private CsvParserSettings newSelectionSettings(String selection, boolean reorder, boolean extractHeaders, RowListProcessor processor) {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(extractHeaders);
+		settings.setColumnReorderingEnabled(reorder);
+		settings.setProcessor(processor);
+		if (selection.equals("exclude")) {
+			settings.excludeIndexes(1);
+		} else if (selection.equals("select")) {
+			settings.selectIndexes(2, 0);
+		} else if (selection.equals("names")) {
+			settings.selectFields("c", "a");
+		}
+		return settings;
+	}
+
+	@Test(dataProvider = "fieldSelections")
+	public void testFieldSelectionAcrossSegments(String selection, boolean reorder) {
+		String[] inputs = {
+				"a,b,c\nd,e,f\ng\nh,i\n",
+				"a,b,c\n\nd\ne,f,g,h\ni,j\n",
+				"a\nb,c,d\ne,f\n",
+				"a,b,c\n1,2,3\n4\n5,6,7,8\n9,10\n",
+		};
+		assertSameRowsAsCsvParser(selection, reorder, inputs);
+	}
+
+	@Test(dataProvider = "fieldSelections")
+	public void testFieldSelectionAcrossSegmentsWithRandomInput(String selection, boolean reorder) {
+		Random random = new Random(selection.hashCode() + (reorder ? 1 : 0));
+		String[] inputs = new String[50];
+		for (int i = 0; i < inputs.length; i++) {
+			StringBuilder input = new StringBuilder();
+			int rows = 1 + random.nextInt(6);
+			for (int row = 0; row < rows; row++) {
+				int columns = random.nextInt(6);
+				for (int column = 0; column < columns; column++) {
+					if (column > 0) {
+						input.append(',');
+					}
+					input.append((char) ('a' + random.nextInt(26)));
+				}
+				input.append('\n');
+			}
+			inputs[i] = input.toString();
+		}
+		assertSameRowsAsCsvParser(selection, reorder, inputs);
+	}
+
+	private void assertSameRowsAsCsvParser(String selection, boolean reorder, String[] inputs) {
+		for (String input : inputs) {
+			for (boolean extractHeaders : new boolean[]{false, true}) {
+				if (selection.equals("names") && !extractHeaders) {
+					continue;
+				}
+				RowListProcessor expected = new RowListProcessor();
+				new CsvParser(newSelectionSettings(selection, reorder, extractHeaders, expected)).parse(new StringReader(input));
+
+				for (int step = 1; step <= 4; step++) {
+					RowListProcessor processor = new RowListProcessor();
+					CsvFeedParser parser = new CsvFeedParser(newSelectionSettings(selection, reorder, extractHeaders, processor));
+					char[] chars = input.toCharArray();
+					for (int i = 0; i < chars.length; i += step) {
+						parser.feed(chars, i, Math.min(step, chars.length - i));
+					}
+					parser.endOfInput();
+
+					String description = selection + ", reorder " + reorder + ", headers " + extractHeaders + ", step " + step + ", input " + input;
+					assertEquals(processor.getRows().size(), expected.getRows().size(), description);
+					for (int i = 0; i < expected.getRows().size(); i++) {
+						assertEquals(processor.getRows().get(i), expected.getRows().get(i), description + ", row " + i);
+					}
+				}
+			}
+		}
+	}
+}
@@ -908,4 +908,150 @@ public class CsvParserTest extends ParserTestCase {
 		assertEquals(parser.getContext().lastComment(), null);
 	}
 
+	@Test
+	public void testRowArrayReuse() {
+		CsvParserSettings settings = newCsvInputSettings(new char[]{'\n'});
+		settings.setRowArrayReuseEnabled(true);
+		settings.setSkipEmptyLines(false);
+		String input = "a,b\n1,2\n\nx\n3,4";
+
+		final List<String[]> arrays = new ArrayList<String[]>();
+		final List<String> values = new ArrayList<String>();
+		settings.setProcessor(new AbstractRowProcessor() {
+			@Override
+			public void rowProcessed(String[] row, ParsingContext context) {
+				arrays.add(row);
+				values.add(Arrays.toString(row));
+			}
+		});
+		new CsvParser(settings).parse(new StringReader(input));
+		assertEquals(values, Arrays.asList("[a, b]", "[1, 2]", "[null]", "[x]", "[3, 4]"));
+		assertSame(arrays.get(1), arrays.get(4));
+		assertSame(arrays.get(2), arrays.get(3));
+
+		settings.setProcessor(NoopRowProcessor.instance);
+		CsvParser parser = new CsvParser(settings);
+		parser.beginParsing(new StringReader(input));
+		parser.parseNext();
+		String[] first = parser.parseNext();
+		assertEquals(first, new String[]{"1", "2"});
+		parser.parseNext();
+		parser.parseNext();
+		assertSame(parser.parseNext(), first);
+		assertEquals(first, new String[]{"3", "4"});
+
+		List<String[]> all = new CsvParser(settings).parseAll(new StringReader(input));
+		assertEquals(all.get(1), new String[]{"1", "2"});
+		assertEquals(all.get(4), new String[]{"3", "4"});
+
+		List<Record> records = new CsvParser(settings).parseAllRecords(new StringReader(input));
+		assertEquals(records.get(1).getValues(), new String[]{"1", "2"});
+		assertEquals(records.get(4).getValues(), new String[]{"3", "4"});
+	}
+
+	@Test
+	public void testParseNextBatch() {
+		CsvParserSettings settings = newCsvInputSettings(new char[]{'\n'});
+		settings.setRowArrayReuseEnabled(true);
+		settings.setHeaderExtractionEnabled(true);
+		StringBuilder input = new StringBuilder("a,b\n");
+		for (int i = 0; i < 10; i++) {
+			input.append(i).append(",#").append(i).append('\n');
+			if (i == 4) {
+				input.append("x\n");
+			}
+		}
+
+		CsvParser parser = new CsvParser(settings);
+		parser.beginParsing(new StringReader(input.toString()));
+
+		String[][] batch = new String[4][];
+		assertEquals(parser.parseNextBatch(batch), 4);
+		String[] first = batch[0];
+		assertEquals(first, new String[]{"0", "#0"});
+		assertEquals(batch[3], new String[]{"3", "#3"});
+		assertEquals(parser.getContext().headers(), new String[]{"a", "b"});
+
+		assertEquals(parser.parseNextBatch(batch), 4);
+		assertSame(batch[0], first);
+		assertEquals(batch[0], new String[]{"4", "#4"});
+		assertEquals(batch[1], new String[]{"x"});
+		assertEquals(batch[3], new String[]{"6", "#6"});
+
+		assertEquals(parser.parseNextBatch(batch), 3);
+		assertEquals(batch[2], new String[]{"9", "#9"});
+		assertTrue(parser.getContext().isStopped());
+
+		settings.setNumberOfRecordsToRead(3);
+		parser = new CsvParser(settings);
+		parser.beginParsing(new StringReader(input.toString()));
+		assertEquals(parser.parseNextBatch(new String[10][]), 3);
+	}
+
+	@Test
+	public void testFirstRowOfFieldSelectionWithoutReorderingPaddedLikeOthers() {
+		CsvParserSettings settings = newCsvInputSettings(new char[]{'\n'});
+		settings.setColumnReorderingEnabled(false);
+		settings.selectIndexes(0, 2);
+		settings.setHeaders("h1", "h2", "h3", "h4", "h5");
+
+		List<String[]> rows = new CsvParser(settings).parseAll(new StringReader("a,b,c\nd,e,f\ng,h,i,j,k,l\n"));
+		assertEquals(rows.size(), 3);
+		assertEquals(rows.get(0), new String[]{"a", null, "c", null, null});
+		assertEquals(rows.get(1), new String[]{"d", null, "f", null, null});
+		assertEquals(rows.get(2), new String[]{"g", null, "i", null, null, null});
+	}
+
+	@Test
+	public void testParseNextBatchMatchesParseNext() {
+		String input = "a,b\n1,\"x\ny\"\n#comment\n\n3,4\n5,\"6\"";
+		CsvParserSettings settings = newCsvInputSettings(new char[]{'\n'});
+		List<String[]> expected = new CsvParser(settings).parseAll(new StringReader(input));
+
+		for (int size = 1; size <= 5; size++) {
+			CsvParser parser = new CsvParser(settings);
+			parser.beginParsing(new StringReader(input));
+			List<String[]> rows = new ArrayList<String[]>();
+			String[][] batch = new String[size][];
+			int count;
+			do {
+				count = parser.parseNextBatch(batch);
+				for (int i = 0; i < count; i++) {
+					rows.add(batch[i].clone());
+				}
+			} while (count == size);
+
+			assertEquals(rows.size(), expected.size());
+			for (int i = 0; i < rows.size(); i++) {
+				assertEquals(rows.get(i), expected.get(i));
+			}
+			assertTrue(parser.getContext().isStopped());
+		}
+	}
+
+	@Test(expectedExceptions = TextParsingException.class)
+	public void testParseNextBatchError() {
+		CsvParserSettings settings = newCsvInputSettings(new char[]{'\n'});
+		settings.setMaxColumns(2);
+		CsvParser parser = new CsvParser(settings);
+		parser.beginParsing(new StringReader("1,2\n3,4,5\n"));
+		parser.parseNextBatch(new String[10][]);
+	}
+
+	@Test
+	public void testParseNextRecords() {
+		CsvParserSettings settings = newCsvInputSettings(new char[]{'\n'});
+		settings.setHeaderExtractionEnabled(true);
+		CsvParser parser = new CsvParser(settings);
+		parser.beginParsing(new StringReader("a,b\n1,2\n3,4\n5,6"));
+
+		List<Record> records = parser.parseNextRecords(2);
+		assertEquals(records.size(), 2);
+		assertEquals(records.get(1).getString("b"), "4");
+
+		records = parser.parseNextRecords(2);
+		assertEquals(records.size(), 1);
+		assertEquals(records.get(0).getString("a"), "5");
+		assertTrue(parser.parseNextRecords(2).isEmpty());
+	}
 }
@@ -0,0 +1,316 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.csv;
+
+import com.univocity.parsers.common.*;
+import com.univocity.parsers.common.processor.*;
+import com.univocity.parsers.common.record.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.testng.Assert.*;
+
+public class ParallelCsvParserTest {
+
+	private File file;
+
+	@BeforeClass
+	public void createFile() throws IOException {
+		file = File.createTempFile("parallel", ".csv");
+		file.deleteOnExit();
+
+		Writer out = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+		try {
+			out.write("id,name,comment\n");
+			for (int i = 0; i < 3000; i++) {
+				out.write(String.valueOf(i));
+				out.write(",\"name, ");
+				out.write(String.valueOf(i));
+				out.write("\",");
+				if (i % 7 == 0) {
+					out.write("\"multi\nline \"\"quoted\"\"\nvalue ção\"");
+				} else if (i % 5 == 0) {
+					out.write("\"\"\"\"");
+				} else {
+					out.write("plain ");
+					out.write(String.valueOf(i));
+				}
+				out.write('\n');
+			}
+		} finally {
+			out.close();
+		}
+	}
+
+	private CsvParserSettings newSettings(RowListProcessor processor) {
+		CsvParserSettings settings = new CsvParserSettings();
+		settings.getFormat().setLineSeparator("\n");
+		settings.setHeaderExtractionEnabled(true);
+		settings.setProcessor(processor);
+		return settings;
+	}
+
+	private List<String[]> parseSequentially() {
+		RowListProcessor processor = new RowListProcessor();
+		new CsvParser(newSettings(processor)).parse(file, "UTF-8");
+		return processor.getRows();
+	}
+
+	private ParallelCsvParser newParser(CsvParserSettings settings) {
+		ParallelCsvParser parser = new ParallelCsvParser(settings);
+		parser.setThreadCount(4);
+		parser.setChunkSize(1000);
+		return parser;
+	}
+
+	@Test
+	public void testOrderedDelivery() {
+		RowListProcessor processor = new RowListProcessor();
+		newParser(newSettings(processor)).parse(file, "UTF-8");
+
+		List<String[]> expected = parseSequentially();
+		assertEquals(expected.size(), 3000);
+		assertEquals(processor.getHeaders(), new String[]{"id", "name", "comment"});
+		assertEquals(processor.getRows().size(), expected.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(processor.getRows().get(i), expected.get(i));
+		}
+	}
+
+	@Test
+	public void testUnorderedDelivery() {
+		RowListProcessor processor = new RowListProcessor();
+		ParallelCsvParser parser = newParser(newSettings(processor));
+		parser.setOrderedDelivery(false);
+		parser.parse(file, "UTF-8");
+
+		List<String> expected = new ArrayList<String>();
+		for (String[] row : parseSequentially()) {
+			expected.add(Arrays.toString(row));
+		}
+		List<String> parsed = new ArrayList<String>();
+		for (String[] row : processor.getRows()) {
+			parsed.add(Arrays.toString(row));
+		}
+		Collections.sort(expected);
+		Collections.sort(parsed);
+		assertEquals(parsed, expected);
+	}
+
+	@Test
+	public void testStopAndRecordLimit() {
+		final List<Long> records = new ArrayList<Long>();
+		CsvParserSettings settings = newSettings(null);
+		settings.setNumberOfRecordsToRead(1500);
+		settings.setProcessor(new AbstractRowProcessor() {
+			@Override
+			public void rowProcessed(String[] row, ParsingContext context) {
+				records.add(context.currentRecord());
+				assertEquals(row[0], String.valueOf(records.size() - 1));
+			}
+		});
+		newParser(settings).parse(file, "UTF-8");
+		assertEquals(records.size(), 1500);
+		assertEquals(records.get(1499).longValue(), 1500L);
+	}
+
+	@Test
+	public void testSequentialFallback() {
+		RowListProcessor processor = new RowListProcessor();
+		CsvParserSettings settings = newSettings(processor);
+		settings.getFormat().setQuoteEscape('\\');
+		newParser(settings).parse(file, "UTF-8");
+
+		RowListProcessor sequential = new RowListProcessor();
+		settings.setProcessor(sequential);
+		new CsvParser(settings).parse(file, "UTF-8");
+
+		assertEquals(processor.getRows().size(), sequential.getRows().size());
+		for (int i = 0; i < sequential.getRows().size(); i++) {
+			assertEquals(processor.getRows().get(i), sequential.getRows().get(i));
+		}
+	}
+
+	@Test
+	public void testIterateChunksInParallel() throws Exception {
+		ParallelCsvParser parser = newParser(newSettings(null));
+		final List<IterableResult<String[], ParsingContext>> chunks = parser.iterateChunks(file, Charset.forName("UTF-8"));
+		assertTrue(chunks.size() > 10);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<List<String[]>>> results = new ArrayList<Future<List<String[]>>>();
+		try {
+			for (final IterableResult<String[], ParsingContext> chunk : chunks) {
+				results.add(executor.submit(new Callable<List<String[]>>() {
+					@Override
+					public List<String[]> call() {
+						List<String[]> rows = new ArrayList<String[]>();
+						for (String[] row : chunk) {
+							rows.add(row);
+						}
+						return rows;
+					}
+				}));
+			}
+			List<String[]> rows = new ArrayList<String[]>();
+			for (Future<List<String[]>> result : results) {
+				rows.addAll(result.get());
+			}
+
+			List<String[]> expected = parseSequentially();
+			assertEquals(rows.size(), expected.size());
+			for (int i = 0; i < expected.size(); i++) {
+				assertEquals(rows.get(i), expected.get(i));
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testIterateRecordChunks() {
+		ParallelCsvParser parser = newParser(newSettings(null));
+		List<IterableResult<Record, ParsingContext>> chunks = parser.iterateRecordChunks(file, Charset.forName("UTF-8"));
+		assertTrue(chunks.size() > 1);
+
+		int count = 0;
+		for (IterableResult<Record, ParsingContext> chunk : chunks) {
+			for (Record record : chunk) {
+				assertEquals(record.getInt("id").intValue(), count++);
+			}
+		}
+		assertEquals(count, 3000);
+	}
+
+	@Test
+	public void testIterateUnsplittableFile() {
+		CsvParserSettings settings = newSettings(null);
+		settings.getFormat().setQuoteEscape('\\');
+		List<IterableResult<String[], ParsingContext>> chunks = newParser(settings).iterateChunks(file, Charset.forName("UTF-8"));
+		assertEquals(chunks.size(), 1);
+
+		List<String[]> expected = new CsvParser(settings).parseAll(file, "UTF-8");
+		List<String[]> rows = new ArrayList<String[]>();
+		for (String[] row : chunks.get(0)) {
+			rows.add(row);
+		}
+		assertEquals(rows.size(), expected.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(rows.get(i), expected.get(i));
+		}
+	}
+
+	@Test
+	public void testSplitterFindsRecordBoundaries() throws IOException {
+		CsvFileSplitter splitter = new CsvFileSplitter(file, '"', new char[]{'\n'});
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		long[] chunks;
+		try {
+			chunks = splitter.split(0, file.length(), 777, executor);
+		} finally {
+			executor.shutdown();
+		}
+		assertEquals(chunks[0], 0L);
+		assertEquals(chunks[chunks.length - 1], file.length());
+		assertTrue(chunks.length > 10);
+
+		RandomAccessFile in = new RandomAccessFile(file, "r");
+		try {
+			for (int i = 1; i < chunks.length - 1; i++) {
+				assertTrue(chunks[i] > chunks[i - 1]);
+				in.seek(chunks[i] - 1);
+				assertEquals(in.read(), '\n');
+				long next = splitter.nextRecordStart(0, chunks[i] - 1, file.length());
+				assertEquals(next, chunks[i]);
+			}
+		} finally {
+			in.close();
+		}
+	}
+
+	private File createFileWithUnescapedQuote() throws IOException {
+		File out = File.createTempFile("parallel-unescaped", ".csv");
+		out.deleteOnExit();
+
+		Writer writer = new OutputStreamWriter(new FileOutputStream(out), "UTF-8");
+		try {
+			writer.write("id,height,comment\n");
+			for (int i = 0; i < 20000; i++) {
+				writer.write(String.valueOf(i));
+				writer.write(i == 100 ? ",5\" tall," : ",6 ft,");
+				if (i > 5000 && i % 1000 == 0) {
+					writer.write("\"multi\nline\"");
+				} else {
+					writer.write("value ");
+					writer.write(String.valueOf(i));
+				}
+				writer.write('\n');
+			}
+		} finally {
+			writer.close();
+		}
+		return out;
+	}
+
+	private void assertSameRows(List<String[]> rows, List<String[]> expected) {
+		assertEquals(rows.size(), expected.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(rows.get(i), expected.get(i));
+		}
+	}
+
+	@Test
+	public void testUnescapedQuoteParsedAsSequential() throws IOException {
+		File input = createFileWithUnescapedQuote();
+		List<String[]> expected = new CsvParser(newSettings(null)).parseAll(input, "UTF-8");
+		assertEquals(expected.size(), 20000);
+
+		RowListProcessor processor = new RowListProcessor();
+		ParallelCsvParser parser = new ParallelCsvParser(newSettings(processor));
+		parser.setThreadCount(4);
+		parser.setChunkSize(4096);
+		parser.parse(input, "UTF-8");
+		assertSameRows(processor.getRows(), expected);
+
+		processor = new RowListProcessor();
+		parser = new ParallelCsvParser(newSettings(processor));
+		parser.setThreadCount(4);
+		parser.setChunkSize(4096);
+		parser.setOrderedDelivery(false);
+		try {
+			parser.parse(input, "UTF-8");
+			assertSameRows(processor.getRows(), expected);
+		} catch (IllegalStateException e) {
+			//records of chunks after the misaligned one were already delivered.
+			assertTrue(e.getMessage().contains("does not end at a record boundary"));
+		}
+
+		try {
+			for (IterableResult<String[], ParsingContext> chunk : parser.iterateChunks(input, Charset.forName("UTF-8"))) {
+				for (String[] row : chunk) {
+					assertNotNull(row);
+				}
+			}
+			fail("Expected chunk not ending at a record boundary to be rejected");
+		} catch (TextParsingException e) {
+			assertTrue(e.getMessage().contains("does not end at a record boundary"));
+		}
+	}
+}
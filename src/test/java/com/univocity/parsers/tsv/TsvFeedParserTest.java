@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright 2019 Univocity Software Pty Ltd
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.univocity.parsers.tsv;
+
+import com.univocity.parsers.common.processor.*;
+import org.testng.annotations.*;
+
+import java.io.*;
+
+import static org.testng.Assert.*;
+
+public class TsvFeedParserTest {
+
+	@Test
+	public void testFeedWithLineJoining() {
+		String input = "A\tB\t\\\nC\n1\t2\t\\\n3\\\\\nx\\ty\tz\n";
+
+		TsvParserSettings settings = new TsvParserSettings();
+		settings.setLineJoiningEnabled(true);
+		settings.getFormat().setLineSeparator("\n");
+		settings.trimValues(false);
+
+		for (int chunkSize = 1; chunkSize <= input.length(); chunkSize++) {
+			RowListProcessor processor = new RowListProcessor();
+			settings.setProcessor(processor);
+			TsvFeedParser parser = new TsvFeedParser(settings);
+			for (int i = 0; i < input.length(); i += chunkSize) {
+				parser.feed(input.substring(i, Math.min(input.length(), i + chunkSize)).toCharArray());
+			}
+			parser.endOfInput();
+
+			RowListProcessor expected = new RowListProcessor();
+			settings.setProcessor(expected);
+			new TsvParser(settings).parse(new StringReader(input));
+
+			assertEquals(processor.getRows().size(), 3);
+			for (int i = 0; i < 3; i++) {
+				assertEquals(processor.getRows().get(i), expected.getRows().get(i));
+			}
+		}
+	}
+}